@@ -0,0 +1,125 @@
+package com.dnd.ground.domain.matrix;
+
+import com.dnd.ground.global.util.CellUtil;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @description 영역(matrix row) 저장 벤치마크 (./gradlew jmh -Pjmh.includes=MatrixInsertBenchmark)
+ *              - AUTO: 기존 Matrix id 생성 (@GeneratedValue -> hibernate_sequence 를 row 마다 조회/갱신, JDBC batch 없음)
+ *              - POOLED_BATCH: 현재 Matrix id 생성 (전용 시퀀스에서 1000개씩 할당) + JDBC batch 1000 + rewriteBatchedStatements
+ *              - 운동 기록 하나의 칸(cells 개)을 저장하고 flush 까지의 시간, 저장한 row 는 롤백
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ * @note MySQL 이 필요함: BENCH_DB_URL(기본 jdbc:mysql://localhost:3306/ground_bench), BENCH_DB_USERNAME, BENCH_DB_PASSWORD
+ *       벤치마크 전용 테이블(bench_matrix_auto, bench_matrix_pooled)을 만들고 끝나면 삭제함
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatrixInsertBenchmark {
+
+    public enum IdMode { AUTO, POOLED_BATCH }
+
+    @Param({"AUTO", "POOLED_BATCH"})
+    private IdMode mode;
+
+    // 운동 기록 하나의 칸 수
+    @Param({"100", "1000", "10000"})
+    private int cells;
+
+    private SessionFactory sessionFactory;
+    private long[] cellIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean batch = mode == IdMode.POOLED_BATCH;
+        String url = env("BENCH_DB_URL", "jdbc:mysql://localhost:3306/ground_bench");
+
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(AutoMatrix.class)
+                .addAnnotatedClass(PooledMatrix.class)
+                .setProperty(AvailableSettings.URL, url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=" + batch)
+                .setProperty(AvailableSettings.USER, env("BENCH_DB_USERNAME", "root"))
+                .setProperty(AvailableSettings.PASS, env("BENCH_DB_PASSWORD", ""))
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, batch ? "1000" : "0")
+                .setProperty(AvailableSettings.ORDER_INSERTS, String.valueOf(batch))
+                .buildSessionFactory();
+
+        // 서울 시청 근처에서 cells 개의 칸을 격자로 생성
+        int width = (int) Math.ceil(Math.sqrt(cells));
+        cellIds = new long[cells];
+        for (int i = 0; i < cells; i++) {
+            cellIds[i] = CellUtil.encode(37.5665 + (i / width) * 0.000304, 126.978 + (i % width) * 0.000374);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (long cellId : cellIds) {
+                session.persist(mode == IdMode.AUTO ? new AutoMatrix(cellId) : new PooledMatrix(cellId));
+            }
+            session.flush();
+            session.getTransaction().rollback();
+        }
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null ? defaultValue : value;
+    }
+
+    // 기존 Matrix 매핑 (AUTO -> hibernate_sequence)
+    @Entity
+    @Table(name = "bench_matrix_auto")
+    public static class AutoMatrix {
+        @Id @GeneratedValue
+        private Long id;
+
+        @Column(name = "cell_id", nullable = false)
+        private Long cellId;
+
+        protected AutoMatrix() {
+        }
+
+        AutoMatrix(Long cellId) {
+            this.cellId = cellId;
+        }
+    }
+
+    // 현재 Matrix 매핑 (전용 시퀀스에서 1000개씩 할당)
+    @Entity
+    @Table(name = "bench_matrix_pooled")
+    public static class PooledMatrix {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bench_matrix_seq_generator")
+        @SequenceGenerator(name = "bench_matrix_seq_generator", sequenceName = "bench_matrix_seq", allocationSize = 1000)
+        private Long id;
+
+        @Column(name = "cell_id", nullable = false)
+        private Long cellId;
+
+        protected PooledMatrix() {
+        }
+
+        PooledMatrix(Long cellId) {
+            this.cellId = cellId;
+        }
+    }
+}
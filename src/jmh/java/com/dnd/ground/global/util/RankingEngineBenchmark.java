@@ -0,0 +1,120 @@
+package com.dnd.ground.global.util;
+
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @description 랭킹 계산 벤치마크 (./gradlew jmh)
+ *              - legacy: 기존 MatrixServiceImpl.calculateUserAreaRank 반복문 (Long 점수, ArrayList 앞에 삽입)
+ *              - engine: RankingEngine 전체 랭킹 + 내 랭킹 / 상위 K명 + 내 랭킹
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RankingEngineBenchmark {
+
+    // 회원 수 (친구 목록 ~ 전체 랭킹)
+    @Param({"50", "1000", "100000"})
+    private int size;
+
+    // 점수 범위 (작을수록 동점이 많음)
+    @Param({"100", "1000000"})
+    private int bound;
+
+    private static final int TOP = 100;
+
+    private long[] scores;
+    private String[] nicknames;
+    private int me;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(size * 31L + bound);
+        scores = new long[size];
+        nicknames = new String[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = random.nextInt(bound);
+            nicknames[i] = "user" + i;
+        }
+        me = random.nextInt(size);
+    }
+
+    @Benchmark
+    public List<UserResponseDto.Ranking> legacy() {
+        List<UserResponseDto.Ranking> areaRankings = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            areaRankings.add(new UserResponseDto.Ranking(1, nicknames[i], scores[i], null));
+        }
+        return legacyUserAreaRank(areaRankings, nicknames[me]);
+    }
+
+    @Benchmark
+    public void engine(Blackhole blackhole) {
+        RankingEngine.Ranked ranked = RankingEngine.rank(scores);
+        blackhole.consume(ranked.rankAt(ranked.positionOf(me)));
+        for (int p = 0; p < ranked.size(); p++) {
+            blackhole.consume(ranked.indexAt(p));
+            blackhole.consume(ranked.rankAt(p));
+        }
+    }
+
+    @Benchmark
+    public void engineTop(Blackhole blackhole) {
+        RankingEngine.Ranked ranked = RankingEngine.top(scores, TOP);
+        blackhole.consume(RankingEngine.rankOf(scores, me));
+        for (int p = 0; p < ranked.size(); p++) {
+            blackhole.consume(ranked.indexAt(p));
+            blackhole.consume(ranked.rankAt(p));
+        }
+    }
+
+    // 기존 반복문 그대로 (비교용)
+    private static List<UserResponseDto.Ranking> legacyUserAreaRank(List<UserResponseDto.Ranking> areaRankings, String nickname) {
+        areaRankings.sort((a, b) -> b.getScore().compareTo(a.getScore()));
+
+        Long areaNumber = areaRankings.get(0).getScore();
+        int rank = 1;
+        int count = 1;
+
+        for (int i = 1; i < areaRankings.size(); i++) {
+            if (Objects.equals(areaRankings.get(i).getScore(), areaNumber)) {
+                if (Objects.equals(areaRankings.get(i).getNickname(), nickname)) {
+                    areaRankings.add(0, new UserResponseDto.Ranking(rank, nickname, areaRankings.get(i).getScore(), null));
+                    i += 1;
+                    areaRankings.get(i).setRank(rank);
+                    areaNumber = areaRankings.get(i).getScore();
+                    continue;
+                }
+
+                areaRankings.get(i).setRank(rank);
+                count += 1;
+                continue;
+            }
+            count += 1;
+            rank = count;
+
+            if (Objects.equals(areaRankings.get(i).getNickname(), nickname)) {
+                areaRankings.add(0, new UserResponseDto.Ranking(rank, nickname, areaRankings.get(i).getScore(), null));
+                i += 1;
+                areaRankings.get(i).setRank(rank);
+                areaNumber = areaRankings.get(i).getScore();
+                continue;
+            }
+
+            areaRankings.get(i).setRank(rank);
+            areaNumber = areaRankings.get(i).getScore();
+        }
+        return areaRankings;
+    }
+}
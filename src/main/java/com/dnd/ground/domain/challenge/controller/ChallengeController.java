@@ -2,7 +2,9 @@ package com.dnd.ground.domain.challenge.controller;
 
 import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.challenge.dto.*;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -15,6 +17,8 @@ import java.util.List;
  * @updated 1.챌린지 상세보기(지도) 기능 구현
  *          2.챌린지 관련 Response에 UUID 추가
  *          - 2022.08.26 박찬호
+ *          3.챌린지 상세보기(지도)에 지도 화면 영역(viewport) 파라미터 추가
+ *          - 2022.10.18 박세헌
  */
 
 public interface ChallengeController {
@@ -25,5 +29,5 @@ public interface ChallengeController {
     ResponseEntity<List<ChallengeResponseDto.Progress>> getProgressChallenges(@RequestParam("nickname") String nickname);
     ResponseEntity<List<ChallengeResponseDto.Invite>> getInviteChallenge(@RequestParam("nickname") String nickname);
     ResponseEntity<ChallengeResponseDto.Detail> getDetailProgressChallenge(@RequestBody ChallengeRequestDto.CInfo requestDto);
-    ResponseEntity<ChallengeMapResponseDto.Detail> getChallengeDetailMap(@RequestParam("uuid") String uuid);
+    ResponseEntity<ChallengeMapResponseDto.Detail> getChallengeDetailMap(@RequestParam("uuid") String uuid, @ModelAttribute Viewport viewport);
 }
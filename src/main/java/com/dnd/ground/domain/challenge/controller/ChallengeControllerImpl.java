@@ -3,6 +3,7 @@ package com.dnd.ground.domain.challenge.controller;
 import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.challenge.dto.*;
 import com.dnd.ground.domain.challenge.service.ChallengeService;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,8 @@ import java.util.List;
  * @updated 1.챌린지 상세보기(지도) 기능 구현
  *          2.챌린지 관련 Response에 UUID 추가
  *          - 2022.08.26 박찬호
+ *          3.챌린지 상세보기(지도)에 지도 화면 영역(viewport) 파라미터 추가
+ *          - 2022.10.18 박세헌
  */
 
 @Api(tags = "챌린지")
@@ -81,8 +84,10 @@ public class ChallengeControllerImpl implements ChallengeController {
     }
 
     @GetMapping("/detail/map")
-    @Operation(summary = "챌린지 상세 정보 조회: 지도", description = "챌린지 상세조회에서 지도를 클릭했을 때 보여지는 정보\n챌린지에 참여한 유저 정보+랭킹")
-    public ResponseEntity<ChallengeMapResponseDto.Detail> getChallengeDetailMap(@RequestParam("uuid") String uuid) {
-        return ResponseEntity.ok().body(challengeService.getChallengeDetailMap(uuid));
+    @Operation(summary = "챌린지 상세 정보 조회: 지도", description = "챌린지 상세조회에서 지도를 클릭했을 때 보여지는 정보\n챌린지에 참여한 유저 정보+랭킹\n" +
+            "minLatitude, maxLatitude, minLongitude, maxLongitude 를 모두 보내면 해당 화면 영역 안의 칸만 조회\n" +
+            "level(지도 축소 단계)을 보내면 상위 칸으로 묶어서(count 포함) 최대 2000개까지 조회(랭킹은 전체 기준)")
+    public ResponseEntity<ChallengeMapResponseDto.Detail> getChallengeDetailMap(@RequestParam("uuid") String uuid, @ModelAttribute Viewport viewport) {
+        return ResponseEntity.ok().body(challengeService.getChallengeDetailMap(uuid, viewport));
     }
 }
\ No newline at end of file
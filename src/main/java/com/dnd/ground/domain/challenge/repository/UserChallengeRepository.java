@@ -18,6 +18,8 @@ import java.util.Optional;
  * @since   2022-08-03
  * @updated 1. 챌린지-회원 관계 테이블에 데이터가 있는 회원 조회 쿼리 추가
  *          - 2022.10.01 박찬호
+ *          2. 홈 화면 구성을 위한 진행 중인 챌린지 UC 일괄 조회 쿼리 추가
+ *          - 2022.10.18 박세헌
  */
 
 public interface UserChallengeRepository extends JpaRepository<UserChallenge, Long> {
@@ -78,5 +80,11 @@ public interface UserChallengeRepository extends JpaRepository<UserChallenge, Lo
     @Query("select uc from UserChallenge uc where uc.user=:user")
     List<UserChallenge> findUCs(@Param("user") User user);
 
+    //회원의 진행 중인 챌린지 UC 조회 (챌린지 fetch join)
+    @Query("select uc from UserChallenge uc join fetch uc.challenge c where uc.user=:user and c.status='Progress' order by c.id ASC")
+    List<UserChallenge> findProgressUCs(@Param("user") User user);
 
+    //챌린지들에 포함된 UC 조회 (회원 fetch join)
+    @Query("select uc from UserChallenge uc join fetch uc.user where uc.challenge in :challenges")
+    List<UserChallenge> findUCsWithUser(@Param("challenges") List<Challenge> challenges);
 }
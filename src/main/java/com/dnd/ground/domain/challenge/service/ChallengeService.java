@@ -3,6 +3,7 @@ package com.dnd.ground.domain.challenge.service;
 import com.dnd.ground.domain.challenge.ChallengeStatus;
 import com.dnd.ground.domain.challenge.dto.*;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 
 import java.util.List;
 
@@ -13,6 +14,8 @@ import java.util.List;
  * @updated 1.챌린지 상세보기(지도) 기능 구현
  *          2.챌린지 관련 Response에 UUID 추가
  *          - 2022.08.26 박찬호
+ *          3.챌린지 상세보기(지도)에 지도 화면 영역(viewport) 추가
+ *          - 2022.10.18 박세헌
  */
 
 public interface ChallengeService {
@@ -30,7 +33,7 @@ public interface ChallengeService {
     List<ChallengeResponseDto.Invite> findInviteChallenge(String nickname);
 
     ChallengeResponseDto.Detail getDetailProgress(ChallengeRequestDto.CInfo requestDto);
-    ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid);
+    ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid, Viewport viewport);
 
     List<ChallengeResponseDto.CInfoRes> findChallengeByRecord(ExerciseRecord exerciseRecord);
 }
@@ -7,12 +7,13 @@ import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
-import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.matrix.matrixService.MatrixService;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.service.UserStatsService;
 import com.dnd.ground.global.exception.CExceedChallengeException;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CNotValidationException;
@@ -39,6 +40,9 @@ import java.util.stream.Collectors;
  * @author  박찬호, 박세헌
  * @since   2022-08-03
  * @updated 1. 프로필 사진 추가 - 2022-10-10 박세헌
+ *          2. 운동 기록의 압축된 칸 정보로 영역 조회 - 2022-10-18 박세헌
+ *          3. 챌린지 상세 지도를 화면 영역(viewport) 안의 칸만 조회 - 2022-10-18 박세헌
+ *          4. 칸 수 랭킹을 주간 통계로 조회(주 단위 기간) - 2022-10-18 박세헌
  */
 
 @Slf4j
@@ -51,7 +55,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     private final UserChallengeRepository userChallengeRepository;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final MatrixService matrixService;
-    private final MatrixRepository matrixRepository;
+    private final UserStatsService userStatsService;
 
     /*챌린지 생성*/
     @Transactional
@@ -276,7 +280,7 @@ public class ChallengeServiceImpl implements ChallengeService {
                 //챌린지를 함께 진행하는 회원 목록
                 List<User> member = userChallengeRepository.findChallengeUsers(challenge);
                 //기록 조회
-                List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
+                List<Tuple> matrixCount = userStatsService.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
                 //랭킹 계산
                 for (UserResponseDto.Ranking ranking : matrixService.calculateMatrixRank(matrixCount, member)) {
                     if (ranking.getNickname().equals(nickname)) {
@@ -337,7 +341,7 @@ public class ChallengeServiceImpl implements ChallengeService {
                 //챌린지를 함께 진행하는 회원 목록
                 List<User> member = userChallengeRepository.findChallengeUsers(challenge);
                 //기록 조회
-                List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
+                List<Tuple> matrixCount = userStatsService.findMatrixCount(member, started.atStartOfDay(), LocalDateTime.now());
                 //랭킹 계산
                 for (UserResponseDto.Ranking ranking : matrixService.calculateMatrixRank(matrixCount, member)) {
                     if (ranking.getNickname().equals(friendNickname)) {
@@ -443,7 +447,7 @@ public class ChallengeServiceImpl implements ChallengeService {
         }
 
         //영역 정보 조회
-        matrices = matrixRepository.findMatrixSetByRecords(records);
+        matrices = matrixService.findMatrixSetByRecords(records);
 
         //챌린지 타입에 따른 랭킹 정보(순위, 닉네임, 점수) 계산
         rankings = calculateChallengeRanking(challenge, members, started, ended, challenge.getType());
@@ -490,7 +494,7 @@ public class ChallengeServiceImpl implements ChallengeService {
     }
 
     /*챌린지 상세보기: 지도*/
-    public ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid) {
+    public ChallengeMapResponseDto.Detail getChallengeDetailMap(String uuid, Viewport viewport) {
         Challenge challenge = challengeRepository.findByUuid(uuid).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_CHALLENGE));
 
@@ -512,15 +516,15 @@ public class ChallengeServiceImpl implements ChallengeService {
 
                 //각 유저의 챌린지 기간동안의 기록
                 records = exerciseRecordRepository.findRecord(member.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
-                //개인 영역 기록 저장
-                List<MatrixDto> matrixSetByRecord = matrixRepository.findMatrixSetByRecords(records);
+                //개인 영역 기록 저장 (화면 영역 안의 칸만)
+                List<MatrixDto> matrixSetByRecord = matrixService.findMatrixSetByRecords(records, viewport);
                 matrixList.add(
                         new ChallengeMapResponseDto.UserMapInfo(color, member.getLatitude(), member.getLongitude(), matrixSetByRecord, member.getPicturePath())
                 );
 
                 //랭킹 리스트에 추가
                 rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
-                        (long) matrixRepository.findMatrixSetByRecords(records).size(), member.getPicturePath()));
+                        matrixService.countMatrixSetByRecords(records), member.getPicturePath()));
             }
             //랭킹 정렬
             rankings = matrixService.calculateAreaRank(rankings);
@@ -532,7 +536,7 @@ public class ChallengeServiceImpl implements ChallengeService {
 
                 //개인 기록 계산
                 records = exerciseRecordRepository.findRecord(user.getId(), started.atStartOfDay(), ended.atTime(LocalTime.MAX));
-                List<MatrixDto> matrixSetByRecord = matrixRepository.findMatrixSetByRecords(records);
+                List<MatrixDto> matrixSetByRecord = matrixService.findMatrixSetByRecords(records, viewport);
 
                 matrixList.add(
                         new ChallengeMapResponseDto.UserMapInfo(color, user.getLatitude(), user.getLongitude(), matrixSetByRecord, user.getPicturePath())
@@ -540,7 +544,7 @@ public class ChallengeServiceImpl implements ChallengeService {
             }
             //랭킹 계산
             //모든 회원의 칸 수 기록을 Tuple[닉네임, 이번주 누적 칸수] 내림차순으로 정리
-            List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(members, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
+            List<Tuple> matrixCount = userStatsService.findMatrixCount(members, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
             rankings = matrixService.calculateMatrixRank(matrixCount, members);
         }
 
@@ -561,14 +565,14 @@ public class ChallengeServiceImpl implements ChallengeService {
 
                 //랭킹 리스트에 추가
                 rankings.add(new UserResponseDto.Ranking(1, member.getNickname(),
-                        (long) matrixRepository.findMatrixSetByRecords(records).size(), member.getPicturePath()));
+                        matrixService.countMatrixSetByRecords(records), member.getPicturePath()));
             }
             //랭킹 정렬
             rankings = matrixService.calculateAreaRank(rankings);
         }
         else if (challenge.getType().equals(ChallengeType.Accumulate)) {
             //모든 회원의 칸 수 기록을 Tuple[닉네임, 이번주 누적 칸수] 내림차순으로 정리
-            List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(members, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
+            List<Tuple> matrixCount = userStatsService.findMatrixCount(members, started.atStartOfDay(), ended.atTime(LocalTime.MAX));
             //랭킹 계산
             rankings = matrixService.calculateMatrixRank(matrixCount, members);
         }
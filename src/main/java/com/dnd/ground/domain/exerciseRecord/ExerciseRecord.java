@@ -16,6 +16,14 @@ import java.util.List;
  * @since   2022-07-27
  * @updated 1.Builder 추가
  *          -2022.10.02 박찬호
+ *          2.운동 기록의 칸을 압축된 셀 ID 컬럼으로 저장
+ *          -2022.10.18 박세헌
+ *          3.칸이 반영된 주간 영역의 버전 추가(홈 화면 변경분 조회)
+ *          -2022.10.18 박세헌
+ *          4.비동기 저장 접수 id 추가(중복 저장 방지)
+ *          -2022.10.18 박세헌
+ *          5.이동 경로(encoded polyline) 추가
+ *          -2022.10.18 박세헌
  */
 
 @Getter
@@ -48,6 +56,28 @@ public class ExerciseRecord {
     @Column(name = "record_message", columnDefinition = "varchar(100)")
     private String message;
 
+    // 정렬된 셀 ID를 delta + varint로 압축한 값 (CellUtil.compress)
+    @Lob
+    @Column(name = "cells", columnDefinition = "mediumblob")
+    private byte[] cells;
+
+    // 이동 경로 (PolylineUtil.encode), 압축된 칸 정보가 없으면 칸은 경로로부터 계산
+    @Lob
+    @Column(name = "route", columnDefinition = "mediumtext")
+    private String route;
+
+    // 클라이언트가 보낸 칸의 수(중복o)
+    @Column(name = "matrix_number", nullable = false)
+    private Integer matrixNumber;
+
+    // 이 기록의 칸이 반영된 직후 주간 영역의 버전
+    @Column(name = "territory_version")
+    private Long territoryVersion;
+
+    // 비동기 저장으로 접수된 기록의 접수 id (spool 재처리 시 중복 저장 방지)
+    @Column(name = "accept_id", columnDefinition = "varchar(36)", unique = true)
+    private String acceptId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -59,6 +89,7 @@ public class ExerciseRecord {
         this.distance = 0;
         this.exerciseTime = 0;
         this.stepCount = 0;
+        this.matrixNumber = 0;
         this.ended = LocalDateTime.now();
         this.user = user;
         this.started = LocalDateTime.now()  ;
@@ -70,6 +101,32 @@ public class ExerciseRecord {
         matrix.belongRecord(this);
     }
 
+    // 압축된 칸 정보 update
+    public void updateCells(byte[] cells, Integer matrixNumber){
+        this.cells = cells;
+        this.matrixNumber = matrixNumber;
+    }
+
+    // 이동 경로 update
+    public void updateRoute(String route){
+        this.route = route;
+    }
+
+    // 이동 경로 보유 여부
+    public boolean hasRoute(){
+        return this.route != null;
+    }
+
+    // 주간 영역 버전 update
+    public void updateTerritoryVersion(Long territoryVersion){
+        this.territoryVersion = territoryVersion;
+    }
+
+    // 압축된 칸 정보 보유 여부
+    public boolean hasCells(){
+        return this.cells != null;
+    }
+
     // 정보 추가
     public void updateInfo(Integer distance, Integer stepCount,
                            Integer second, String message, LocalDateTime started, LocalDateTime ended){
@@ -81,6 +138,11 @@ public class ExerciseRecord {
         this.message = message;
     }
 
+    // 비동기 저장 접수 id update
+    public void updateAcceptId(String acceptId){
+        this.acceptId = acceptId;
+    }
+
     // 메시지 수정
     public void editMessage(String message){
         this.message = message;
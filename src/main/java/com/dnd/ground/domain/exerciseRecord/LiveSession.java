@@ -0,0 +1,109 @@
+package com.dnd.ground.domain.exerciseRecord;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @description 실시간 운동 기록 세션 (메모리, DB 엔티티x)
+ *              - 스트리밍으로 들어온 셀 ID를 버퍼에 모아두었다가 일정 개수마다 운동 기록에 한 번에 반영
+ *              - 같은 운동 기록에 대한 반영(flush)이 겹치지 않도록 세션마다 flushLock 사용
+ *              - 기록 끝: 닫은 뒤 버퍼는 비우지 않고 복사해서 저장, 저장이 실패하면 다시 열어 버퍼 그대로 사용
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 기록 끝 저장 실패 시 다시 열기 추가 : 박세헌
+ */
+
+public class LiveSession {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    @Getter private final String id;
+    @Getter private final Long recordId;
+    @Getter private final String nickname;
+    @Getter private final ReentrantLock flushLock = new ReentrantLock();
+
+    private long[] buffer = new long[INITIAL_CAPACITY];
+    private int size;
+    private Long lastCellId;
+    private LocalDateTime lastActive;
+    private boolean closed;
+
+    public LiveSession(String id, Long recordId, String nickname) {
+        this.id = id;
+        this.recordId = recordId;
+        this.nickname = nickname;
+        this.lastActive = LocalDateTime.now();
+    }
+
+    // 셀 ID 추가 (닫힌 세션이면 false)
+    public synchronized boolean append(long[] cellIds) {
+        if (closed) return false;
+        if (cellIds.length > 0) {
+            ensureCapacity(size + cellIds.length);
+            System.arraycopy(cellIds, 0, buffer, size, cellIds.length);
+            size += cellIds.length;
+            lastCellId = cellIds[cellIds.length - 1];
+        }
+        lastActive = LocalDateTime.now();
+        return true;
+    }
+
+    // 버퍼를 비우고 쌓인 셀 ID 반환
+    public synchronized long[] drain() {
+        long[] cellIds = Arrays.copyOf(buffer, size);
+        buffer = new long[INITIAL_CAPACITY];
+        size = 0;
+        return cellIds;
+    }
+
+    // 반영에 실패한 셀 ID를 버퍼 앞에 되돌림
+    public synchronized void requeue(long[] cellIds) {
+        long[] restored = new long[Math.max(INITIAL_CAPACITY, cellIds.length + size)];
+        System.arraycopy(cellIds, 0, restored, 0, cellIds.length);
+        System.arraycopy(buffer, 0, restored, cellIds.length, size);
+        buffer = restored;
+        size += cellIds.length;
+    }
+
+    // 버퍼를 비우지 않고 쌓인 셀 ID 복사 (기록 끝 저장이 커밋되면 세션과 함께 버림)
+    public synchronized long[] buffered() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    // 세션 종료: 이후 추가 불가 (이미 닫혀 있으면 false)
+    public synchronized boolean close() {
+        if (closed) return false;
+        closed = true;
+        return true;
+    }
+
+    // 기록 끝 저장 실패: 다시 열어서 추가, 반영 가능 (버퍼는 그대로)
+    public synchronized void reopen() {
+        closed = false;
+        lastActive = LocalDateTime.now();
+    }
+
+    public synchronized int bufferedSize() {
+        return size;
+    }
+
+    public synchronized Long getLastCellId() {
+        return lastCellId;
+    }
+
+    public synchronized LocalDateTime getLastActive() {
+        return lastActive;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+    }
+}
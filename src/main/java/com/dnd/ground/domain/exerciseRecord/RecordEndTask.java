@@ -0,0 +1,55 @@
+package com.dnd.ground.domain.exerciseRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * @description 검증이 끝난 기록 끝 요청 (동기 저장, 비동기 저장 큐, spool 파일이 같은 형태 사용)
+ *              - cellIds: 저장할 셀 ID (입력 순서), recordId: 실시간 기록 세션의 운동 기록 id (없으면 새 기록)
+ *              - lastCellId: 회원의 마지막 위치 (cellIds 가 비어있는 실시간 기록이면 세션의 마지막 칸)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 이동 경로 추가 : 박세헌
+ *          2022-10-18 / 비동기 저장 실패 횟수 추가 : 박세헌
+ */
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordEndTask {
+
+    // 비동기 저장 접수 id (동기 저장이면 null)
+    private String acceptId;
+
+    private String nickname;
+
+    private Long recordId;
+
+    private Integer distance;
+
+    private Integer stepCount;
+
+    private Integer exerciseTime;
+
+    private String message;
+
+    private LocalDateTime started;
+
+    private LocalDateTime ended;
+
+    private long[] cellIds;
+
+    private Long lastCellId;
+
+    // 이동 경로 (PolylineUtil.encode, GPS 경로가 없으면 null)
+    private String route;
+
+    // 비동기 저장 실패 횟수 (spool 파일에 함께 기록 -> 재시작해도 유지)
+    private int attempts;
+}
@@ -18,18 +18,28 @@ import java.util.Optional;
  * @since   2022-08-01
  * @updated 2022-09-29 / 회원의 운동 기록 리스트 조회
  *                       - 박찬호
+ *          2022-10-18 / 칸 수를 운동 기록의 matrixNumber 합으로 조회
+ *                       - 박세헌
+ *          2022-10-18 / 주간 영역 버전 이후의 기록 조회
+ *                       - 박세헌
+ *          2022-10-18 / 비동기 저장 접수 id 존재 여부 조회
+ *                       - 박세헌
+ *          2022-10-18 / 회원들의 압축 칸 컬럼(이동 경로)이 있는 기록 조회
+ *                       - 박세헌
+ *          2026-10-18 / 운동 기록이 있는 회원 id 조회 (통계 backfill)
+ *                       - agent
  *
  */
 
 public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord, Long>, ExerciseRecordQueryRepository {
 
     // 유저와 친구들의 닉네임과 (start-end)사이 운동기록의 칸 수 조회
-    @Query("select u.nickname, count(u), u.picturePath from User u " +
+    @Query("select u.nickname, sum(e.matrixNumber), u.picturePath from User u " +
             "join u.exerciseRecords e " +
-            "join e.matrices m " +
             "where u in :userAndFriends and e.started between :start and :end " +
             "group by u " +
-            "order by count(u) desc ")
+            "having sum(e.matrixNumber) > 0 " +
+            "order by sum(e.matrixNumber) desc ")
     List<Tuple> findMatrixCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end);
 
     // 유저와 친구들의 닉네임과 (start-end)사이 운동기록의 걸음 수 조회
@@ -62,4 +72,23 @@ public interface ExerciseRecordRepository extends JpaRepository<ExerciseRecord,
     //회원의 운동 기록 리스트 조회
     @Query("select e from ExerciseRecord e where e.user=:user")
     List<ExerciseRecord> findRecordsByUser(@Param("user") User user);
+
+    // 운동 기록이 있는 회원 id 조회
+    @Query("select distinct e.user.id from ExerciseRecord e order by e.user.id")
+    List<Long> findUserIdsWithRecords();
+
+    // 회원들의 (start-end) 사이 기록 중 주간 영역 버전이 version 보다 큰 기록 조회
+    @Query("select e from ExerciseRecord e where e.user in :users and e.started between :start and :end " +
+            "and e.territoryVersion > :version")
+    List<ExerciseRecord> findRecordsAfterVersion(@Param("users") List<User> users, @Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end, @Param("version") Long version);
+
+    // 회원들의 (start-end) 사이 압축 칸 컬럼 또는 이동 경로가 있는 기록 조회
+    @Query("select e from ExerciseRecord e where e.user in :users and e.started between :start and :end " +
+            "and (e.cells is not null or e.route is not null)")
+    List<ExerciseRecord> findCompressedRecords(@Param("users") List<User> users, @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    // 비동기 저장으로 접수된 기록이 이미 저장되었는지 여부
+    boolean existsByAcceptId(String acceptId);
 }
@@ -1,8 +1,10 @@
 package com.dnd.ground.domain.exerciseRecord.controller;
 
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,10 +15,16 @@ import org.springframework.web.bind.annotation.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2022-10-18 / 실시간 기록 세션 시작 여부 추가 - 박세헌
+ *          2022-10-18 / 기록 끝 비동기 저장 추가 - 박세헌
+ *          2022-10-18 / 걸음수 랭킹 페이지 조회 - 박세헌
  */
 
 public interface RecordController {
-    ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname);
+    ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname,
+                                          @RequestParam(value = "live", defaultValue = "false") boolean live);
     ResponseEntity<?> end(@RequestBody EndRequestDto endRequestDto);
-    ResponseEntity<RankResponseDto.Step> stepRank(@RequestBody UserRequestDto.LookUp requestDto);
+    ResponseEntity<RecordResponseDto.Accepted> endAsync(@RequestBody EndRequestDto endRequestDto);
+    ResponseEntity<RecordResponseDto.Accepted> endAsyncStatus(@PathVariable("acceptId") String acceptId);
+    ResponseEntity<RankResponseDto.Step> stepRank(@RequestBody UserRequestDto.LookUp requestDto, @ModelAttribute RankingPage page);
 }
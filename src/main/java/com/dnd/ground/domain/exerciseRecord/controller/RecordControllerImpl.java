@@ -1,14 +1,18 @@
 package com.dnd.ground.domain.exerciseRecord.controller;
 
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.exerciseRecord.service.ExerciseRecordService;
+import com.dnd.ground.domain.exerciseRecord.service.RecordIngestService;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +21,10 @@ import org.springframework.web.bind.annotation.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2022-10-18 / 실시간 기록 세션 시작 여부 추가 - 박세헌
+ *          2022-10-18 / 기록 끝 비동기 저장 추가 - 박세헌
+ *          2022-10-18 / 걸음수 랭킹 페이지(limit, cursor, around) 조회 - 박세헌
+ *          2022-10-18 / 실시간 기록 STOMP 연결 토큰 인증 안내 추가 - 박세헌
  */
 
 @Api(tags = "운동기록")
@@ -27,11 +35,16 @@ import org.springframework.web.bind.annotation.*;
 public class RecordControllerImpl implements RecordController{
 
     private final ExerciseRecordService exerciseRecordService;
+    private final RecordIngestService recordIngestService;
 
     @GetMapping("/start")
-    @Operation(summary = "기록 시작", description = "기록 시작: 운동기록 생성, 누적영역 조회")
-    public ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname){
-        return ResponseEntity.ok(exerciseRecordService.recordStart(nickname));
+    @Operation(summary = "기록 시작", description = "기록 시작: 운동기록 생성, 누적영역 조회\n" +
+            "live=true: 실시간 기록 세션 시작 -> /ws 에 CONNECT(Authorization: Bearer 액세스 토큰) 후 " +
+            "받은 sessionId로 STOMP /app/record/{sessionId} 에 새로 지나간 칸 전송, " +
+            "기록 끝 요청에 sessionId 포함")
+    public ResponseEntity<HomeResponseDto> start(@RequestParam("nickname") String nickname,
+                                                 @RequestParam(value = "live", defaultValue = "false") boolean live){
+        return ResponseEntity.ok(exerciseRecordService.recordStart(nickname, live));
     }
 
     @PostMapping("/end")
@@ -40,12 +53,26 @@ public class RecordControllerImpl implements RecordController{
         return exerciseRecordService.recordEnd(endRequestDto);
     }
 
+    @PostMapping("/end/async")
+    @Operation(summary = "기록 끝(비동기)", description = "기록 끝: 요청을 접수하고 접수 id 반환, 저장은 서버에서 순차적으로 처리\n" +
+            "저장 대기열이 가득 찬 경우 503(RECORD_QUEUE_FULL) -> 잠시 후 재요청")
+    public ResponseEntity<RecordResponseDto.Accepted> endAsync(@RequestBody EndRequestDto endRequestDto){
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(recordIngestService.accept(endRequestDto));
+    }
+
+    @GetMapping("/end/async/{acceptId}")
+    @Operation(summary = "기록 끝(비동기) 저장 상태", description = "PENDING: 저장 대기, SAVED: 저장 완료, FAILED: 저장 실패, UNKNOWN: 접수 기록 없음")
+    public ResponseEntity<RecordResponseDto.Accepted> endAsyncStatus(@PathVariable("acceptId") String acceptId){
+        return ResponseEntity.ok(recordIngestService.findStatus(acceptId));
+    }
+
     @PostMapping("/rank/step")
     @Operation(summary = "걸음수 랭킹",
             description = "해당 유저를 기준으로 start-end(기간) 사이 걸음수가 높은 순서대로 유저와 친구들을 조회\n" +
                     "start: 해당 주 월요일 00시 00분 00초\n" +
-                    "end: 해당 주 일요일 23시 59분 59초")
-    public ResponseEntity<RankResponseDto.Step> stepRank(@RequestBody UserRequestDto.LookUp requestDto){
-        return ResponseEntity.ok(exerciseRecordService.stepRanking(requestDto));
+                    "end: 해당 주 일요일 23시 59분 59초\n" +
+                    "limit: 한 페이지 인원(최대 100, 없으면 전체), cursor: 이전 응답의 nextCursor, around=true: 내 순위를 가운데에 두고 limit 명 조회")
+    public ResponseEntity<RankResponseDto.Step> stepRank(@RequestBody UserRequestDto.LookUp requestDto, @ModelAttribute RankingPage page){
+        return ResponseEntity.ok(exerciseRecordService.stepRanking(requestDto, page));
     }
 }
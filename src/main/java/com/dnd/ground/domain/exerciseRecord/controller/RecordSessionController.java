@@ -0,0 +1,42 @@
+package com.dnd.ground.domain.exerciseRecord.controller;
+
+import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
+import com.dnd.ground.domain.exerciseRecord.service.LiveSessionService;
+import com.dnd.ground.global.exception.CNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+/**
+ * @description 실시간 운동 기록 STOMP 컨트롤러 클래스
+ *              - /record/start?live=true 로 받은 세션 id로 새로 지나간 칸을 전송
+ *              - 연결한 회원(CONNECT 토큰의 닉네임)의 세션에만 전송 가능
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 - 박세헌
+ *          2022-10-18 / 연결한 회원의 세션인지 확인 - 박세헌
+ */
+
+@Slf4j
+@RequiredArgsConstructor
+@Controller
+public class RecordSessionController {
+
+    private final LiveSessionService liveSessionService;
+
+    @MessageMapping("/record/{sessionId}")
+    public void append(@DestinationVariable String sessionId, RecordRequestDto.Cells cells, Principal principal) {
+        if (cells.getMatrices() == null) return;
+        liveSessionService.append(sessionId, principal.getName(), cells.getMatrices());
+    }
+
+    @MessageExceptionHandler(CNotFoundException.class)
+    public void handleNotFound(CNotFoundException e) {
+        log.warn("**NotFound 예외 발생** 에러 코드:{} | 내용:{}", e.getErrorCode(), e.getErrorCode().getMessage());
+    }
+}
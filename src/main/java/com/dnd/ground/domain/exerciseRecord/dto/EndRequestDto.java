@@ -1,17 +1,23 @@
 package com.dnd.ground.domain.exerciseRecord.dto;
 
+import com.dnd.ground.global.util.CellIdsDeserializer;
+import com.dnd.ground.global.util.GpsTrack;
+import com.dnd.ground.global.util.GpsTrackDeserializer;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 
 /**
  * @description 기록 끝 Request Dto
  * @author  박세헌
  * @since   2022-08-02
  * @updated 2022-08-22 / 기록 시작-끝 필드 추가 - 박세헌
+ *          2022-10-18 / 칸 좌표를 셀 ID 배열로 바로 역직렬화 - 박세헌
+ *          2022-10-18 / 실시간 기록 세션 id 추가 - 박세헌
+ *          2022-10-18 / GPS 경로 추가(서버에서 칸으로 변환) - 박세헌
  */
 
 @Data
@@ -40,8 +46,17 @@ public class EndRequestDto {
     @ApiModelProperty(value="상세 기록", example="상세 기록 예시", required = true)
     private String message;
 
-    @ApiModelProperty(value="칸 꼭지점 위도, 경도 리스트",
-            example = "[[37.123123, 127.123123], [37.234234, 127.234234]]", dataType = "list", required = true)
-    private ArrayList<ArrayList<Double>> matrices;
+    @ApiModelProperty(value="실시간 기록 세션 id(기록 시작 시 받은 값, 없으면 일반 기록)", example="3f2b8c1e-0d4a-4e36-9a51-6c1f0b2d7e89")
+    private String sessionId;
+
+    @ApiModelProperty(value="칸 꼭지점 위도, 경도 리스트 (실시간 기록이면 아직 보내지 않은 칸만, track 으로 대신 가능)",
+            example = "[[37.123123, 127.123123], [37.234234, 127.234234]]", dataType = "list")
+    @JsonDeserialize(using = CellIdsDeserializer.class)
+    private long[] matrices;  // 요청 형식은 [[위도, 경도], ...] 그대로, 입력 순서의 셀 ID
+
+    @ApiModelProperty(value="GPS 경로(위도, 경도, 시각(epoch millis, 생략 가능)) 리스트, 서버에서 지나간 칸으로 변환해 matrices 뒤에 추가",
+            example = "[[37.123123, 127.123123, 1665990000000], [37.124123, 127.125123, 1665990030000]]", dataType = "list")
+    @JsonDeserialize(using = GpsTrackDeserializer.class)
+    private GpsTrack track;
 
 }
@@ -1,5 +1,7 @@
 package com.dnd.ground.domain.exerciseRecord.dto;
 
+import com.dnd.ground.global.util.CellIdsDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Data;
 
@@ -8,6 +10,7 @@ import lombok.Data;
  * @author  박세헌
  * @since   2022-08-16
  * @updated 생성 / 2022-08-18 박세헌
+ *          실시간 기록 칸 전송 dto 추가 / 2022-10-18 박세헌
  */
 
 @Data
@@ -21,4 +24,14 @@ public class RecordRequestDto {
         @ApiModelProperty(value="운동 기록 상세 메시지")
         private String message;
     }
+
+    /*실시간 기록 세션으로 새로 지나간 칸 전송 (STOMP)*/
+    @Data
+    static public class Cells{
+
+        @ApiModelProperty(value="새로 지나간 칸 꼭지점 위도, 경도 리스트",
+                example = "[[37.123123, 127.123123]]", dataType = "list", required = true)
+        @JsonDeserialize(using = CellIdsDeserializer.class)
+        private long[] matrices;
+    }
 }
@@ -18,6 +18,10 @@ import java.util.List;
  *          2. EInfo 해당 운동 기록이 참여한 챌린지 필드 추가
  *          3. exerciseId -> recordId 수정
  *          - 2022-08-18 박세헌
+ *          4. 기록 끝 비동기 저장 접수 Dto 추가
+ *          - 2022-10-18 박세헌
+ *          5. EInfo 이동 경로 필드 추가
+ *          - 2022-10-18 박세헌
  */
 
 @Data
@@ -55,6 +59,9 @@ public class RecordResponseDto {
         @ApiModelProperty(value="해당 기록의 칸 정보")
         private List<MatrixDto> matrices;
 
+        @ApiModelProperty(value="해당 기록의 이동 경로(encoded polyline, 정밀도 1e-6, 끊긴 경로는 공백으로 구분). 없으면 null", example = "_izlhA~rlgdF_{geC~ywl@")
+        private String route;
+
         @ApiModelProperty(value = "해당 운동 기록이 참여한 챌린지들")
         private List<ChallengeResponseDto.CInfoRes> challenges;
     }
@@ -80,4 +87,14 @@ public class RecordResponseDto {
         @ApiModelProperty(value="해당 기록의 시작 시간", example="12월 25일 금요일 18:04")
         private String started;
     }
+
+    @Data @Builder
+    static public class Accepted {
+
+        @ApiModelProperty(value="기록 끝 비동기 저장 접수 id", example = "3f2b8c1e-0d4a-4e36-9a51-6c1f0b2d7e89")
+        private String acceptId;
+
+        @ApiModelProperty(value="저장 상태(PENDING: 저장 대기, SAVED: 저장 완료, FAILED: 저장 실패, UNKNOWN: 접수 기록 없음)", example = "PENDING")
+        private String status;
+    }
 }
@@ -1,27 +1,37 @@
 package com.dnd.ground.domain.exerciseRecord.service;
 
+import com.dnd.ground.domain.exerciseRecord.RecordEndTask;
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * @description 운동 기록 서비스 인터페이스
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 미사용 메소드 삭제 - 박찬호
+ *          2022-10-18 / 실시간 기록 세션 시작 여부 추가 - 박세헌
+ *          2022-10-18 / 기록 끝 요청 변환, 일괄 저장 추가 - 박세헌
+ *          2022-10-18 / 걸음수 랭킹 페이지 조회 - 박세헌
  */
 
 public interface ExerciseRecordService {
 
 
-    HomeResponseDto recordStart(String nickname);
+    HomeResponseDto recordStart(String nickname, boolean live);
 
     ResponseEntity<Boolean> recordEnd(EndRequestDto endRequestDto);
 
-    RankResponseDto.Step stepRanking(UserRequestDto.LookUp requestDto) ;
+    RecordEndTask toEndTask(EndRequestDto endRequestDto);
+
+    void saveRecords(List<RecordEndTask> tasks);
+
+    RankResponseDto.Step stepRanking(UserRequestDto.LookUp requestDto, RankingPage page) ;
 
 }
@@ -1,24 +1,25 @@
 package com.dnd.ground.domain.exerciseRecord.service;
 
-import com.dnd.ground.domain.challenge.Challenge;
-import com.dnd.ground.domain.challenge.ChallengeColor;
-import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
-import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.LiveSession;
+import com.dnd.ground.domain.exerciseRecord.RecordEndTask;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
 import com.dnd.ground.domain.friend.service.FriendService;
-import com.dnd.ground.domain.matrix.Matrix;
-import com.dnd.ground.domain.matrix.dto.MatrixDto;
-import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixService.MatrixService;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
-import com.dnd.ground.domain.user.dto.UserResponseDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.service.HomeService;
+import com.dnd.ground.domain.user.service.UserStatsService;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.CellUtil;
+import com.dnd.ground.global.util.PolylineUtil;
+import com.dnd.ground.global.util.TrackRasterizer;
 import lombok.*;
 
 import org.springframework.http.HttpStatus;
@@ -35,6 +36,19 @@ import java.util.*;
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-29 / 미사용 메소드 삭제 - 박찬호
+ *          2022-10-18 / 운동 기록의 칸을 압축 컬럼으로 저장 - 박세헌
+ *          2022-10-18 / 이번주 영역을 주간 영역(bitmap)으로 조회 - 박세헌
+ *          2022-10-18 / 기록 저장 시 주간, 누적 통계 갱신 - 박세헌
+ *          2022-10-18 / 기록 시작 화면 구성을 HomeService 로 이동(일괄 조회) - 박세헌
+ *          2022-10-18 / 요청의 칸 좌표를 셀 ID 배열로 받음 - 박세헌
+ *          2022-10-18 / 실시간 기록 세션(스트리밍으로 반영된 칸)으로 기록 끝 - 박세헌
+ *          2022-10-18 / 기록 끝 저장을 RecordEndTask 단위로 분리(비동기 일괄 저장) - 박세헌
+ *          2022-10-18 / 요청의 GPS 경로를 칸으로 변환해 저장 - 박세헌
+ *          2022-10-18 / GPS 경로를 encoded polyline 으로 저장 - 박세헌
+ *          2022-10-18 / 걸음 수 랭킹을 주간 통계로 조회(주 단위 기간) - 박세헌
+ *          2022-10-18 / 걸음 수 랭킹 계산을 RankingEngine 으로 통합 - 박세헌
+ *          2022-10-18 / 걸음수 랭킹 페이지(limit, cursor, 내 순위 주변) 조회 - 박세헌
+ *          2022-10-18 / 기록 끝 저장이 커밋된 뒤 실시간 기록 세션 삭제(실패하면 다시 열기) - 박세헌
  */
 
 @Service
@@ -44,122 +58,105 @@ public class ExerciseRecordServiceImpl implements ExerciseRecordService {
 
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final UserRepository userRepository;
-    private final MatrixRepository matrixRepository;
+    private final MatrixService matrixService;
+    private final UserStatsService userStatsService;
     private final FriendService friendService;
-    private final ChallengeRepository challengeRepository;
-    private final UserChallengeRepository userChallengeRepository;
+    private final HomeService homeService;
+    private final LiveSessionService liveSessionService;
 
     // 기록 시작
-    // 운동기록 id, 일주일 누적 영역 반환
-    public HomeResponseDto recordStart(String nickname){
+    // 운동기록 id, 일주일 누적 영역 반환 (live: 실시간 기록 세션 id 함께 반환)
+    @Transactional
+    public HomeResponseDto recordStart(String nickname, boolean live){
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        /*회원의 matrix 와 정보 (userMatrix)*/
-        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
-
-        List<ExerciseRecord> userRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId()); // 이번주 운동기록 조회
-        List<MatrixDto> userMatrixSet = matrixRepository.findMatrixSetByRecords(userRecordOfThisWeek);  // 운동 기록의 영역 조회
-
-        //회원 정보 저장
-        userMatrix.setProperties(user.getNickname(), userMatrixSet.size(), userMatrixSet, null, null);
-
-        /*----------*/
-        //진행 중인 챌린지 목록 조회 List<UserChallenge>
-        List<Challenge> challenges = challengeRepository.findProgressChallenge(user);
-
-        //챌린지를 함께하지 않는 친구 목록
-        List<User> friendsNotChallenge = friendService.getFriends(user);
-
-        //나랑 챌린지를 함께 하는 사람들(친구+친구X 둘 다)
-        Set<User> friendsWithChallenge = new HashSet<>();
-
-        for (Challenge challenge : challenges) {
-            List<User> challengeUsers = userChallengeRepository.findChallengeUsers(challenge);
-            //챌린지를 함께하고 있는 사람들 조회
-            for (User cu : challengeUsers) {
-                friendsWithChallenge.add(cu);
-                friendsNotChallenge.remove(cu);
-            }
-        }
-        friendsWithChallenge.remove(user);
-        /*----------*/
-
-        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
-        Map<String, List<MatrixDto>> friendHashMap= new HashMap<>();
-        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
-
-        friendsNotChallenge.forEach(nf -> friendHashMap.put(nf.getNickname(),
-                matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecordOfThisWeek(nf.getId()))));  // 이번주 운동기록 조회하여 영역 대입
-
-        for (String friendNickname : friendHashMap.keySet()) {
-            User friend = userRepository.findByNickname(friendNickname).orElseThrow(
-                    () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-
-            friendMatrices.add(new UserResponseDto.FriendMatrix(friendNickname, friend.getLatitude(), friend.getLongitude(),
-                    friendHashMap.get(friendNickname), friend.getPicturePath()));
-        }
-
-        /*챌린지를 하는 사람들의 matrix 와 정보 (challengeMatrices)*/
-        List<UserResponseDto.ChallengeMatrix> challengeMatrices = new ArrayList<>();
-
-        for (User friend : friendsWithChallenge) {
-            Integer challengeNumber = challengeRepository.findCountChallenge(user, friend); // 함께하는 챌린지 수
-
-            //색깔 처리
-            Challenge challengeWithFriend = challengeRepository.findChallengesWithFriend(user, friend).get(0);//함께하는 첫번째 챌린지 조회
-            ChallengeColor challengeColor = userChallengeRepository.findChallengeColor(user, challengeWithFriend);//회원 기준 해당 챌린지 색깔
-
-            List<ExerciseRecord> challengeRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(friend.getId()); // 이번주 운동기록 조회
-            List<MatrixDto> challengeMatrixSetDto = matrixRepository.findMatrixSetByRecords(challengeRecordOfThisWeek); // 운동 기록의 영역 조회
+        HomeResponseDto home = homeService.getRecordStartHome(user);
+        if (live) home.setSessionId(liveSessionService.open(user));
+        return home;
+    }
 
-            challengeMatrices.add(
-                    new UserResponseDto.ChallengeMatrix(
-                            friend.getNickname(), challengeNumber, challengeColor,
-                            friend.getLatitude(), friend.getLongitude(), challengeMatrixSetDto,
-                            friend.getPicturePath())
-            );
-        }
+    // 기록 끝
+    @Transactional
+    public ResponseEntity<Boolean> recordEnd(EndRequestDto endRequestDto) {
+        RecordEndTask task = toEndTask(endRequestDto);
+        if (endRequestDto.getSessionId() != null) liveSessionService.completeAfterCommit(endRequestDto.getSessionId());
+        saveRecord(task);
+        return new ResponseEntity(true, HttpStatus.CREATED);
+    }
 
-        return HomeResponseDto.builder()
-                .userMatrices(userMatrix)
-                .friendMatrices(friendMatrices)
-                .challengeMatrices(challengeMatrices)
-                .challengesNumber(null)
-                .isShowMine(user.getIsShowMine())
-                .isShowFriend(user.getIsShowFriend())
-                .isPublicRecord(user.getIsPublicRecord())
+    // 기록 끝 요청 -> 저장할 기록 (실시간 기록이면 세션을 닫고 남은 칸을 합침)
+    // 세션은 닫기만 하므로 호출한 쪽에서 저장 후 complete, 실패하면 reopen
+    public RecordEndTask toEndTask(EndRequestDto endRequestDto) {
+        //요청 역직렬화 시 셀 ID로 변환됨, GPS 경로는 지나간 칸으로 변환해 뒤에 추가
+        long[] cellIds = endRequestDto.getMatrices() == null ? new long[0] : endRequestDto.getMatrices();
+        if (endRequestDto.getTrack() != null) cellIds = CellUtil.concat(cellIds, TrackRasterizer.rasterize(endRequestDto.getTrack()));
+        String route = endRequestDto.getTrack() == null || endRequestDto.getTrack().size() == 0 ? null
+                : PolylineUtil.encode(endRequestDto.getTrack());
+
+        //실시간 기록이면 세션에 남은 칸 + 요청의 칸 (요청 변환이 끝난 뒤 마지막에 닫음)
+        LiveSession session = endRequestDto.getSessionId() == null ? null
+                : liveSessionService.close(endRequestDto.getSessionId(), endRequestDto.getNickname());
+        if (session != null) cellIds = CellUtil.concat(session.buffered(), cellIds);
+
+        Long lastCellId = cellIds.length > 0 ? Long.valueOf(cellIds[cellIds.length - 1])
+                : session == null ? null : session.getLastCellId();
+
+        return RecordEndTask.builder()
+                .nickname(endRequestDto.getNickname())
+                .recordId(session == null ? null : session.getRecordId())
+                .distance(endRequestDto.getDistance())
+                .stepCount(endRequestDto.getStepCount())
+                .exerciseTime(endRequestDto.getExerciseTime())
+                .message(endRequestDto.getMessage())
+                .started(endRequestDto.getStarted())
+                .ended(endRequestDto.getEnded())
+                .cellIds(cellIds)
+                .lastCellId(lastCellId)
+                .route(route)
                 .build();
     }
 
-    // 기록 끝
+    // 비동기 저장: 여러 기록을 한 트랜잭션으로 저장 (이미 저장된 접수 id는 건너뜀)
     @Transactional
-    public ResponseEntity<Boolean> recordEnd(EndRequestDto endRequestDto) {
-        // 유저 찾아서 운동 기록 생성
-        User user = userRepository.findByNickname(endRequestDto.getNickname()).orElseThrow(
+    public void saveRecords(List<RecordEndTask> tasks) {
+        for (RecordEndTask task : tasks) {
+            if (task.getAcceptId() != null && exerciseRecordRepository.existsByAcceptId(task.getAcceptId())) continue;
+            saveRecord(task);
+        }
+    }
+
+    private void saveRecord(RecordEndTask task) {
+        // 유저 찾아서 운동 기록 생성 (실시간 기록이면 시작 시 만든 기록)
+        User user = userRepository.findByNickname(task.getNickname()).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-        ExerciseRecord exerciseRecord = new ExerciseRecord(user);
+        ExerciseRecord exerciseRecord = task.getRecordId() == null ? new ExerciseRecord(user)
+                : exerciseRecordRepository.findById(task.getRecordId()).orElseThrow(
+                        () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_RECORD));
 
         // 정보 update(ended, 거리, 걸음수, 운동시간, 상세 기록, 시작 시간, 끝 시간)
-        exerciseRecord.updateInfo(endRequestDto.getDistance(), endRequestDto.getStepCount(),
-                endRequestDto.getExerciseTime(), endRequestDto.getMessage(), endRequestDto.getStarted(), endRequestDto.getEnded());
+        exerciseRecord.updateInfo(task.getDistance(), task.getStepCount(),
+                task.getExerciseTime(), task.getMessage(), task.getStarted(), task.getEnded());
+        exerciseRecord.updateAcceptId(task.getAcceptId());
 
         //영역 저장
-        ArrayList<ArrayList<Double>> matrices = endRequestDto.getMatrices();
-        for (ArrayList<Double> matrix : matrices) {
-            exerciseRecord.addMatrix(new Matrix(matrix.get(0), matrix.get(1)));
-        }
+        Long area = matrixService.saveCells(exerciseRecord, task.getCellIds());
+        if (task.getRoute() != null) matrixService.saveRoute(exerciseRecord, task.getRoute());
 
         //회원 마지막 위치 최신화
-        ArrayList<Double> lastPosition = matrices.get(matrices.size() - 1);
-        exerciseRecord.getUser().updatePosition(lastPosition.get(0), lastPosition.get(1));
+        Long lastPosition = task.getLastCellId();
+        if (lastPosition != null) {
+            exerciseRecord.getUser().updatePosition(CellUtil.latitude(lastPosition), CellUtil.longitude(lastPosition));
+        }
 
         exerciseRecordRepository.save(exerciseRecord);
-        return new ResponseEntity(true, HttpStatus.CREATED);
+
+        //주간, 누적 통계 갱신
+        userStatsService.addRecord(exerciseRecord, area);
     }
 
     // 랭킹 조회(누적 걸음 수 기준)  (추후 파라미터 Requestdto로 교체 예정)
-    public RankResponseDto.Step stepRanking(UserRequestDto.LookUp requestDto) {
+    public RankResponseDto.Step stepRanking(UserRequestDto.LookUp requestDto, RankingPage page) {
 
         String nickname = requestDto.getNickname();
         LocalDateTime start = requestDto.getStart();
@@ -170,52 +167,12 @@ public class ExerciseRecordServiceImpl implements ExerciseRecordService {
 
         List<User> userAndFriends = friendService.getFriends(user);  // 친구들 조회
         userAndFriends.add(0, user);  // 유저 추가
-        List<UserResponseDto.Ranking> stepRankings = new ArrayList<>(); // [랭킹, 닉네임, 걸음 수]
 
         // [Tuple(닉네임, 걸음 수, 프로필 path)] 걸음 수 기준 내림차순 정렬
-        List<Tuple> stepCount = exerciseRecordRepository.findStepCount(userAndFriends, start, end);
-
-        if (stepCount.isEmpty()){
-            for (User users : userAndFriends) {
-                stepRankings.add(new UserResponseDto.Ranking(1, (String) users.getNickname(),
-                        0L, users.getPicturePath()));
-            }
-            return new RankResponseDto.Step(stepRankings);
-        }
+        List<Tuple> stepCount = userStatsService.findStepCount(userAndFriends, start, end);
 
-        int count = 0;
-        int rank = 1;
-
-        Long matrixNumber = (Long) stepCount.get(0).get(1);  // 맨 처음 user의 걸음 수
-        for (Tuple info : stepCount) {
-            // 전 유저와 걸음 수가 같다면 랭크 유지
-            if (Objects.equals(info.get(1), matrixNumber)) {
-
-                // 유저 찾았으면 저장해둠
-                if (Objects.equals(info.get(0), user.getNickname())) {
-                    stepRankings.add(0, new UserResponseDto.Ranking(rank, (String) info.get(0),
-                            (Long) info.get(1), user.getPicturePath()));
-                }
-
-                stepRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                        (Long) info.get(1), (String) info.get(2)));
-                count += 1;
-                continue;
-            }
-
-            // 전 유저보다 걸음수가 작다면 앞에 있는 사람수 만큼이 자신 랭킹
-            count += 1;
-            rank = count;
-
-            // 유저 찾았으면 저장해둠
-            if (Objects.equals(info.get(0), user.getNickname())) {
-                stepRankings.add(0, new UserResponseDto.Ranking(rank, (String) info.get(0),
-                        (Long) info.get(1), user.getPicturePath()));
-            }
-            stepRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                    (Long) info.get(1), (String) info.get(2)));
-            matrixNumber = (Long) info.get(1);  // 걸음 수 update!
-        }
-        return new RankResponseDto.Step(stepRankings);
+        // 랭킹 계산[랭킹, 닉네임, 걸음 수] (기록이 없는 회원은 0)
+        return new RankResponseDto.Step(matrixService.calculateRank(userAndFriends,
+                matrixService.scoresOf(userAndFriends, stepCount), user, page));
     }
 }
@@ -0,0 +1,30 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.LiveSession;
+import com.dnd.ground.domain.user.User;
+
+/**
+ * @description 실시간 운동 기록 세션 서비스 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 - 박세헌
+ *          2022-10-18 / 기록 끝 저장 완료, 실패 시 세션 정리 추가 - 박세헌
+ *          2022-10-18 / 칸 추가 시 세션 소유 회원 확인 - 박세헌
+ */
+
+public interface LiveSessionService {
+
+    String open(User user);
+
+    void append(String sessionId, String nickname, long[] cellIds);
+
+    LiveSession close(String sessionId, String nickname);
+
+    void complete(String sessionId);
+
+    void reopen(String sessionId);
+
+    void completeAfterCommit(String sessionId);
+
+    void flushSessions();
+}
@@ -0,0 +1,189 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.LiveSession;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.matrixService.MatrixService;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.service.UserStatsService;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.CellUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @description 실시간 운동 기록 세션 서비스 클래스
+ *              - 기록 시작 시 운동 기록을 먼저 만들고, 스트리밍으로 들어온 칸은 세션 버퍼에 모아 FLUSH_SIZE 개마다 운동 기록에 반영
+ *              - 남은 칸은 FLUSH_INTERVAL 마다 반영, IDLE_TIMEOUT 동안 전송이 없으면 마지막 전송 시각으로 기록을 마무리
+ *              - 세션은 서버 메모리에 있고, 이미 반영된 칸은 연결이 끊겨도 운동 기록에 남음
+ *              - 기록 끝: 세션을 닫기만 하고 남겨둔 뒤, 저장이 커밋되면 삭제(complete), 실패하면 다시 열기(reopen) -> 버퍼의 칸을 잃지 않음
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 - 박세헌
+ *          2022-10-18 / 기록 끝 저장이 끝날 때까지 세션 유지 - 박세헌
+ *          2022-10-18 / 칸 추가 시 세션 소유 회원 확인 - 박세헌
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveSessionServiceImpl implements LiveSessionService {
+
+    // 한 번에 반영할 칸 수
+    private static final int FLUSH_SIZE = 200;
+
+    // 버퍼에 남은 칸 반영 주기(ms)
+    private static final long FLUSH_INTERVAL = 10_000;
+
+    // 전송이 없으면 기록을 마무리하는 시간
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final Map<String, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final MatrixService matrixService;
+    private final UserStatsService userStatsService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 세션 시작: 빈 운동 기록 생성
+    @Transactional
+    public String open(User user) {
+        ExerciseRecord exerciseRecord = exerciseRecordRepository.save(new ExerciseRecord(user));
+
+        LiveSession session = new LiveSession(UUID.randomUUID().toString(), exerciseRecord.getId(), user.getNickname());
+        sessions.put(session.getId(), session);
+        return session.getId();
+    }
+
+    // 칸 추가 (세션을 연 회원만): 버퍼가 FLUSH_SIZE 이상이면 바로 반영
+    public void append(String sessionId, String nickname, long[] cellIds) {
+        LiveSession session = sessions.get(sessionId);
+        if (session == null || !session.getNickname().equals(nickname) || !session.append(cellIds)) {
+            throw new CNotFoundException(CommonErrorCode.NOT_FOUND_LIVE_SESSION);
+        }
+
+        if (session.bufferedSize() >= FLUSH_SIZE) flush(session);
+    }
+
+    // 세션 종료: 진행 중인 반영이 끝날 때까지 기다린 뒤 닫힌 세션 반환 (남은 칸은 buffered, 세션은 complete/reopen 까지 유지)
+    public LiveSession close(String sessionId, String nickname) {
+        LiveSession session = sessions.get(sessionId);
+        if (session == null || !session.getNickname().equals(nickname)) {
+            throw new CNotFoundException(CommonErrorCode.NOT_FOUND_LIVE_SESSION);
+        }
+
+        session.getFlushLock().lock();
+        try {
+            if (!session.close()) throw new CNotFoundException(CommonErrorCode.NOT_FOUND_LIVE_SESSION);
+        } finally {
+            session.getFlushLock().unlock();
+        }
+        return session;
+    }
+
+    // 기록 끝 저장 완료: 세션 삭제 (남은 칸은 기록에 저장됨)
+    public void complete(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    // 기록 끝 저장 실패: 세션을 다시 열어 남은 칸 유지
+    public void reopen(String sessionId) {
+        LiveSession session = sessions.get(sessionId);
+        if (session != null) session.reopen();
+    }
+
+    // 현재 트랜잭션이 커밋되면 complete, 롤백되면 reopen
+    public void completeAfterCommit(String sessionId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) complete(sessionId);
+                else reopen(sessionId);
+            }
+        });
+    }
+
+    // 남은 칸 반영, 오래된 세션 마무리
+    @Scheduled(fixedDelay = FLUSH_INTERVAL)
+    public void flushSessions() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(IDLE_TIMEOUT);
+
+        for (LiveSession session : sessions.values()) {
+            if (session.isClosed()) continue;  // 기록 끝 저장 중
+            if (session.getLastActive().isBefore(expiredBefore)) expire(session);
+            else flush(session);
+        }
+    }
+
+    // 버퍼의 칸을 운동 기록에 반영 (실패하면 버퍼로 되돌림)
+    private void flush(LiveSession session) {
+        if (!session.getFlushLock().tryLock()) return;  // 다른 스레드가 반영 중
+        try {
+            if (session.isClosed()) return;
+            long[] cellIds = session.drain();
+            if (cellIds.length == 0) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        matrixService.saveCells(findRecord(session), cellIds));
+            } catch (RuntimeException e) {
+                session.requeue(cellIds);
+                log.warn("**실시간 기록 반영 실패** 세션:{} | 내용:{}", session.getId(), e.getMessage());
+            }
+        } finally {
+            session.getFlushLock().unlock();
+        }
+    }
+
+    // 오래된 세션 마무리: 남은 칸 반영 후 통계 갱신, 칸이 하나도 없으면 기록 삭제
+    private void expire(LiveSession session) {
+        session.getFlushLock().lock();
+        try {
+            if (!session.close()) return;  // 기록 끝 저장 중
+            sessions.remove(session.getId(), session);
+            long[] cellIds = session.drain();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                ExerciseRecord exerciseRecord = findRecord(session);
+                if (exerciseRecord.getMatrixNumber() == 0 && cellIds.length == 0) {
+                    exerciseRecordRepository.delete(exerciseRecord);
+                    return;
+                }
+
+                Long area = matrixService.saveCells(exerciseRecord, cellIds);
+                LocalDateTime ended = session.getLastActive();
+                exerciseRecord.updateInfo(exerciseRecord.getDistance(), exerciseRecord.getStepCount(),
+                        (int) Duration.between(exerciseRecord.getStarted(), ended).getSeconds(),
+                        exerciseRecord.getMessage(), exerciseRecord.getStarted(), ended);
+
+                Long lastPosition = session.getLastCellId();
+                if (lastPosition != null) {
+                    exerciseRecord.getUser().updatePosition(CellUtil.latitude(lastPosition), CellUtil.longitude(lastPosition));
+                }
+                userStatsService.addRecord(exerciseRecord, area);
+            });
+        } catch (RuntimeException e) {
+            log.warn("**실시간 기록 마무리 실패** 세션:{} | 내용:{}", session.getId(), e.getMessage());
+        } finally {
+            session.getFlushLock().unlock();
+        }
+    }
+
+    private ExerciseRecord findRecord(LiveSession session) {
+        return exerciseRecordRepository.findById(session.getRecordId()).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_RECORD));
+    }
+}
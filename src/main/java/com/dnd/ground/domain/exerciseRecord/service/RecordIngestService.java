@@ -0,0 +1,18 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
+
+/**
+ * @description 기록 끝 비동기 저장 서비스 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 - 박세헌
+ */
+
+public interface RecordIngestService {
+
+    RecordResponseDto.Accepted accept(EndRequestDto endRequestDto);
+
+    RecordResponseDto.Accepted findStatus(String acceptId);
+}
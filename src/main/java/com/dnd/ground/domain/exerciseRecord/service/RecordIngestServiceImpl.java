@@ -0,0 +1,278 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.RecordEndTask;
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.exception.CNotValidationException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * @description 기록 끝 비동기 저장 서비스 클래스
+ *              - 접수: 검증한 기록을 spool 파일로 먼저 기록(fsync)한 뒤 큐에 넣고 접수 id 반환
+ *              - 저장: 작업 스레드가 큐에서 최대 batch-size 개씩 꺼내 한 트랜잭션으로 저장, 실패하면 한 건씩 다시 저장
+ *              - 같은 회원의 기록은 항상 같은 큐(작업 스레드)로 보내 순서대로 저장
+ *              - 큐가 가득 차면 접수하지 않음(503), 저장되지 않은 spool 파일은 재시작 시, 주기적으로 다시 큐에 넣음
+ *              - 저장된 기록은 접수 id를 가지므로 같은 spool 파일을 다시 저장해도 중복 저장되지 않음
+ *              - 실시간 기록 세션은 spool 파일을 쓴 뒤에 삭제, 접수하지 못하면 다시 열어서 남은 칸 유지
+ *              - 저장 실패 횟수는 spool 파일에 함께 기록하므로 재시작해도 MAX_ATTEMPTS 번 넘게 재시도하지 않음
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 - 박세헌
+ *          2022-10-18 / spool 파일을 쓴 뒤에 실시간 기록 세션 삭제 - 박세헌
+ *          2022-10-18 / 저장 실패 횟수를 spool 파일에 기록, 작업 스레드를 recordIngestExecutor 로 실행 - 박세헌
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecordIngestServiceImpl implements RecordIngestService {
+
+    private static final String SPOOL_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String FAILED_SUFFIX = ".failed";
+
+    // 저장 실패 시 재시도 횟수 (초과하면 .failed 로 보관)
+    private static final int MAX_ATTEMPTS = 3;
+
+    // 저장되지 않은 spool 파일을 다시 큐에 넣는 주기(ms)
+    private static final long SWEEP_INTERVAL = 60_000;
+
+    private final ExerciseRecordService exerciseRecordService;
+    private final LiveSessionService liveSessionService;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor recordIngestExecutor;
+
+    @Value("${record.ingest.spool-dir:./spool/record}")
+    private String spoolPath;
+
+    @Value("${record.ingest.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${record.ingest.batch-size:50}")
+    private int batchSize;
+
+    private Path spoolDir;
+    private final List<BlockingQueue<RecordEndTask>> queues = new ArrayList<>();
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    @PostConstruct
+    public void init() throws IOException {
+        spoolDir = Files.createDirectories(Paths.get(spoolPath));
+        int workerCount = recordIngestExecutor.getCorePoolSize();
+        for (int i = 0; i < workerCount; i++) {
+            queues.add(new ArrayBlockingQueue<>(Math.max(1, queueCapacity / workerCount)));
+        }
+    }
+
+    // 서버 준비 후 작업 스레드 시작, 이전에 저장하지 못한 기록 다시 저장
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (BlockingQueue<RecordEndTask> queue : queues) {
+            recordIngestExecutor.execute(() -> work(queue));
+        }
+        sweep();
+    }
+
+    // 종료 시 작업 루프 정지, 처리 중인 batch 는 executor 종료 시 끝까지 기다림 (큐에 남은 기록은 spool 파일로 남아 재시작 시 저장)
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    // 접수
+    public RecordResponseDto.Accepted accept(EndRequestDto endRequestDto) {
+        userRepository.findByNickname(endRequestDto.getNickname()).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+
+        BlockingQueue<RecordEndTask> queue = queueOf(endRequestDto.getNickname());
+        if (queue.remainingCapacity() == 0) {
+            throw new CNotValidationException(CommonErrorCode.RECORD_QUEUE_FULL);
+        }
+
+        RecordEndTask task = exerciseRecordService.toEndTask(endRequestDto);
+        task.setAcceptId(UUID.randomUUID().toString());
+
+        // 세션의 남은 칸은 spool 파일에 기록된 뒤에만 버림
+        String sessionId = endRequestDto.getSessionId();
+        try {
+            spool(task);
+        } catch (RuntimeException e) {
+            if (sessionId != null) liveSessionService.reopen(sessionId);
+            throw e;
+        }
+        if (sessionId != null) liveSessionService.complete(sessionId);
+
+        // 그 사이 큐가 찼다면 spool 파일로 남겨두고 다음 sweep 때 저장
+        enqueue(task);
+        return RecordResponseDto.Accepted.builder()
+                .acceptId(task.getAcceptId())
+                .status("PENDING")
+                .build();
+    }
+
+    // 접수 상태 조회
+    public RecordResponseDto.Accepted findStatus(String acceptId) {
+        String status;
+        if (!isValidId(acceptId)) status = "UNKNOWN";
+        else if (exerciseRecordRepository.existsByAcceptId(acceptId)) status = "SAVED";
+        else if (inFlight.contains(acceptId) || Files.exists(spoolFile(acceptId, SPOOL_SUFFIX))) status = "PENDING";
+        else if (Files.exists(spoolFile(acceptId, FAILED_SUFFIX))) status = "FAILED";
+        else status = "UNKNOWN";
+        return RecordResponseDto.Accepted.builder()
+                .acceptId(acceptId)
+                .status(status)
+                .build();
+    }
+
+    // 저장되지 않은(큐에 없는) spool 파일을 다시 큐에 넣음
+    @Scheduled(fixedDelay = SWEEP_INTERVAL, initialDelay = SWEEP_INTERVAL)
+    public void sweep() {
+        if (!running) return;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir, "*" + SPOOL_SUFFIX)) {
+            for (Path file : files) {
+                String acceptId = file.getFileName().toString().replace(SPOOL_SUFFIX, "");
+                if (inFlight.contains(acceptId)) continue;
+
+                try {
+                    enqueue(objectMapper.readValue(file.toFile(), RecordEndTask.class));
+                } catch (IOException e) {
+                    log.warn("**spool 파일 읽기 실패** 파일:{} | 내용:{}", file, e.getMessage());
+                    moveToFailed(acceptId);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("**spool 디렉토리 읽기 실패** 내용:{}", e.getMessage());
+        }
+    }
+
+    private void work(BlockingQueue<RecordEndTask> queue) {
+        List<RecordEndTask> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                RecordEndTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                save(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 한 트랜잭션으로 저장, 실패하면 한 건씩 다시 저장
+    private void save(List<RecordEndTask> batch) {
+        try {
+            exerciseRecordService.saveRecords(batch);
+            batch.forEach(this::complete);
+        } catch (RuntimeException e) {
+            for (RecordEndTask task : batch) {
+                try {
+                    exerciseRecordService.saveRecords(List.of(task));
+                    complete(task);
+                } catch (RuntimeException ex) {
+                    fail(task, ex);
+                }
+            }
+        }
+    }
+
+    private void complete(RecordEndTask task) {
+        try {
+            Files.deleteIfExists(spoolFile(task.getAcceptId(), SPOOL_SUFFIX));
+        } catch (IOException e) {
+            log.warn("**spool 파일 삭제 실패** 접수 id:{} | 내용:{}", task.getAcceptId(), e.getMessage());
+        }
+        inFlight.remove(task.getAcceptId());
+    }
+
+    // 실패: 실패 횟수를 spool 파일에 다시 쓰고 다음 sweep 때 재시도, MAX_ATTEMPTS 번 실패하면 .failed 로 보관
+    private void fail(RecordEndTask task, RuntimeException e) {
+        task.setAttempts(task.getAttempts() + 1);
+        log.warn("**기록 비동기 저장 실패** 접수 id:{} | 시도:{} | 내용:{}", task.getAcceptId(), task.getAttempts(), e.getMessage());
+
+        try {
+            if (task.getAttempts() >= MAX_ATTEMPTS) moveToFailed(task.getAcceptId());
+            else spool(task);
+        } catch (UncheckedIOException ex) {
+            log.warn("**spool 파일 갱신 실패** 접수 id:{} | 내용:{}", task.getAcceptId(), ex.getMessage());
+        }
+        inFlight.remove(task.getAcceptId());
+    }
+
+    private void enqueue(RecordEndTask task) {
+        if (!inFlight.add(task.getAcceptId())) return;
+        if (!queueOf(task.getNickname()).offer(task)) inFlight.remove(task.getAcceptId());
+    }
+
+    // 임시 파일에 쓰고 디스크에 반영(fsync)한 뒤 이름 변경 -> spool 파일은 항상 완전한 상태 (실패 횟수 갱신 시 덮어씀)
+    private void spool(RecordEndTask task) {
+        Path temp = spoolFile(task.getAcceptId(), TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(objectMapper.writeValueAsBytes(task));
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(true);
+            }
+            Files.move(temp, spoolFile(task.getAcceptId(), SPOOL_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void moveToFailed(String acceptId) {
+        try {
+            Files.move(spoolFile(acceptId, SPOOL_SUFFIX), spoolFile(acceptId, FAILED_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("**spool 파일 이동 실패** 접수 id:{} | 내용:{}", acceptId, e.getMessage());
+        }
+    }
+
+    private BlockingQueue<RecordEndTask> queueOf(String nickname) {
+        return queues.get(Math.floorMod(Objects.hashCode(nickname), queues.size()));
+    }
+
+    private Path spoolFile(String acceptId, String suffix) {
+        return spoolDir.resolve(acceptId + suffix);
+    }
+
+    private static boolean isValidId(String acceptId) {
+        try {
+            return UUID.fromString(acceptId).toString().equals(acceptId);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
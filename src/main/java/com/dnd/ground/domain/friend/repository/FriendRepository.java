@@ -17,12 +17,14 @@ import java.util.Optional;
  * @updated 1.친구 관계 여부 조회 쿼리 수정
  *          2.관계 상태에 따른 쿼리 생성
  *          - 2022.10.10 박찬호
+ *          3.친구 목록 조회 시 회원 정보 fetch join
+ *          - 2022.10.18 박세헌
  */
 
 public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     //User를 통해 친구 목록 조회
-    @Query("select f from Friend f where (f.friend =:user or f.user = :user) and f.status='Accept'")
+    @Query("select f from Friend f join fetch f.user join fetch f.friend where (f.friend =:user or f.user = :user) and f.status='Accept'")
     List<Friend> findFriendsById(@Param("user") User user);
 
     Optional<Friend> findById(Long id);
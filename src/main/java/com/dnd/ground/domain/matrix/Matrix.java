@@ -1,42 +1,55 @@
 package com.dnd.ground.domain.matrix;
 
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.global.util.CellUtil;
 import lombok.*;
 
 import javax.persistence.*;
-import java.time.LocalDateTime;
 
 /**
  * @description 운동 기록 엔티티
  * @author  박세헌
  * @since   2022-07-27
  * @updated 2022-08-17 / 위도, 경도 필드 Double형으로 변경 : 박세헌
+ *          2026-10-18 / 위도, 경도 필드를 셀 ID(long) 하나로 변경 : agent
+ *          2026-10-18 / id 를 전용 시퀀스에서 1000개씩 미리 할당(pooled), JDBC batch insert 가능 : agent
  */
 
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="matrix")
+@Table(name="matrix", indexes = @Index(name = "idx_matrix_record_cell", columnList = "exercise_record_id, cell_id"))
 @Entity
 public class Matrix {
 
-    @Id @GeneratedValue
+    // hibernate_sequence 를 row 마다 조회하지 않도록 matrix_seq 에서 1000개씩 할당 (data.sql 의 id 와 겹치지 않게 1000부터 시작)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matrix_seq_generator")
+    @SequenceGenerator(name = "matrix_seq_generator", sequenceName = "matrix_seq", initialValue = 1000, allocationSize = 1000)
     @Column(name = "matrix_id")
     private Long id;
 
-    @Column(nullable = false)
-    private Double latitude;
-
-    @Column(nullable = false)
-    private Double longitude;
+    @Column(name = "cell_id", nullable = false)
+    private Long cellId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "exercise_record_id", nullable = false)
     private ExerciseRecord exerciseRecord;
 
     public Matrix(double latitude, double longitude) {
-        this.latitude = latitude;
-        this.longitude = longitude;
+        this.cellId = CellUtil.encode(latitude, longitude);
+    }
+
+    public Matrix(long cellId) {
+        this.cellId = cellId;
+    }
+
+    public Double getLatitude() {
+        return CellUtil.latitude(cellId);
+    }
+
+    public Double getLongitude() {
+        return CellUtil.longitude(cellId);
     }
 
     // setExerciseRecord
@@ -0,0 +1,16 @@
+package com.dnd.ground.domain.matrix;
+
+/**
+ * @description 운동 기록의 칸 저장 방식
+ *              ROW: 압축된 셀 ID 컬럼 + 칸 마다 matrix row 저장
+ *              BLOB: 압축된 셀 ID 컬럼만 저장 (matrix row 저장 X)
+ *              ROUTE: 이동 경로가 있고 칸을 모두 경로로부터 다시 계산할 수 있으면 경로만 저장, 아니면 BLOB 과 같음
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / ROUTE 추가 : 박세헌
+ */
+
+public enum MatrixStorageMode {
+    ROW, BLOB, ROUTE
+}
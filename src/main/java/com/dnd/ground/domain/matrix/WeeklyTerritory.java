@@ -0,0 +1,120 @@
+package com.dnd.ground.domain.matrix;
+
+import com.dnd.ground.domain.user.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import javax.persistence.*;
+import java.io.*;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * @description 회원의 주간 영역 엔티티
+ *              - 한 주(월요일 ~ 일요일) 동안 채운 셀 ID를 Roaring bitmap 으로 압축해 저장
+ *              - 운동 기록이 저장될 때 OR 연산으로 갱신, 영역의 수는 bitmap 의 cardinality
+ *              - 갱신될 때마다 version 증가, 다시 계산(칸 삭제 가능)될 때는 resetVersion 도 함께 갱신
+ *              - 여러 곳(기록 종료, 비동기 저장, 실시간 세션)에서 동시에 갱신하므로 갱신 전에 row 를 잠그고 읽음 (WeeklyTerritoryRepository.findForUpdate)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 영역 버전 추가 : 박세헌
+ *          2022-10-18 / 동시 갱신 시 칸 유실 방지 (row 생성은 upsert, 갱신은 비관적 잠금) : 박세헌
+ */
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "weekly_territory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_weekly_territory_user_week", columnNames = {"user_id", "week_start"}))
+@Entity
+public class WeeklyTerritory {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "weekly_territory_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Lob
+    @Column(name = "bitmap", nullable = false, columnDefinition = "mediumblob")
+    private byte[] bitmap;
+
+    @Column(name = "area", nullable = false)
+    private Long area;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 마지막으로 영역을 다시 계산한 버전 (이 버전 이전의 변경분은 이어 붙일 수 없음)
+    @Column(name = "reset_version", nullable = false)
+    private Long resetVersion;
+
+    public WeeklyTerritory(User user, LocalDate weekStart) {
+        this.user = user;
+        this.weekStart = weekStart;
+        this.area = 0L;
+        this.version = 0L;
+        this.resetVersion = 0L;
+        this.bitmap = emptyBitmap();
+    }
+
+    // 빈 영역의 bitmap (row 생성 upsert 용)
+    public static byte[] emptyBitmap() {
+        return serialize(new Roaring64NavigableMap());
+    }
+
+    // 해당 시간이 속한 주의 월요일
+    public static LocalDate weekStartOf(LocalDateTime time) {
+        return time.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // 셀 추가(OR)
+    public void addCells(long[] cellIds) {
+        Roaring64NavigableMap territory = toBitmap();
+        territory.add(cellIds);
+        write(territory);
+        this.version++;
+    }
+
+    // 영역 교체
+    public void update(Roaring64NavigableMap territory) {
+        write(territory);
+        this.version++;
+        this.resetVersion = this.version;
+    }
+
+    private void write(Roaring64NavigableMap territory) {
+        territory.runOptimize();
+        this.bitmap = serialize(territory);
+        this.area = territory.getLongCardinality();
+    }
+
+    public Roaring64NavigableMap toBitmap() {
+        Roaring64NavigableMap territory = new Roaring64NavigableMap();
+        try {
+            territory.deserialize(new DataInputStream(new ByteArrayInputStream(bitmap)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return territory;
+    }
+
+    private static byte[] serialize(Roaring64NavigableMap territory) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) territory.serializedSizeInBytes());
+        try {
+            territory.serialize(new DataOutputStream(out));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,8 +1,11 @@
 package com.dnd.ground.domain.matrix.controller;
 
+import com.dnd.ground.domain.user.GlobalRankingType;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -12,9 +15,15 @@ import org.springframework.web.bind.annotation.RequestParam;
  * @since   2022-08-02
  * @updated  nickname, start, end 가진 requestDto 생성
  *          - 2022-08-18 박세헌
+ *          랭킹 페이지(limit, cursor, around) 조회
+ *          - 2022-10-18 박세헌
+ *          전체 회원 주간 랭킹 조회
+ *          - 2022-10-18 박세헌
  */
 
 public interface MatrixController {
-    ResponseEntity<RankResponseDto.Matrix> matrixRank(@RequestParam String nickname);
-    ResponseEntity<RankResponseDto.Area> areaRank(@RequestBody UserRequestDto.LookUp requestDto);
+    ResponseEntity<RankResponseDto.Matrix> matrixRank(@RequestParam String nickname, @ModelAttribute RankingPage page);
+    ResponseEntity<RankResponseDto.Area> areaRank(@RequestBody UserRequestDto.LookUp requestDto, @ModelAttribute RankingPage page);
+    ResponseEntity<RankResponseDto.Global> globalRank(@RequestParam String nickname, @RequestParam GlobalRankingType type,
+                                                      @ModelAttribute RankingPage page);
 }
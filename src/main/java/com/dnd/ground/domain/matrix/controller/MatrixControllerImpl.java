@@ -1,8 +1,11 @@
 package com.dnd.ground.domain.matrix.controller;
 
 import com.dnd.ground.domain.matrix.matrixService.MatrixService;
+import com.dnd.ground.domain.user.GlobalRankingType;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
+import com.dnd.ground.domain.user.service.GlobalRankingService;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,8 @@ import org.springframework.web.bind.annotation.*;
  * @author  박세헌, 박찬호
  * @since   2022-08-02
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2022-10-18 / 랭킹 페이지(limit, cursor, around) 조회 - 박세헌
+ *          2022-10-18 / 전체 회원 주간 랭킹 조회 - 박세헌
  */
 
 @Api(tags = "운동 영역")
@@ -26,19 +31,33 @@ import org.springframework.web.bind.annotation.*;
 public class MatrixControllerImpl implements MatrixController {
 
     private final MatrixService matrixService;
+    private final GlobalRankingService globalRankingService;
 
     @GetMapping("/rank/accumulate")
-    @Operation(summary = "역대 누적 칸의 수 랭킹", description = "해당 유저를 기준으로 가입날짜 ~ 오늘 사이 누적 칸의 수가 높은 순서대로 유저와 친구들을 조회")
-    public ResponseEntity<RankResponseDto.Matrix> matrixRank(@RequestParam("nickname") String nickname){
-        return ResponseEntity.ok(matrixService.matrixRanking(nickname));
+    @Operation(summary = "역대 누적 칸의 수 랭킹", description = "해당 유저를 기준으로 가입날짜 ~ 오늘 사이 누적 칸의 수가 높은 순서대로 유저와 친구들을 조회\n" +
+            "limit: 한 페이지 인원(최대 100, 없으면 전체), cursor: 이전 응답의 nextCursor, around=true: 내 순위를 가운데에 두고 limit 명 조회")
+    public ResponseEntity<RankResponseDto.Matrix> matrixRank(@RequestParam("nickname") String nickname, @ModelAttribute RankingPage page){
+        return ResponseEntity.ok(matrixService.matrixRanking(nickname, page));
     }
 
     @PostMapping("/rank/widen")
     @Operation(summary = "영역의 수 랭킹",
             description = "해당 유저를 기준으로 start-end(기간) 사이 영역의 수가 높은 순서대로 유저와 친구들을 조회\n" +
             "start: 해당 주 월요일 00시 00분 00초\n" +
-            "end: 해당 주 일요일 23시 59분 59초")
-    public ResponseEntity<RankResponseDto.Area> areaRank(@RequestBody UserRequestDto.LookUp requestDto){
-        return ResponseEntity.ok(matrixService.areaRanking(requestDto));
+            "end: 해당 주 일요일 23시 59분 59초\n" +
+            "limit: 한 페이지 인원(최대 100, 없으면 전체), cursor: 이전 응답의 nextCursor, around=true: 내 순위를 가운데에 두고 limit 명 조회")
+    public ResponseEntity<RankResponseDto.Area> areaRank(@RequestBody UserRequestDto.LookUp requestDto, @ModelAttribute RankingPage page){
+        return ResponseEntity.ok(matrixService.areaRanking(requestDto, page));
+    }
+
+    @GetMapping("/rank/global")
+    @Operation(summary = "전체 회원 주간 랭킹",
+            description = "이번주 전체 회원 중 type(STEP: 걸음수, MATRIX: 칸의 수, AREA: 영역의 수) 기준 내 랭킹(myRanking)과 상위 100명 조회\n" +
+            "랭킹은 10초마다 갱신(updatedAt)\n" +
+            "limit: 한 페이지 인원(최대 100, 없으면 상위 100명 전체), cursor: 이전 응답의 nextCursor")
+    public ResponseEntity<RankResponseDto.Global> globalRank(@RequestParam("nickname") String nickname,
+                                                             @RequestParam("type") GlobalRankingType type,
+                                                             @ModelAttribute RankingPage page){
+        return ResponseEntity.ok(globalRankingService.globalRanking(nickname, type, page));
     }
 }
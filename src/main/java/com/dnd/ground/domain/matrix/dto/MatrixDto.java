@@ -1,20 +1,57 @@
 package com.dnd.ground.domain.matrix.dto;
 
+import com.dnd.ground.global.util.CellUtil;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.annotations.ApiModelProperty;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @description 중복 있는 칸에 대한 정보 dto
  * @author  박세헌
  * @since   2022-08-05
  * @updated 2022-08-09 / 생성: 박세헌
+ *          2026-10-18 / 셀 ID -> dto 변환 메소드 추가: agent
+ *          2026-10-18 / 축소된 지도의 상위 칸을 위한 칸 수(count) 추가: agent
  */
 
-@Data @AllArgsConstructor
+@Data
 public class MatrixDto{
     @ApiModelProperty(value = "위도", example = "37.123123")
     private Double latitude;
     @ApiModelProperty(value = "경도", example = "127.123123")
     private Double longitude;
-}
\ No newline at end of file
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @ApiModelProperty(value = "상위 칸에 포함된 칸의 수(축소된 지도에서만 존재)", example = "12")
+    private Integer count;
+
+    public MatrixDto(Double latitude, Double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public static MatrixDto of(long cellId) {
+        return new MatrixDto(CellUtil.latitude(cellId), CellUtil.longitude(cellId));
+    }
+
+    public static MatrixDto of(long cellId, int count) {
+        MatrixDto matrix = of(cellId);
+        matrix.count = count;
+        return matrix;
+    }
+
+    public static List<MatrixDto> of(Collection<Long> cellIds) {
+        List<MatrixDto> matrices = new ArrayList<>(cellIds.size());
+        for (Long cellId : cellIds) {
+            matrices.add(of(cellId));
+        }
+        return matrices;
+    }
+
+    public long toCellId() {
+        return CellUtil.encode(latitude, longitude);
+    }
+}
@@ -0,0 +1,24 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @description 회원들의 이번주 영역 변경분 조회 결과
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Getter
+@AllArgsConstructor
+public class TerritorySync {
+
+    private final Map<Long, List<MatrixDto>> matrices;  // [회원 id, 영역(변경분만 조회한 경우 추가된 칸)]
+    private final Map<Long, Long> areas;  // [회원 id, 이번주 전체 영역의 수]
+    private final String version;  // 다음 요청에 since 로 보낼 토큰
+    private final boolean fullRefresh;  // true: 전체 영역, false: since 이후 추가된 칸만
+}
@@ -0,0 +1,72 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * @description 홈 화면 변경분 조회(since) 토큰
+ *              - [주 시작일, 화면 영역 키, 회원 id 별 주간 영역 버전]을 "2022-10-17|키|12:3,15:7" 형태로 만든 뒤 base64url 인코딩
+ *              - 화면 영역이나 축소 단계가 바뀌면 이전에 받은 칸과 범위가 다르므로 이어 붙일 수 없음
+ *              - 클라이언트는 토큰 내용을 해석하지 않고 다음 요청에 그대로 보냄
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Getter
+@AllArgsConstructor
+public class TerritorySyncToken {
+
+    private final LocalDate weekStart;
+    private final String viewportKey;
+    private final Map<Long, Long> versions;  // [회원 id, 주간 영역 버전]
+
+    // 토큰에 없는 회원은 아무 칸도 받지 않은 상태
+    public boolean contains(Long userId) {
+        return versions.containsKey(userId);
+    }
+
+    public Long versionOf(Long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    public String encode() {
+        StringBuilder token = new StringBuilder(weekStart.toString()).append('|').append(viewportKey).append('|');
+        Iterator<Map.Entry<Long, Long>> iterator = new TreeMap<>(versions).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            token.append(entry.getKey()).append(':').append(entry.getValue());
+            if (iterator.hasNext()) token.append(',');
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰은 없는 것으로 취급(전체 조회)
+    public static Optional<TerritorySyncToken> decode(String token) {
+        if (token == null || token.isBlank()) return Optional.empty();
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            int keySeparator = decoded.indexOf('|', separator + 1);
+            LocalDate weekStart = LocalDate.parse(decoded.substring(0, separator));
+            String viewportKey = decoded.substring(separator + 1, keySeparator);
+
+            Map<Long, Long> versions = new HashMap<>();
+            String body = decoded.substring(keySeparator + 1);
+            if (!body.isEmpty()) {
+                for (String pair : body.split(",")) {
+                    int colon = pair.indexOf(':');
+                    versions.put(Long.parseLong(pair.substring(0, colon)), Long.parseLong(pair.substring(colon + 1)));
+                }
+            }
+            return Optional.of(new TerritorySyncToken(weekStart, viewportKey, versions));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import com.dnd.ground.global.util.CellUtil;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * @description 지도 화면 영역(bounding box) dto
+ *              - 4개의 값이 모두 있을 때만 영역 제한, 하나라도 없으면 전체 조회
+ *              - 셀 ID는 위도가 상위 32비트이므로 위도 범위는 셀 ID 범위 하나로 조회하고, 경도는 범위 안에서 한 번 더 거름
+ *              - 축소 단계(level)가 있으면 상위 칸으로 묶어서 최대 CellPyramid.MAX_CELLS 개까지만 조회
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 지도 축소 단계(level) 추가 : 박세헌
+ *          2022-10-18 / 화면 영역 키 추가 : 박세헌
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Viewport {
+
+    @ApiModelProperty(value = "화면 최소 위도", example = "37.50")
+    private Double minLatitude;
+
+    @ApiModelProperty(value = "화면 최대 위도", example = "37.56")
+    private Double maxLatitude;
+
+    @ApiModelProperty(value = "화면 최소 경도", example = "127.00")
+    private Double minLongitude;
+
+    @ApiModelProperty(value = "화면 최대 경도", example = "127.08")
+    private Double maxLongitude;
+
+    @ApiModelProperty(value = "지도 축소 단계(0: 원본 칸, 클수록 큰 칸으로 묶음). 없으면 묶지 않고 전체 조회", example = "3")
+    private Integer level;
+
+    // 영역 제한 없음
+    public static Viewport all() {
+        return new Viewport();
+    }
+
+    // 화면 영역, 축소 단계를 구분하는 키 (변경분 조회 토큰에 사용)
+    public String key() {
+        if (!isBounded() && !isAggregated()) return "";
+        return (isBounded() ? lowerCellId() + "~" + upperCellId() + "~" + CellUtil.quantize(minLongitude) + "~" + CellUtil.quantize(maxLongitude) : "")
+                + "@" + (isAggregated() ? level : "");
+    }
+
+    public boolean isAggregated() {
+        return level != null;
+    }
+
+    public boolean isBounded() {
+        return minLatitude != null && maxLatitude != null && minLongitude != null && maxLongitude != null;
+    }
+
+    // 위도 범위에 해당하는 최소 셀 ID
+    public long lowerCellId() {
+        return CellUtil.pack(CellUtil.quantize(minLatitude), 0);
+    }
+
+    // 위도 범위에 해당하는 최대 셀 ID
+    public long upperCellId() {
+        return CellUtil.pack(CellUtil.quantize(maxLatitude), -1);
+    }
+
+    public boolean contains(long cellId) {
+        if (!isBounded()) return true;
+
+        int latitudeE6 = CellUtil.latitudeE6(cellId);
+        int longitudeE6 = CellUtil.longitudeE6(cellId);
+        return latitudeE6 >= CellUtil.quantize(minLatitude) && latitudeE6 <= CellUtil.quantize(maxLatitude)
+                && longitudeE6 >= CellUtil.quantize(minLongitude) && longitudeE6 <= CellUtil.quantize(maxLongitude);
+    }
+
+    // 화면 안의 셀만 남김 (정렬 여부 상관x)
+    public long[] filter(long[] cellIds) {
+        if (!isBounded()) return cellIds;
+        return Arrays.stream(cellIds).filter(this::contains).toArray();
+    }
+
+    // 정렬된 셀 ID 중 화면 안의 셀만 남김 (위도 범위는 이분 탐색)
+    public long[] filterSorted(long[] sortedCellIds) {
+        if (!isBounded()) return sortedCellIds;
+
+        int from = lowerBound(sortedCellIds, lowerCellId());
+        int to = lowerBound(sortedCellIds, upperCellId() + 1);
+        if (from >= to) return new long[0];
+        return filter(Arrays.copyOfRange(sortedCellIds, from, to));
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int index = Arrays.binarySearch(sorted, key);
+        if (index < 0) return -index - 1;
+        while (index > 0 && sorted[index - 1] == key) index--;
+        return index;
+    }
+}
@@ -3,10 +3,15 @@ package com.dnd.ground.domain.matrix.matrixRepository;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.matrix.Matrix;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.Tuple;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -15,24 +20,69 @@ import java.util.List;
  * @since   2022-08-01
  * @updated 1.운동 기록의 매트릭스 리스트 조회 쿼리 추가
  *          -2022.09.29 박찬호
+ *          2.위도, 경도 대신 셀 ID 기준으로 중복 제거 및 개수 조회
+ *          -2022.10.18 박세헌
+ *          3.지도 화면 영역(셀 ID 범위) 안의 셀 ID 조회 쿼리 추가
+ *          -2022.10.18 박세헌
+ *          4.압축 칸 컬럼이 없는 기록 id 조회, 기록들의 matrix row 삭제 쿼리 추가
+ *          -2022.10.18 박세헌
+ *          5.회원별 영역의 수, 셀 ID 조회 쿼리 추가 (matrix row 만 있는 기록)
+ *          -2022.10.18 박세헌
  */
 
 public interface MatrixRepository extends JpaRepository<Matrix, Long> {
 
-    // 운동기록들을 통해 매트릭스 정보 조회(중복o)
-    @Query("select new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e in :exerciseRecords")
-    List<MatrixDto> findMatrixByRecords(List<ExerciseRecord> exerciseRecords);
+    // 운동기록들을 통해 영역의 수 조회(중복x)
+    @Query("select count(distinct m.cellId) from Matrix m where m.exerciseRecord in :exerciseRecords")
+    Long countMatrixSetByRecords(List<ExerciseRecord> exerciseRecords);
+
+    // 회원들의 (start-end) 사이 matrix row 만 있는 기록의 영역의 수 조회 [회원 id, 영역의 수]
+    @Query("select e.user.id, count(distinct m.cellId) from Matrix m join m.exerciseRecord e " +
+            "where e.user in :users and e.started between :start and :end " +
+            "and e.cells is null and e.route is null " +
+            "group by e.user.id")
+    List<Tuple> countMatrixSetByUsers(@Param("users") List<User> users, @Param("start") LocalDateTime start,
+                                      @Param("end") LocalDateTime end);
+
+    // 회원들의 (start-end) 사이 matrix row 만 있는 기록의 셀 ID 조회(회원별 중복x) [회원 id, 셀 ID]
+    @Query("select distinct e.user.id, m.cellId from Matrix m join m.exerciseRecord e " +
+            "where e.user.id in :userIds and e.started between :start and :end " +
+            "and e.cells is null and e.route is null")
+    List<Tuple> findCellSetByUsers(@Param("userIds") List<Long> userIds, @Param("start") LocalDateTime start,
+                                   @Param("end") LocalDateTime end);
+
+    // 운동기록들을 통해 셀 ID 조회(중복x)
+    @Query("select distinct m.cellId from Matrix m where m.exerciseRecord in :exerciseRecords")
+    List<Long> findCellSetByRecords(List<ExerciseRecord> exerciseRecords);
+
+    // 운동기록들을 통해 셀 ID 범위 안의 셀 ID 조회(중복x) - idx_matrix_record_cell 사용
+    @Query("select distinct m.cellId from Matrix m where m.exerciseRecord in :exerciseRecords and m.cellId between :lower and :upper")
+    List<Long> findCellSetByRecordsBetween(@Param("exerciseRecords") List<ExerciseRecord> exerciseRecords,
+                                           @Param("lower") Long lower, @Param("upper") Long upper);
+
+    // 운동기록을 통해 셀 ID 조회(중복x)
+    @Query("select distinct m.cellId from Matrix m where m.exerciseRecord = :exerciseRecord")
+    List<Long> findCellSetByRecord(ExerciseRecord exerciseRecord);
 
     // 운동기록들을 통해 매트릭스 정보 조회(중복x)
-    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e in :exerciseRecords")
-    List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords);
+    default List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords) {
+        return MatrixDto.of(findCellSetByRecords(exerciseRecords));
+    }
 
     // 운동기록을 통해 매트릭스 정보 조회(중복x)
-    @Query("select distinct new com.dnd.ground.domain.matrix.dto.MatrixDto(m.latitude, m.longitude) " +
-            "from Matrix m join m.exerciseRecord e where e = :exerciseRecord")
-    List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord);
+    default List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord) {
+        return MatrixDto.of(findCellSetByRecord(exerciseRecord));
+    }
+
+    // matrix row 만 있는(압축 칸 컬럼, 이동 경로 없는) 운동 기록 id 조회
+    @Query("select distinct m.exerciseRecord.id from Matrix m " +
+            "where m.exerciseRecord.cells is null and m.exerciseRecord.route is null")
+    List<Long> findRecordIdsWithoutCells(Pageable pageable);
+
+    // 운동 기록들의 matrix row 삭제
+    @Modifying
+    @Query("delete from Matrix m where m.exerciseRecord.id in :recordIds")
+    int deleteByRecordIds(@Param("recordIds") List<Long> recordIds);
 
     // 운동 기록의 매트릭스 리스트 조회
     @Query("select m from Matrix m where m.exerciseRecord=:exerciseRecord")
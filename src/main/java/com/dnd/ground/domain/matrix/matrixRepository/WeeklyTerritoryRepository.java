@@ -0,0 +1,51 @@
+package com.dnd.ground.domain.matrix.matrixRepository;
+
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.user.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @description 회원의 주간 영역 리포지토리 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 영역 row 생성 upsert, 갱신용 비관적 잠금 조회 추가 : 박세헌
+ */
+
+public interface WeeklyTerritoryRepository extends JpaRepository<WeeklyTerritory, Long> {
+
+    // 회원의 해당 주 영역 조회
+    Optional<WeeklyTerritory> findByUserAndWeekStart(User user, LocalDate weekStart);
+
+    // 회원의 해당 주 영역을 갱신하기 위해 조회 (트랜잭션이 끝날 때까지 row 잠금, 같은 영역의 다른 갱신은 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select w from WeeklyTerritory w where w.user = :user and w.weekStart = :weekStart")
+    Optional<WeeklyTerritory> findForUpdate(@Param("user") User user, @Param("weekStart") LocalDate weekStart);
+
+    // 회원의 해당 주 영역이 없으면 빈 영역 생성 (있으면 그대로)
+    // (user_id, week_start) 유니크 키로 한 문장에서 처리하므로 같은 주의 첫 기록이 동시에 저장되어도 row 는 하나
+    @Modifying
+    @Query(value = "insert into weekly_territory (user_id, week_start, bitmap, area, version, reset_version) " +
+            "values (:userId, :weekStart, :bitmap, 0, 0, 0) " +
+            "on duplicate key update weekly_territory_id = weekly_territory_id", nativeQuery = true)
+    void createIfAbsent(@Param("userId") Long userId, @Param("weekStart") LocalDate weekStart,
+                        @Param("bitmap") byte[] bitmap);
+
+    // 회원들의 해당 주 영역 조회
+    @Query("select w from WeeklyTerritory w where w.user in :users and w.weekStart = :weekStart")
+    List<WeeklyTerritory> findByUsersAndWeekStart(List<User> users, LocalDate weekStart);
+
+    // 회원의 주간 영역 삭제
+    @Modifying
+    @Query("delete from WeeklyTerritory w where w.user = :user")
+    void deleteByUser(User user);
+}
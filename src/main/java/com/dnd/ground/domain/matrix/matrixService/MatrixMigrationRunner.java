@@ -0,0 +1,48 @@
+package com.dnd.ground.domain.matrix.matrixService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @description matrix row 마이그레이션 실행기 (1회용)
+ *              - matrix row 만 있는 기존 운동 기록의 칸을 batch-size 개씩(트랜잭션 하나) 압축 칸 컬럼으로 변환
+ *              - matrix-migration 프로필로 실행할 때만 등록: --spring.profiles.active=dev,matrix-migration
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Slf4j
+@Profile("matrix-migration")
+@Component
+@RequiredArgsConstructor
+public class MatrixMigrationRunner implements ApplicationRunner {
+
+    private final MatrixService matrixService;
+
+    @Value("${matrix.migration.batch-size:100}")
+    private int batchSize;
+
+    @Value("${matrix.migration.delete-rows:false}")
+    private boolean deleteRows;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("**matrix row 마이그레이션 시작** batchSize:{}, deleteRows:{}", batchSize, deleteRows);
+
+        int migrated = 0;
+        List<Long> recordIds;
+        while (!(recordIds = matrixService.findRecordIdsWithoutCells(batchSize)).isEmpty()) {
+            migrated += matrixService.migrateMatrixRows(recordIds, deleteRows);
+        }
+
+        log.info("**matrix row 마이그레이션 완료** 변환한 운동 기록 수:{}", migrated);
+    }
+}
@@ -1,30 +1,69 @@
 package com.dnd.ground.domain.matrix.matrixService;
 
 import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.TerritorySync;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
 import javax.persistence.Tuple;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @description 운동 영역 서비스 인터페이스
  * @author  박세헌
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
- *
+ *          2026-10-18 / 운동 기록의 압축된 칸 저장/조회 추가 - agent
+ *          2026-10-18 / 주간 영역(bitmap) 갱신 및 조회 추가 - agent
+ *          2026-10-18 / 지도 화면 영역(viewport) 안의 칸 조회 추가 - agent
+ *          2026-10-18 / 이번주 영역 변경분 조회 추가 - agent
+ *          2026-10-18 / 이동 경로 저장, matrix row 변환 추가 - agent
+ *          2026-10-18 / 회원들의 영역의 수 한 번에 조회 추가 - agent
+ *          2026-10-18 / 점수 배열 기준 랭킹 계산 추가 - agent
+ *          2026-10-18 / 랭킹 페이지 조회 추가 - agent
  */
 
 public interface MatrixService {
     Matrix save(Matrix matrix);
-    RankResponseDto.Matrix matrixRanking(String nickname);
-    RankResponseDto.Area areaRanking(UserRequestDto.LookUp requestDto);
+    Long saveCells(ExerciseRecord exerciseRecord, long[] cellIds);
+    void saveRoute(ExerciseRecord exerciseRecord, String route);
+    List<Long> findRecordIdsWithoutCells(int size);
+    int migrateMatrixRows(List<Long> recordIds, boolean deleteRows);
+    long[] findCellSetByRecords(List<ExerciseRecord> exerciseRecords);
+    long[] findCellSetByRecords(List<ExerciseRecord> exerciseRecords, Viewport viewport);
+    List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords);
+    List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords, Viewport viewport);
+    List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord);
+    List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord, Viewport viewport);
+    Long countMatrixSetByRecords(List<ExerciseRecord> exerciseRecords);
+    void rebuildWeeklyTerritory(User user, LocalDate weekStart);
+    Roaring64NavigableMap findWeeklyTerritory(User user, LocalDate weekStart);
+    List<MatrixDto> findMatrixSetOfThisWeek(User user);
+    Map<Long, List<MatrixDto>> findMatrixSetOfThisWeek(List<User> users);
+    Map<Long, List<MatrixDto>> findMatrixSetOfThisWeek(List<User> users, Viewport viewport);
+    TerritorySync syncMatrixSetOfThisWeek(List<User> users, Viewport viewport, String since);
+    Long countMatrixSetOfThisWeek(User user);
+    Long countMatrixSet(User user, LocalDateTime start, LocalDateTime end);
+    Map<Long, Long> countMatrixSets(List<User> users, LocalDateTime start, LocalDateTime end);
+    RankResponseDto.Matrix matrixRanking(String nickname, RankingPage page);
+    RankResponseDto.Area areaRanking(UserRequestDto.LookUp requestDto, RankingPage page);
     RankResponseDto.Area challengeRank(Challenge challenge, LocalDateTime start, LocalDateTime end);
 
     List<UserResponseDto.Ranking> calculateMatrixRank(List<Tuple> matrixCount, List<User> member);
     List<UserResponseDto.Ranking> calculateAreaRank(List<UserResponseDto.Ranking> areaRankings);
+    List<UserResponseDto.Ranking> calculateRank(List<User> members, long[] scores, User user);
+    RankResponseDto.Page calculateRank(List<User> members, long[] scores, User user, RankingPage page);
+    long[] scoresOf(List<User> members, List<Tuple> counts);
 }
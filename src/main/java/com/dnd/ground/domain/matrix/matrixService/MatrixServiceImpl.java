@@ -2,33 +2,72 @@ package com.dnd.ground.domain.matrix.matrixService;
 
 import com.dnd.ground.domain.challenge.Challenge;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.friend.service.FriendService;
 import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.MatrixStorageMode;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.TerritorySync;
+import com.dnd.ground.domain.matrix.dto.TerritorySyncToken;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserWeeklyStats;
 import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.repository.UserLifetimeStatsRepository;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.CellPyramid;
+import com.dnd.ground.global.util.CellUtil;
+import com.dnd.ground.global.util.LongHashSet;
+import com.dnd.ground.global.util.PolylineUtil;
+import com.dnd.ground.global.util.RankingEngine;
+import com.dnd.ground.global.util.TrackRasterizer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.*;
 
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.Tuple;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 
 /**
  * @description 운동 영역 서비스 클래스
  * @author  박세헌, 박찬호
  * @since   2022-08-01
  * @updated 2022-08-26 / 컨트롤러-서비스단 전달 형태 변경 - 박세헌
+ *          2026-10-18 / 운동 기록의 압축된 칸 저장/조회 추가 - agent
+ *          2026-10-18 / 주간 영역(bitmap) 갱신 및 조회 추가 - agent
+ *          2026-10-18 / 누적 칸 수 랭킹을 누적 통계에서 조회 - agent
+ *          2026-10-18 / 지도 화면 영역(viewport) 안의 칸만 조회 - agent
+ *          2026-10-18 / 지도 축소 단계에 따라 상위 칸으로 묶어서 조회 - agent
+ *          2026-10-18 / 이번주 영역의 변경분(since 토큰 이후 추가된 칸) 조회 - agent
+ *          2026-10-18 / 셀 ID 배열 합치기를 CellUtil 로 이동 - agent
+ *          2026-10-18 / 칸 저장 시 중복 칸 제거(LongHashSet), 중복 비율 지표 기록 - agent
+ *          2026-10-18 / 압축 칸 컬럼이 없는 기록은 이동 경로로부터 칸 계산, matrix row 변환 추가 - agent
+ *          2026-10-18 / 영역 랭킹: 회원들의 영역의 수를 회원별 group by 쿼리로 한 번에 조회 - agent
+ *          2026-10-18 / 영역 랭킹: 한 주 단위 기간은 주간 통계의 영역의 수로 조회 - agent
+ *          2026-10-18 / 랭킹 계산을 RankingEngine 하나로 통합 - agent
+ *          2026-10-18 / 랭킹 페이지(limit, cursor, 내 순위 주변) 조회 - agent
+ *          2026-10-18 / 주간 영역 갱신 시 row 를 잠그고 읽음, row 생성은 upsert - agent
  */
 
 @Service
@@ -40,34 +79,351 @@ public class MatrixServiceImpl implements MatrixService {
     private final FriendService friendService;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final UserChallengeRepository userChallengeRepository;
+    private final WeeklyTerritoryRepository weeklyTerritoryRepository;
+    private final UserLifetimeStatsRepository userLifetimeStatsRepository;
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${matrix.storage-mode:ROW}")
+    private MatrixStorageMode storageMode;
 
     @Transactional
     public Matrix save(Matrix matrix){
         return matrixRepository.save(matrix);
     }
 
+    // 운동 기록에 칸 저장 (이미 저장된 칸이 있다면 합쳐서 다시 압축)
+    // 요청 안의 중복 칸, 이미 저장된 칸은 제외하고 새로 지나간 칸만 저장
+    // 반환: 운동 기록이 속한 주의 영역의 수
+    @Transactional
+    public Long saveCells(ExerciseRecord exerciseRecord, long[] cellIds) {
+        long[] saved = new long[0];
+
+        if (exerciseRecord.hasCells()) {
+            saved = CellUtil.decompress(exerciseRecord.getCells());
+        }
+        // 경로만 저장된 기록이라면 경로로부터 계산한 칸과 합침
+        else if (exerciseRecord.getId() != null && exerciseRecord.hasRoute()) {
+            saved = cellsOfRoute(exerciseRecord);
+        }
+        // 압축 컬럼이 없던 기존 기록이라면 matrix row 와 합침
+        else if (exerciseRecord.getId() != null) {
+            saved = toArray(matrixRepository.findCellSetByRecord(exerciseRecord));
+        }
+
+        // 새로 지나간 칸 (입력 순서 유지)
+        LongHashSet seen = new LongHashSet(saved.length + cellIds.length);
+        for (long cellId : saved) seen.add(cellId);
+        long[] newCells = new long[cellIds.length];
+        int size = 0;
+        for (long cellId : cellIds) {
+            if (seen.add(cellId)) newCells[size++] = cellId;
+        }
+        newCells = Arrays.copyOf(newCells, size);
+        recordIngestMetrics(cellIds.length, size);
+
+        exerciseRecord.updateCells(CellUtil.compress(CellUtil.concat(saved, newCells)),
+                exerciseRecord.getMatrixNumber() + cellIds.length);
+
+        if (storageMode == MatrixStorageMode.ROW) {
+            for (long cellId : newCells) {
+                exerciseRecord.addMatrix(new Matrix(cellId));
+            }
+        }
+
+        // 운동 기록이 속한 주의 영역 갱신
+        LocalDate weekStart = WeeklyTerritory.weekStartOf(exerciseRecord.getStarted());
+        WeeklyTerritory territory = lockWeeklyTerritory(exerciseRecord.getUser(), weekStart);
+        territory.addCells(newCells);
+        exerciseRecord.updateTerritoryVersion(territory.getVersion());
+        return territory.getArea();
+    }
+
+    // 저장 요청 칸 수(raw), 새로 저장된 칸 수(unique), 비율(unique / raw)
+    private void recordIngestMetrics(int raw, int unique) {
+        meterRegistry.counter("matrix.ingest.cells", "type", "raw").increment(raw);
+        meterRegistry.counter("matrix.ingest.cells", "type", "unique").increment(unique);
+        if (raw > 0) meterRegistry.summary("matrix.ingest.unique.ratio").record((double) unique / raw);
+    }
+
+    // 운동 기록에 이동 경로 저장 (칸 저장 후)
+    // ROUTE: 저장된 칸을 모두 경로로부터 다시 계산할 수 있으면 압축 칸 컬럼은 지움
+    @Transactional
+    public void saveRoute(ExerciseRecord exerciseRecord, String route) {
+        exerciseRecord.updateRoute(route);
+
+        if (storageMode == MatrixStorageMode.ROUTE && exerciseRecord.hasCells()
+                && Arrays.equals(CellUtil.decompress(exerciseRecord.getCells()), cellsOfRoute(exerciseRecord))) {
+            exerciseRecord.updateCells(null, exerciseRecord.getMatrixNumber());
+        }
+    }
+
+    // 운동 기록 삭제 등으로 주간 영역을 운동 기록으로부터 다시 계산
+    @Transactional
+    public void rebuildWeeklyTerritory(User user, LocalDate weekStart) {
+        List<ExerciseRecord> records = exerciseRecordRepository.findRecord(user.getId(),
+                weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay().minusNanos(1));
+
+        WeeklyTerritory territory = lockWeeklyTerritory(user, weekStart);
+        territory.update(Roaring64NavigableMap.bitmapOf(findCellSetByRecords(records)));
+    }
+
+    // 갱신할 주간 영역을 잠그고 조회 (없으면 빈 영역 생성)
+    // 기록 종료, 비동기 저장, 실시간 세션 저장/만료가 같은 영역을 동시에 갱신해도 읽고-합치고-쓰기가 차례로 실행됨
+    private WeeklyTerritory lockWeeklyTerritory(User user, LocalDate weekStart) {
+        weeklyTerritoryRepository.createIfAbsent(user.getId(), weekStart, WeeklyTerritory.emptyBitmap());
+        return weeklyTerritoryRepository.findForUpdate(user, weekStart).orElseThrow();
+    }
+
+    // 회원의 주간 영역 조회 (없으면 빈 영역)
+    public Roaring64NavigableMap findWeeklyTerritory(User user, LocalDate weekStart) {
+        return weeklyTerritoryRepository.findByUserAndWeekStart(user, weekStart)
+                .map(WeeklyTerritory::toBitmap)
+                .orElseGet(Roaring64NavigableMap::new);
+    }
+
+    // 회원의 이번주 영역 조회(중복x)
+    public List<MatrixDto> findMatrixSetOfThisWeek(User user) {
+        long[] cellIds = findWeeklyTerritory(user, WeeklyTerritory.weekStartOf(LocalDateTime.now())).toArray();
+        List<MatrixDto> matrices = new ArrayList<>(cellIds.length);
+        for (long cellId : cellIds) {
+            matrices.add(MatrixDto.of(cellId));
+        }
+        return matrices;
+    }
+
+    // 회원들의 이번주 영역 일괄 조회(중복x) [회원 id, 영역]
+    public Map<Long, List<MatrixDto>> findMatrixSetOfThisWeek(List<User> users) {
+        return findMatrixSetOfThisWeek(users, Viewport.all());
+    }
+
+    // 회원들의 이번주 영역 중 화면 안의 영역 일괄 조회(중복x) [회원 id, 영역]
+    public Map<Long, List<MatrixDto>> findMatrixSetOfThisWeek(List<User> users, Viewport viewport) {
+        return syncMatrixSetOfThisWeek(users, viewport, null).getMatrices();
+    }
+
+    // 회원들의 이번주 영역 중 since 토큰 이후 추가된 칸 조회
+    // 토큰이 없거나, 주나 화면 영역이 바뀌었거나, 토큰 이후 영역이 다시 계산된(칸이 삭제된) 회원이 있으면 전체 영역 조회
+    public TerritorySync syncMatrixSetOfThisWeek(List<User> users, Viewport viewport, String since) {
+        LocalDate weekStart = WeeklyTerritory.weekStartOf(LocalDateTime.now());
+        Map<Long, WeeklyTerritory> territories = new HashMap<>();
+        if (!users.isEmpty()) {
+            weeklyTerritoryRepository.findByUsersAndWeekStart(users, weekStart)
+                    .forEach(t -> territories.put(t.getUser().getId(), t));
+        }
+
+        Map<Long, Long> versions = new HashMap<>();
+        Map<Long, Long> areas = new HashMap<>();
+        for (User user : users) {
+            WeeklyTerritory territory = territories.get(user.getId());
+            versions.put(user.getId(), territory == null ? 0L : territory.getVersion());
+            areas.put(user.getId(), territory == null ? 0L : territory.getArea());
+        }
+        String version = new TerritorySyncToken(weekStart, viewport.key(), versions).encode();
+
+        // 상위 칸의 칸 수는 이어 붙일 수 없으므로 축소된 지도는 항상 전체 조회
+        TerritorySyncToken previous = TerritorySyncToken.decode(viewport.isAggregated() ? null : since)
+                .filter(token -> token.getWeekStart().equals(weekStart) && token.getViewportKey().equals(viewport.key()))
+                .filter(token -> territories.values().stream().noneMatch(t ->
+                        token.contains(t.getUser().getId()) && t.getResetVersion() > token.versionOf(t.getUser().getId())))
+                .orElse(null);
+
+        Map<Long, List<MatrixDto>> matrices = new HashMap<>();
+        List<User> changedUsers = new ArrayList<>();  // 토큰 이후 칸이 추가된 회원
+        long minVersion = Long.MAX_VALUE;
+
+        for (User user : users) {
+            Long userId = user.getId();
+            WeeklyTerritory territory = territories.get(userId);
+
+            if (territory == null) matrices.put(userId, new ArrayList<>());
+            else if (previous == null || !previous.contains(userId)) {
+                // 처음 받는 회원은 전체 영역
+                matrices.put(userId, toMatrices(viewport.filter(territory.toBitmap().toArray()), viewport));
+            }
+            else if (territory.getVersion() > previous.versionOf(userId)) {
+                changedUsers.add(user);
+                minVersion = Math.min(minVersion, previous.versionOf(userId));
+            }
+            else matrices.put(userId, new ArrayList<>());
+        }
+
+        if (!changedUsers.isEmpty()) {
+            Map<Long, List<ExerciseRecord>> recordsByUser = new HashMap<>();
+            for (ExerciseRecord record : exerciseRecordRepository.findRecordsAfterVersion(changedUsers,
+                    weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay().minusNanos(1), minVersion)) {
+                Long userId = record.getUser().getId();
+                if (record.getTerritoryVersion() > previous.versionOf(userId)) {
+                    recordsByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(record);
+                }
+            }
+            for (User user : changedUsers) {
+                List<ExerciseRecord> records = recordsByUser.getOrDefault(user.getId(), new ArrayList<>());
+                matrices.put(user.getId(), toMatrices(findCellSetByRecords(records, viewport), viewport));
+            }
+        }
+
+        return new TerritorySync(matrices, areas, version, previous == null);
+    }
+
+    // 회원의 이번주 영역의 수 조회
+    public Long countMatrixSetOfThisWeek(User user) {
+        return weeklyTerritoryRepository.findByUserAndWeekStart(user, WeeklyTerritory.weekStartOf(LocalDateTime.now()))
+                .map(WeeklyTerritory::getArea)
+                .orElse(0L);
+    }
+
+    // 회원의 (start-end) 사이 영역의 수 조회
+    public Long countMatrixSet(User user, LocalDateTime start, LocalDateTime end) {
+        // 이번주 전체(월요일 ~ 지금 이후)를 조회하는 경우 주간 영역 사용
+        if (isThisWeek(start, end)) return countMatrixSetOfThisWeek(user);
+        return countMatrixSetByRecords(exerciseRecordRepository.findRecord(user.getId(), start, end));
+    }
+
+    // 회원들의 (start-end) 사이 영역의 수 조회 [회원 id -> 영역의 수] (기록이 없는 회원은 0)
+    public Map<Long, Long> countMatrixSets(List<User> users, LocalDateTime start, LocalDateTime end) {
+        Map<Long, Long> areas = new HashMap<>();
+        users.forEach(u -> areas.put(u.getId(), 0L));
+        if (users.isEmpty()) return areas;
+
+        // 한 주 전체(또는 이번주 지금까지) 조회: 주간 통계의 영역의 수 한 번에 조회
+        LocalDate weekStart = WeeklyTerritory.weekStartOf(start);
+        if (UserWeeklyStats.isWeekly(start, end) && weekStart.equals(UserWeeklyStats.lastWeekOf(end))) {
+            for (Tuple area : userWeeklyStatsRepository.findArea(users, weekStart)) {
+                areas.put((Long) area.get(0), (Long) area.get(1));
+            }
+            return areas;
+        }
+
+        // matrix row 만 있는 기록: 회원별 count(distinct 셀 ID)
+        for (Tuple area : matrixRepository.countMatrixSetByUsers(users, start, end)) {
+            areas.put((Long) area.get(0), (Long) area.get(1));
+        }
+
+        // 압축 칸 컬럼(이동 경로)이 있는 기록: 회원별로 모아서 메모리에서 합침
+        Map<Long, List<ExerciseRecord>> compressedRecords = new HashMap<>();
+        for (ExerciseRecord exerciseRecord : exerciseRecordRepository.findCompressedRecords(users, start, end)) {
+            compressedRecords.computeIfAbsent(exerciseRecord.getUser().getId(), id -> new ArrayList<>()).add(exerciseRecord);
+        }
+        if (compressedRecords.isEmpty()) return areas;
+
+        // 두 종류의 기록이 모두 있는 회원은 matrix row 의 셀 ID 도 가져와서 합침 (쿼리 한 번)
+        List<Long> mixedUserIds = new ArrayList<>();
+        compressedRecords.keySet().forEach(id -> {
+            if (areas.get(id) > 0) mixedUserIds.add(id);
+        });
+        Map<Long, List<Long>> rowCells = new HashMap<>();
+        if (!mixedUserIds.isEmpty()) {
+            for (Tuple cell : matrixRepository.findCellSetByUsers(mixedUserIds, start, end)) {
+                rowCells.computeIfAbsent((Long) cell.get(0), id -> new ArrayList<>()).add((Long) cell.get(1));
+            }
+        }
+
+        compressedRecords.forEach((id, records) -> {
+            long[] cellIds = findCellSetByRecords(records);
+            if (rowCells.containsKey(id)) {
+                cellIds = CellUtil.distinctSorted(CellUtil.concat(cellIds, toArray(rowCells.get(id))));
+            }
+            areas.put(id, (long) cellIds.length);
+        });
+        return areas;
+    }
+
+    // 운동기록들의 셀 ID 조회(중복x, 정렬o)
+    public long[] findCellSetByRecords(List<ExerciseRecord> exerciseRecords) {
+        return findCellSetByRecords(exerciseRecords, Viewport.all());
+    }
+
+    // 운동기록들의 화면 안의 셀 ID 조회(중복x, 정렬o)
+    public long[] findCellSetByRecords(List<ExerciseRecord> exerciseRecords, Viewport viewport) {
+        List<ExerciseRecord> rowRecords = new ArrayList<>();  // 압축 컬럼이 없는 기존 기록
+        List<long[]> chunks = new ArrayList<>();
+
+        for (ExerciseRecord exerciseRecord : exerciseRecords) {
+            if (exerciseRecord.hasCells()) chunks.add(viewport.filterSorted(CellUtil.decompress(exerciseRecord.getCells())));
+            else if (exerciseRecord.hasRoute()) chunks.add(viewport.filterSorted(cellsOfRoute(exerciseRecord)));
+            else rowRecords.add(exerciseRecord);
+        }
+
+        if (!rowRecords.isEmpty()) {
+            if (viewport.isBounded()) {
+                chunks.add(viewport.filter(toArray(matrixRepository.findCellSetByRecordsBetween(rowRecords,
+                        viewport.lowerCellId(), viewport.upperCellId()))));
+            }
+            else chunks.add(toArray(matrixRepository.findCellSetByRecords(rowRecords)));
+        }
+
+        if (chunks.isEmpty()) return new long[0];
+        if (chunks.size() == 1) return chunks.get(0);  // 기록 하나라면 이미 정렬, 중복 제거된 상태
+        return CellUtil.distinctSorted(CellUtil.concat(chunks.toArray(new long[0][])));
+    }
+
+    // 운동기록들의 영역 조회(중복x)
+    public List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords) {
+        return findMatrixSetByRecords(exerciseRecords, Viewport.all());
+    }
+
+    // 운동기록들의 화면 안의 영역 조회(중복x)
+    public List<MatrixDto> findMatrixSetByRecords(List<ExerciseRecord> exerciseRecords, Viewport viewport) {
+        return toMatrices(findCellSetByRecords(exerciseRecords, viewport), viewport);
+    }
+
+    // 운동기록의 영역 조회(중복x)
+    public List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord) {
+        return findMatrixSetByRecord(exerciseRecord, Viewport.all());
+    }
+
+    // 운동기록의 화면 안의 영역 조회(중복x)
+    public List<MatrixDto> findMatrixSetByRecord(ExerciseRecord exerciseRecord, Viewport viewport) {
+        if (!exerciseRecord.hasCells() && !exerciseRecord.hasRoute() && !viewport.isBounded() && !viewport.isAggregated()) {
+            return matrixRepository.findMatrixSetByRecord(exerciseRecord);
+        }
+        return findMatrixSetByRecords(List.of(exerciseRecord), viewport);
+    }
+
+    // 운동기록들의 영역의 수 조회(중복x)
+    public Long countMatrixSetByRecords(List<ExerciseRecord> exerciseRecords) {
+        if (exerciseRecords.size() == 1 && exerciseRecords.get(0).hasCells()) {
+            return (long) CellUtil.compressedSize(exerciseRecords.get(0).getCells());
+        }
+        return (long) findCellSetByRecords(exerciseRecords).length;
+    }
+
+    // 압축 칸 컬럼이 없는 기존 기록 id 조회 (matrix row 변환 대상)
+    public List<Long> findRecordIdsWithoutCells(int size) {
+        return matrixRepository.findRecordIdsWithoutCells(PageRequest.of(0, size));
+    }
+
+    // 기존 기록의 matrix row 를 압축 칸 컬럼으로 변환 (deleteRows: 변환 후 matrix row 삭제)
+    @Transactional
+    public int migrateMatrixRows(List<Long> recordIds, boolean deleteRows) {
+        List<ExerciseRecord> exerciseRecords = exerciseRecordRepository.findAllById(recordIds);
+        for (ExerciseRecord exerciseRecord : exerciseRecords) {
+            long[] cellIds = toArray(matrixRepository.findCellSetByRecord(exerciseRecord));
+            int matrixNumber = exerciseRecord.getMatrixNumber() == 0 ? cellIds.length : exerciseRecord.getMatrixNumber();
+            exerciseRecord.updateCells(CellUtil.compress(cellIds), matrixNumber);
+        }
+        if (deleteRows) matrixRepository.deleteByRecordIds(recordIds);
+        return exerciseRecords.size();
+    }
+
     // 랭킹 조회(역대 누적 칸의 수 기준)
-    public RankResponseDto.Matrix matrixRanking(String nickname) {
+    public RankResponseDto.Matrix matrixRanking(String nickname, RankingPage page) {
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
         List<User> userAndFriends = friendService.getFriends(user);  // 친구들 조회
         userAndFriends.add(user);  // 유저 추가
 
-        LocalDateTime start = user.getCreated();
-        LocalDateTime end = LocalDateTime.now();
-
-        // [Tuple(닉네임, 이번주 누적 칸수, 프로필 path)] 칸수 기준 내림차순 정렬
-        List<Tuple> matrixCount = exerciseRecordRepository.findMatrixCount(userAndFriends, start, end);
+        // [Tuple(닉네임, 역대 누적 칸수, 프로필 path)] 칸수 기준 내림차순 정렬
+        List<Tuple> matrixCount = userLifetimeStatsRepository.findMatrixCount(userAndFriends);
 
         // 랭킹 계산[랭킹, 닉네임, 칸의 수]
-        List<UserResponseDto.Ranking> matrixRankings = calculateUserMatrixRank(matrixCount, userAndFriends, user);
-
-        return new RankResponseDto.Matrix(matrixRankings);
+        return new RankResponseDto.Matrix(calculateRank(userAndFriends, scoresOf(userAndFriends, matrixCount), user, page));
     }
 
     // 랭킹 조회(누적 영역의 수 기준)
-    public RankResponseDto.Area areaRanking(UserRequestDto.LookUp requestDto) {
+    public RankResponseDto.Area areaRanking(UserRequestDto.LookUp requestDto, RankingPage page) {
 
         String nickname = requestDto.getNickname();
         LocalDateTime start = requestDto.getStart();
@@ -78,212 +434,152 @@ public class MatrixServiceImpl implements MatrixService {
 
         List<User> friends = friendService.getFriends(user);  // 친구들 조회
 
-        List<UserResponseDto.Ranking> areaRankings = new ArrayList<>();  // [랭킹, 닉네임, 영역의 수]
-
-        // 유저의 닉네임과 영역의 수 대입
-        areaRankings.add(new UserResponseDto.Ranking(1, user.getNickname(),
-                (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(user.getId(), start, end)).size(), user.getPicturePath()));
-
-        // 친구들의 닉네임과 영역의 수 대입
-        friends.forEach(f -> areaRankings.add(new UserResponseDto.Ranking(1, f.getNickname(),
-                (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(f.getId(), start, end)).size(), f.getPicturePath())));
+        List<User> userAndFriends = new ArrayList<>(friends);
+        userAndFriends.add(0, user);
+        Map<Long, Long> areas = countMatrixSets(userAndFriends, start, end);  // 회원별 영역의 수(쿼리 한 번)
 
         // 랭킹 계산 후 반환
-        return new RankResponseDto.Area(calculateUserAreaRank(areaRankings, user));
+        return new RankResponseDto.Area(calculateRank(userAndFriends, scoresOf(userAndFriends, areas), user, page));
     }
 
     /*챌린지 랭킹 조회*/
     public RankResponseDto.Area challengeRank(Challenge challenge, LocalDateTime start, LocalDateTime end) {
         List<User> member = userChallengeRepository.findChallengeUsers(challenge);//챌린지에 참여하는 회원 리스트
-        List<UserResponseDto.Ranking> areaRankings = new ArrayList<>();
-
-        for (User m : member) {
-            areaRankings.add(
-                    new UserResponseDto.Ranking(
-                            1,
-                            m.getNickname(),
-                            (long) matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecord(m.getId(), start, end)).size(),
-                            m.getPicturePath())
-            );
-        }
+        Map<Long, Long> areas = countMatrixSets(member, start, end);  // 회원별 영역의 수(쿼리 한 번)
 
         //랭킹 계산 후 반환
-        return new RankResponseDto.Area(calculateAreaRank(areaRankings));
+        return new RankResponseDto.Area(calculateRank(member, scoresOf(member, areas), null));
     }
 
-    /*칸 수 기준 랭킹 계산*/
+    /*칸 수 기준 랭킹 계산 (matrixCount: [닉네임, 칸 수, 프로필 path], 없는 회원은 0점)*/
     public List<UserResponseDto.Ranking> calculateMatrixRank(List<Tuple> matrixCount, List<User> member) {
-        List<UserResponseDto.Ranking> matrixRankings = new ArrayList<>();
-        int count = 0;
-        int rank = 1;
-
-        // 1명이라도 0점이 아니라면
-        if (!matrixCount.isEmpty()) {
-            Long matrixNumber = (Long) matrixCount.get(0).get(1);  // 맨 처음 user의 칸 수
-            for (Tuple info : matrixCount) {
-                if (Objects.equals(info.get(1), matrixNumber)) {  // 전 유저와 칸수가 같다면 랭크 유지
-                    matrixRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                            (Long) info.get(1), (String) info.get(2)));
-                    count += 1;
-                    continue;
-                }
-                // 전 유저보다 작다면 랭크+1
-                count += 1;
-                rank = count;
-                matrixRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                        (Long) info.get(1), (String) info.get(2)));
-                matrixNumber = (Long) info.get(1);  // 칸 수 update!
-            }
-            rank += 1;
-            // 나머지 0점인 유저들 추가
-            for (int i = count; i < member.size(); i++) {
-                matrixRankings.add(new UserResponseDto.Ranking(rank, member.get(i).getNickname(), 0L, member.get(i).getPicturePath()));
-            }
-        }
-
-        // 전부다 0점이라면
-        else {
-            for (int i = count; i < member.size(); i++) {
-                matrixRankings.add(new UserResponseDto.Ranking(rank, member.get(i).getNickname(), 0L, member.get(i).getPicturePath()));
-            }
-        }
-
-        return matrixRankings;
+        return calculateRank(member, scoresOf(member, matrixCount), null);
     }
 
     /*영역 기준 랭킹 계산*/
     public List<UserResponseDto.Ranking> calculateAreaRank(List<UserResponseDto.Ranking> areaRankings) {
-        //내림차순 정렬
-        areaRankings.sort((a, b) -> b.getScore().compareTo(a.getScore()));
-
-        Long areaNumber = areaRankings.get(0).getScore();  // 맨 처음 user의 영역 수
-        int rank = 1;
-        int count = 1;
-        for (int i=1; i<areaRankings.size(); i++){
-            if (Objects.equals(areaRankings.get(i).getScore(), areaNumber)){  // 전 유저와 영역 수가 같다면 랭크 유지
-                areaRankings.get(i).setRank(rank);
-                count += 1;
-                continue;
-            }
-            // 전 유저보다 영역 수가 작다면 랭크+1
-            count += 1;
-            rank = count;
-            areaRankings.get(i).setRank(rank);
-            areaNumber = areaRankings.get(i).getScore();  // 영역 수 update!
+        long[] scores = new long[areaRankings.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = areaRankings.get(i).getScore();
         }
 
-        return areaRankings;
+        RankingEngine.Ranked ranked = RankingEngine.rank(scores);
+        List<UserResponseDto.Ranking> rankings = new ArrayList<>(scores.length);
+        for (int p = 0; p < ranked.size(); p++) {
+            UserResponseDto.Ranking ranking = areaRankings.get(ranked.indexAt(p));
+            ranking.setRank(ranked.rankAt(p));
+            rankings.add(ranking);
+        }
+        return rankings;
     }
 
-    /*칸 수 기준 랭킹 계산(랭킹탭)*/
-    public List<UserResponseDto.Ranking> calculateUserMatrixRank(List<Tuple> matrixCount, List<User> member, User user) {
-        List<UserResponseDto.Ranking> matrixRankings = new ArrayList<>();
-        int count = 0;
-        int rank = 1;
+    /*랭킹 계산: 회원들과 같은 순서의 점수 -> [랭킹, 닉네임, 점수] 점수 내림차순 (user 가 있으면 맨 앞에 한 번 더)*/
+    public List<UserResponseDto.Ranking> calculateRank(List<User> members, long[] scores, User user) {
+        RankingEngine.Ranked ranked = RankingEngine.rank(scores);
+        List<UserResponseDto.Ranking> rankings = new ArrayList<>(members.size() + 1);
 
-        UserResponseDto.Ranking userRanking = null;
+        int userIndex = user == null ? -1 : members.indexOf(user);
+        if (userIndex >= 0) {
+            int position = ranked.positionOf(userIndex);
+            rankings.add(new UserResponseDto.Ranking(ranked.rankAt(position), user.getNickname(),
+                    scores[userIndex], user.getPicturePath()));
+        }
+        for (int p = 0; p < ranked.size(); p++) {
+            User member = members.get(ranked.indexAt(p));
+            rankings.add(new UserResponseDto.Ranking(ranked.rankAt(p), member.getNickname(),
+                    scores[ranked.indexAt(p)], member.getPicturePath()));
+        }
+        return rankings;
+    }
 
-        // 1명이라도 0점이 아니라면
-        if (!matrixCount.isEmpty()) {
-            Long matrixNumber = (Long) matrixCount.get(0).get(1);  // 맨 처음 user의 칸 수
-            for (Tuple info : matrixCount) {
-                if (Objects.equals(info.get(1), matrixNumber)) {  // 전 유저와 칸수가 같다면 랭크 유지
+    /*랭킹 페이지 계산: 전체 정렬 없이 [offset, offset + limit) 순서만 heap 으로 선택 (user 가 있으면 맨 앞에 한 번 더)
+      - around: user 의 순서를 가운데에 두고 limit 명, 다음 커서는 마지막 순서 다음*/
+    public RankResponseDto.Page calculateRank(List<User> members, long[] scores, User user, RankingPage page) {
+        if (!page.isPaged()) return new RankResponseDto.Page(calculateRank(members, scores, user), null);
+
+        int limit = page.getLimit();
+        int userIndex = user == null ? -1 : members.indexOf(user);
+        int offset = page.offset();
+        if (page.isAround() && userIndex >= 0) {
+            int position = RankingEngine.positionOf(scores, userIndex);
+            offset = Math.max(0, Math.min(position - limit / 2, scores.length - limit));
+        }
 
-                    // 유저 찾았으면 저장해둠
-                    if (Objects.equals((String)info.get(0), user.getNickname())) {
-                        matrixRankings.add(0, new UserResponseDto.Ranking(rank, (String) info.get(0),
-                                (Long) info.get(1), user.getPicturePath()));
-                    }
+        RankingEngine.Ranked ranked = RankingEngine.page(scores, offset, limit);
+        List<UserResponseDto.Ranking> rankings = new ArrayList<>(ranked.size() + 1);
+        if (userIndex >= 0) {
+            rankings.add(new UserResponseDto.Ranking(RankingEngine.rankOf(scores, userIndex), user.getNickname(),
+                    scores[userIndex], user.getPicturePath()));
+        }
+        for (int p = 0; p < ranked.size(); p++) {
+            User member = members.get(ranked.indexAt(p));
+            rankings.add(new UserResponseDto.Ranking(ranked.rankAt(p), member.getNickname(),
+                    scores[ranked.indexAt(p)], member.getPicturePath()));
+        }
 
-                    matrixRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                            (Long) info.get(1), (String) info.get(2)));
-                    count += 1;
-                    continue;
-                }
+        int next = offset + ranked.size();
+        return new RankResponseDto.Page(rankings, next < scores.length ? String.valueOf(next) : null);
+    }
 
-                // 전 유저보다 칸 수가 작다면 앞에 있는 사람수 만큼이 자신 랭킹
-                count += 1;
-                rank = count;
+    /*[닉네임, 점수, ...] 조회 결과 -> 회원들과 같은 순서의 점수 (없는 회원은 0)*/
+    public long[] scoresOf(List<User> members, List<Tuple> counts) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            indexes.put(members.get(i).getNickname(), i);
+        }
 
-                // 유저 찾았으면 저장해둠
-                if (Objects.equals((String)info.get(0), user.getNickname())) {
-                    matrixRankings.add(0, new UserResponseDto.Ranking(rank, (String) info.get(0),
-                            (Long) info.get(1), user.getPicturePath()));
-                }
+        long[] scores = new long[members.size()];
+        for (Tuple count : counts) {
+            Integer index = indexes.get(count.get(0, String.class));
+            Number score = (Number) count.get(1);
+            if (index != null && score != null) scores[index] = score.longValue();
+        }
+        return scores;
+    }
 
-                matrixRankings.add(new UserResponseDto.Ranking(rank, (String) info.get(0),
-                        (Long) info.get(1), (String) info.get(2)));
-                matrixNumber = (Long) info.get(1);  // 칸 수 update!
-            }
-            rank = count+1;
-            // 나머지 0점인 유저들 추가
-            for (int i = count; i < member.size(); i++) {
-                // 유저 찾았으면 저장해둠
-                if (Objects.equals(member.get(i).getNickname(), user.getNickname())) {
-                    matrixRankings.add(0, new UserResponseDto.Ranking(rank, user.getNickname(),
-                            0L, user.getPicturePath()));
-                }
-                matrixRankings.add(new UserResponseDto.Ranking(rank, member.get(i).getNickname(), 0L,member.get(i).getPicturePath()));
-            }
+    // 회원 id -> 점수 조회 결과 -> 회원들과 같은 순서의 점수
+    private static long[] scoresOf(List<User> members, Map<Long, Long> counts) {
+        long[] scores = new long[members.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = counts.getOrDefault(members.get(i).getId(), 0L);
         }
+        return scores;
+    }
 
-        // 전부다 0점이라면
-        else {
-            // 맨앞 유저 추가
-            matrixRankings.add(new UserResponseDto.Ranking(rank, user.getNickname(), 0L, user.getPicturePath()));
-            for (int i = count; i < member.size(); i++) {
-                matrixRankings.add(new UserResponseDto.Ranking(rank, member.get(i).getNickname(), 0L, member.get(i).getPicturePath()));
+    // 셀 ID -> 칸 dto (축소 단계가 있으면 상위 칸으로 묶어서 최대 MAX_CELLS 개)
+    private static List<MatrixDto> toMatrices(long[] cellIds, Viewport viewport) {
+        List<MatrixDto> matrices = new ArrayList<>();
+        if (!viewport.isAggregated()) {
+            for (long cellId : cellIds) {
+                matrices.add(MatrixDto.of(cellId));
             }
+            return matrices;
         }
 
-        return matrixRankings;
+        CellPyramid.Cells cells = CellPyramid.aggregate(cellIds, viewport.getLevel(), CellPyramid.MAX_CELLS);
+        for (int i = 0; i < cells.size(); i++) {
+            matrices.add(MatrixDto.of(cells.getCellIds()[i], cells.getCounts()[i]));
+        }
+        return matrices;
     }
 
-    /*영역 기준 랭킹 계산(랭킹탭)*/
-    public List<UserResponseDto.Ranking> calculateUserAreaRank(List<UserResponseDto.Ranking> areaRankings, User user) {
-        //내림차순 정렬
-        areaRankings.sort((a, b) -> b.getScore().compareTo(a.getScore()));
-
-        Long areaNumber = areaRankings.get(0).getScore();  // 맨 처음 user의 영역 수
-        int rank = 1;
-        int count = 1;
-
-        for (int i=1; i<areaRankings.size(); i++){
-
-            // 전 유저와 영역 수가 같다면 랭크 유지
-            if (Objects.equals(areaRankings.get(i).getScore(), areaNumber)){
-
-                // 유저 찾았으면 저장해둠
-                if (Objects.equals(areaRankings.get(i).getNickname(), user.getNickname())) {
-                    areaRankings.add(0, new UserResponseDto.Ranking(rank, user.getNickname(), areaRankings.get(i).getScore(), user.getPicturePath()));
-                    i += 1;
-                    areaRankings.get(i).setRank(rank);
-                    areaNumber = areaRankings.get(i).getScore();
-                    continue;
-                }
+    // start 가 이번주 월요일 0시이고, end 가 지금 이후라면 이번주 전체 조회
+    private static boolean isThisWeek(LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime weekStart = WeeklyTerritory.weekStartOf(now).atStartOfDay();
+        return start.isEqual(weekStart) && !end.isBefore(now) && end.isBefore(weekStart.plusWeeks(1));
+    }
 
-                areaRankings.get(i).setRank(rank);
-                count += 1;
-                continue;
-            }
-            // 전 유저보다 영역수 가 작다면 앞에 있는 사람수 만큼이 자신 랭킹
-            count += 1;
-            rank = count;
-
-            // 유저 찾았으면 저장해둠
-            if (Objects.equals(areaRankings.get(i).getNickname(), user.getNickname())) {
-                areaRankings.add(0, new UserResponseDto.Ranking(rank, user.getNickname(), areaRankings.get(i).getScore(), user.getPicturePath()));
-                i += 1;
-                areaRankings.get(i).setRank(rank);
-                areaNumber = areaRankings.get(i).getScore();
-                continue;
-            }
+    // 이동 경로로부터 계산한 칸 (정렬o, 중복x)
+    private static long[] cellsOfRoute(ExerciseRecord exerciseRecord) {
+        return CellUtil.distinctSorted(TrackRasterizer.rasterize(PolylineUtil.decode(exerciseRecord.getRoute())));
+    }
 
-            areaRankings.get(i).setRank(rank);
-            areaNumber = areaRankings.get(i).getScore();  // 영역 수 update!
+    private static long[] toArray(List<Long> cellIds) {
+        long[] array = new long[cellIds.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = cellIds.get(i);
         }
-
-        return areaRankings;
+        return array;
     }
-
 }
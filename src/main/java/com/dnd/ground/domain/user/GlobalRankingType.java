@@ -0,0 +1,15 @@
+package com.dnd.ground.domain.user;
+
+/**
+ * @description 전체 회원 주간 랭킹 종류
+ *              STEP: 이번주 걸음 수
+ *              MATRIX: 이번주 채운 칸의 수(중복o)
+ *              AREA: 이번주 영역의 수(중복x)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public enum GlobalRankingType {
+    STEP, MATRIX, AREA
+}
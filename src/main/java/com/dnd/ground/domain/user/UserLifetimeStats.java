@@ -0,0 +1,74 @@
+package com.dnd.ground.domain.user;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * @description 회원의 역대 누적 운동 통계 엔티티
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / id 생성 IDENTITY 로 변경 (운동 기록 반영 upsert) : 박세헌
+ */
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_lifetime_stats")
+@Entity
+public class UserLifetimeStats {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_lifetime_stats_id")
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(name = "record_number", nullable = false)
+    private Integer recordNumber;
+
+    @Column(name = "step_count", nullable = false)
+    private Long stepCount;
+
+    @Column(nullable = false)
+    private Long distance;
+
+    @Column(name = "exercise_time", nullable = false)
+    private Long exerciseTime;
+
+    // 역대 누적 칸의 수(중복o)
+    @Column(name = "matrix_number", nullable = false)
+    private Long matrixNumber;
+
+    public UserLifetimeStats(User user) {
+        this.user = user;
+        this.recordNumber = 0;
+        this.stepCount = 0L;
+        this.distance = 0L;
+        this.exerciseTime = 0L;
+        this.matrixNumber = 0L;
+    }
+
+    // 초기화(재계산용)
+    public void reset() {
+        this.recordNumber = 0;
+        this.stepCount = 0L;
+        this.distance = 0L;
+        this.exerciseTime = 0L;
+        this.matrixNumber = 0L;
+    }
+
+    // 운동 기록 반영
+    public void addRecord(ExerciseRecord exerciseRecord) {
+        this.recordNumber += 1;
+        this.stepCount += exerciseRecord.getStepCount();
+        this.distance += exerciseRecord.getDistance();
+        this.exerciseTime += exerciseRecord.getExerciseTime();
+        this.matrixNumber += exerciseRecord.getMatrixNumber();
+    }
+}
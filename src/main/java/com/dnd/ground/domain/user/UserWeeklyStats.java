@@ -0,0 +1,101 @@
+package com.dnd.ground.domain.user;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * @description 회원의 주간 운동 통계 엔티티
+ *              - 운동 기록이 저장될 때 함께 갱신되어 마이페이지, 랭킹 조회 시 한 row 만 조회
+ *              - 조회 기간이 주 단위(월요일 0시 ~ 일요일 끝, 또는 지금까지)이면 랭킹도 기록 대신 이 통계로 계산
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 주 단위 기간 판별 추가 : 박세헌
+ *          2022-10-18 / id 생성 IDENTITY 로 변경 (운동 기록 반영 upsert) : 박세헌
+ */
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_weekly_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_weekly_stats_user_week", columnNames = {"user_id", "week_start"}))
+@Entity
+public class UserWeeklyStats {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_weekly_stats_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "step_count", nullable = false)
+    private Integer stepCount;
+
+    @Column(nullable = false)
+    private Integer distance;
+
+    @Column(name = "exercise_time", nullable = false)
+    private Integer exerciseTime;
+
+    // 채운 칸의 수(중복o)
+    @Column(name = "matrix_number", nullable = false)
+    private Long matrixNumber;
+
+    // 영역의 수(중복x)
+    @Column(nullable = false)
+    private Long area;
+
+    public UserWeeklyStats(User user, LocalDate weekStart) {
+        this.user = user;
+        this.weekStart = weekStart;
+        this.stepCount = 0;
+        this.distance = 0;
+        this.exerciseTime = 0;
+        this.matrixNumber = 0L;
+        this.area = 0L;
+    }
+
+    // 초기화(재계산용)
+    public void reset() {
+        this.stepCount = 0;
+        this.distance = 0;
+        this.exerciseTime = 0;
+        this.matrixNumber = 0L;
+        this.area = 0L;
+    }
+
+    // (start-end) 기간이 주 단위인지 여부: 월요일 0시에 시작하고, 일요일 끝(다음 월요일 0시 직전)이나 지금 이후에 끝남
+    public static boolean isWeekly(LocalDateTime start, LocalDateTime end) {
+        if (!start.isEqual(WeeklyTerritory.weekStartOf(start).atStartOfDay()) || end.isBefore(start)) return false;
+        if (!end.isBefore(LocalDateTime.now())) return true;
+
+        LocalDateTime next = end.plusNanos(1);
+        return next.isEqual(WeeklyTerritory.weekStartOf(next).atStartOfDay());
+    }
+
+    // 주 단위 기간의 마지막 주 (지금 이후에 끝나면 이번주)
+    public static LocalDate lastWeekOf(LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        return WeeklyTerritory.weekStartOf(end.isAfter(now) ? now : end);
+    }
+
+    // 운동 기록 반영
+    public void addRecord(ExerciseRecord exerciseRecord, Long area) {
+        this.stepCount += exerciseRecord.getStepCount();
+        this.distance += exerciseRecord.getDistance();
+        this.exerciseTime += exerciseRecord.getExerciseTime();
+        this.matrixNumber += exerciseRecord.getMatrixNumber();
+        this.area = area;
+    }
+}
@@ -12,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
-import java.net.UnknownHostException;
 import java.util.Map;
 
 /**
@@ -23,6 +22,8 @@ import java.util.Map;
  *          2.닉네임 검사 URL 변경(/validate/~ -> /check/~)
  *          3.회원가입 로직 추가
  *          - 2022.09.12 박찬호
+ *          4.회원가입 시 내부 호출로 변경 (UnknownHostException 제거)
+ *          - 2022.10.18 박찬호
  */
 
 @Api(tags = "회원 인증/인가 및 로그인")
@@ -48,7 +49,7 @@ public class AuthController {
     @PostMapping("/signup")
     @Operation(summary = "회원 가입", description = "Request: 헤더에 Kakao-Access-Token:카카오 엑세스토큰, 바디에 닉네임, KakaoRefreshToken\nResponse: 헤더에 자체 엑세스, 리프레시 토큰 + 바디에 닉네임")
     public ResponseEntity<UserResponseDto.SignUp> signUp(@RequestHeader(value="Kakao-Access-Token") String kakaoAccessToken,
-                                                         @RequestBody UserRequestDto.SignUp request) throws ParseException, UnknownHostException {
+                                                         @RequestBody UserRequestDto.SignUp request) throws ParseException {
         return authService.signUp(kakaoAccessToken, request);
     }
 
@@ -3,10 +3,12 @@ package com.dnd.ground.domain.user.controller;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 import io.swagger.annotations.ApiParam;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -17,10 +19,13 @@ import org.springframework.web.bind.annotation.RequestParam;
  * @since   2022-08-02
  * @updated 운동 기록 날짜 조회 api
  *          - 2022-09-24 박세헌
+ *          지도 화면 영역(viewport) 파라미터 추가
+ *          - 2022-10-18 박세헌
  */
 
 public interface UserController {
-    ResponseEntity<?> home(@RequestParam("nickName") String nickName);
+    ResponseEntity<?> home(@RequestParam("nickName") String nickName, @ModelAttribute Viewport viewport,
+                           @RequestParam(value = "since", required = false) String since);
     ResponseEntity<UserResponseDto.Profile> getUserInfo(@RequestParam("nickname") String nickname);
     ResponseEntity<FriendResponseDto.FriendProfile> getUserProfile(
             @ApiParam(value = "회원 닉네임", required = true) @RequestParam("user") String userNickname,
@@ -28,7 +33,7 @@ public interface UserController {
 
     ResponseEntity<UserResponseDto.ActivityRecordResponseDto> getActivityRecord(@RequestBody UserRequestDto.LookUp requestDto);
     ResponseEntity<RecordResponseDto.EInfo> getRecordInfo(@RequestParam("recordId") Long recordId);
-    ResponseEntity<UserResponseDto.DetailMap> getDetailMap(@RequestParam("recordId") Long recordId);
+    ResponseEntity<UserResponseDto.DetailMap> getDetailMap(@RequestParam("recordId") Long recordId, @ModelAttribute Viewport viewport);
 
     ResponseEntity<Boolean> changeFilterMine(@RequestParam("nickname") String nickname);
     ResponseEntity<Boolean> changeFilterFriend(@RequestParam("nickname") String nickname);
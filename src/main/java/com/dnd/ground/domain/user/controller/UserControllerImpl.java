@@ -3,6 +3,7 @@ package com.dnd.ground.domain.user.controller;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.user.dto.HomeResponseDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
@@ -22,6 +23,8 @@ import org.springframework.web.bind.annotation.*;
  * @since   2022-08-02
  * @updated 운동 기록 날짜 조회 api
  *           - 2022-09-24 박세헌
+ *          지도 화면 영역(viewport) 파라미터 추가
+ *           - 2022-10-18 박세헌
  */
 
 @Api(tags = "유저")
@@ -38,9 +41,14 @@ public class UserControllerImpl implements UserController {
     @Operation(summary = "홈 화면 조회",
             description = "닉네임을 통해 홈화면에 필요한 유저 정보(userMatrices)\n" +
                     "나와 챌린지를 안하는 친구 정보(friendMatrices, 리스트)\n" +
-                    "나와 챌린지를 하는 유저 정보(challengeMatrices, 리스트) 조회")
-    public ResponseEntity<HomeResponseDto> home(@RequestParam("nickname") String nickName){
-        return ResponseEntity.ok(userService.showHome(nickName));
+                    "나와 챌린지를 하는 유저 정보(challengeMatrices, 리스트) 조회\n" +
+                    "minLatitude, maxLatitude, minLongitude, maxLongitude 를 모두 보내면 해당 화면 영역 안의 칸만 조회\n" +
+                    "level(지도 축소 단계)을 보내면 상위 칸으로 묶어서(count 포함) 최대 2000개까지 조회\n" +
+                    "since 에 이전 응답의 version 을 보내면 이후 추가된 칸만 조회(fullRefresh=false). " +
+                    "주가 바뀌거나, 화면 영역이 바뀌거나, level 이 있으면 전체 조회(fullRefresh=true)")
+    public ResponseEntity<HomeResponseDto> home(@RequestParam("nickname") String nickName, @ModelAttribute Viewport viewport,
+                                                @ApiParam(value = "이전 응답의 version (보내면 이후 추가된 칸만 조회)") @RequestParam(value = "since", required = false) String since){
+        return ResponseEntity.ok(userService.showHome(nickName, viewport, since));
     }
 
     @GetMapping("/info")
@@ -74,9 +82,11 @@ public class UserControllerImpl implements UserController {
     }
 
     @GetMapping("/info/activity/record/map")
-    @Operation(summary = "상세 지도", description = "기록 id를 받아 나의 활동 기록에서 해당 기록의 상세 지도 조회")
-    public ResponseEntity<UserResponseDto.DetailMap> getDetailMap(@RequestParam("recordId") Long recordId){
-        return ResponseEntity.ok().body(userService.getDetailMap(recordId));
+    @Operation(summary = "상세 지도", description = "기록 id를 받아 나의 활동 기록에서 해당 기록의 상세 지도 조회\n" +
+            "minLatitude, maxLatitude, minLongitude, maxLongitude 를 모두 보내면 해당 화면 영역 안의 칸만 조회\n" +
+            "level(지도 축소 단계)을 보내면 상위 칸으로 묶어서(count 포함) 최대 2000개까지 조회")
+    public ResponseEntity<UserResponseDto.DetailMap> getDetailMap(@RequestParam("recordId") Long recordId, @ModelAttribute Viewport viewport){
+        return ResponseEntity.ok().body(userService.getDetailMap(recordId, viewport));
     }
 
     @PostMapping("filter/mine")
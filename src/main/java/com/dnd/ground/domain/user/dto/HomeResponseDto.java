@@ -13,6 +13,10 @@ import java.util.*;
  * @since   2022-08-02
  * @updated 1. 메인화면 필터와 관련된 필드 추가
  *          - 2022.08.08 박찬호
+ *          2. 변경분 조회를 위한 영역 버전, 전체 조회 여부 필드 추가
+ *          - 2022.10.18 박세헌
+ *          3. 실시간 기록 세션 id 필드 추가
+ *          - 2022.10.18 박세헌
  */
 
 @Data @Builder
@@ -38,4 +42,13 @@ public class HomeResponseDto {
 
     @ApiModelProperty(value="메인화면 필터: 친구들에게 보이기", example="true")
     private Boolean isPublicRecord;
+
+    @ApiModelProperty(value="영역 버전 토큰(다음 요청의 since 로 사용)", example="MjAyMi0xMC0xN3wxOjMsMjo3")
+    private String version;
+
+    @ApiModelProperty(value="true: 전체 영역(기존 칸을 모두 교체), false: since 이후 추가된 칸만(기존 칸에 추가)", example="true")
+    private Boolean fullRefresh;
+
+    @ApiModelProperty(value="실시간 기록 세션 id(기록 시작 시 live=true 인 경우만)", example="3f2b8c1e-0d4a-4e36-9a51-6c1f0b2d7e89")
+    private String sessionId;
 }
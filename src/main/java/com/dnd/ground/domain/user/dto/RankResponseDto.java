@@ -1,9 +1,12 @@
 package com.dnd.ground.domain.user.dto;
 
+import com.dnd.ground.domain.user.GlobalRankingType;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +16,10 @@ import java.util.List;
  * @since   2022-08-08
  * @updated 1. API 명세 수정
  *          - 2022.08.18 박찬호
+ *          2. 랭킹 페이지 조회(nextCursor) 추가
+ *          - 2022.10.18 박세헌
+ *          3. 전체 회원 주간 랭킹 추가
+ *          - 2022.10.18 박세헌
  */
 
 @Data
@@ -23,6 +30,17 @@ public class RankResponseDto {
     public static class Matrix {
         @ApiModelProperty(value="누적 영역의 수를 기준 내림차순으로 유저들을 정렬", required = true)
         List<UserResponseDto.Ranking> matrixRankings;
+
+        @ApiModelProperty(value="다음 페이지 커서 (마지막 페이지, 전체 조회면 null)")
+        String nextCursor;
+
+        public Matrix(List<UserResponseDto.Ranking> matrixRankings) {
+            this.matrixRankings = matrixRankings;
+        }
+
+        public Matrix(Page page) {
+            this(page.getRankings(), page.getNextCursor());
+        }
     }
 
     @Data
@@ -30,6 +48,17 @@ public class RankResponseDto {
     public static class Area {
         @ApiModelProperty(value="누적 칸의 수를 기준 내림차순으로 유저들을 정렬", required = true)
         List<UserResponseDto.Ranking> areaRankings;
+
+        @ApiModelProperty(value="다음 페이지 커서 (마지막 페이지, 전체 조회면 null)")
+        String nextCursor;
+
+        public Area(List<UserResponseDto.Ranking> areaRankings) {
+            this.areaRankings = areaRankings;
+        }
+
+        public Area(Page page) {
+            this(page.getRankings(), page.getNextCursor());
+        }
     }
 
     @Data
@@ -37,6 +66,46 @@ public class RankResponseDto {
     public static class Step {
         @ApiModelProperty(value="누적 걸음수를 기준 내림차순으로 유저들을 정렬", required = true)
         List<UserResponseDto.Ranking> stepRankings;
+
+        @ApiModelProperty(value="다음 페이지 커서 (마지막 페이지, 전체 조회면 null)")
+        String nextCursor;
+
+        public Step(List<UserResponseDto.Ranking> stepRankings) {
+            this.stepRankings = stepRankings;
+        }
+
+        public Step(Page page) {
+            this(page.getRankings(), page.getNextCursor());
+        }
+    }
+
+    @Data @Builder
+    public static class Global {
+        @ApiModelProperty(value="랭킹 종류(STEP: 걸음수, MATRIX: 칸의 수, AREA: 영역의 수)", example = "STEP", required = true)
+        GlobalRankingType type;
+
+        @ApiModelProperty(value="요청한 회원의 이번주 전체 랭킹", required = true)
+        UserResponseDto.Ranking myRanking;
+
+        @ApiModelProperty(value="이번주 전체 상위 랭킹(최대 100명, 이번주 기록이 있는 회원만)", required = true)
+        List<UserResponseDto.Ranking> rankings;
+
+        @ApiModelProperty(value="다음 페이지 커서 (마지막 페이지면 null)")
+        String nextCursor;
+
+        @ApiModelProperty(value="이번주 기록이 있는 회원 수", example = "1520")
+        Long total;
+
+        @ApiModelProperty(value="랭킹 갱신 시각 (최대 10초 전)")
+        LocalDateTime updatedAt;
+    }
+
+    // 랭킹 페이지 계산 결과 (서비스 내부 전달용)
+    @Data
+    @AllArgsConstructor
+    public static class Page {
+        List<UserResponseDto.Ranking> rankings;
+        String nextCursor;
     }
 
 }
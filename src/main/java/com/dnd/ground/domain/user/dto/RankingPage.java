@@ -0,0 +1,67 @@
+package com.dnd.ground.domain.user.dto;
+
+import com.dnd.ground.global.exception.CNotValidationException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * @description 랭킹 페이지 요청 dto
+ *              - limit 이 없으면 전체 조회 (기존과 같음)
+ *              - cursor: 이전 응답의 nextCursor (처음 조회는 없음)
+ *              - around: 요청한 회원을 가운데에 두고 limit 명 조회 (cursor 무시)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankingPage {
+
+    // 한 페이지 최대 인원
+    public static final int MAX_LIMIT = 100;
+
+    @ApiModelProperty(value = "한 페이지 인원(최대 100). 없으면 전체 조회", example = "20")
+    private Integer limit;
+
+    @ApiModelProperty(value = "다음 페이지 커서(이전 응답의 nextCursor). 없으면 처음부터 조회", example = "20")
+    private String cursor;
+
+    @ApiModelProperty(value = "true: 내 순위를 가운데에 두고 limit 명 조회 (cursor 무시)", example = "false")
+    private Boolean around;
+
+    // 전체 조회
+    public static RankingPage all() {
+        return new RankingPage();
+    }
+
+    // 상위 limit 명 조회
+    public static RankingPage top(int limit) {
+        return new RankingPage(limit, null, false);
+    }
+
+    public boolean isPaged() {
+        if (limit == null) return false;
+        if (limit <= 0 || limit > MAX_LIMIT) throw new CNotValidationException(CommonErrorCode.NOT_VALID_RANKING_PAGE);
+        return true;
+    }
+
+    public boolean isAround() {
+        return Boolean.TRUE.equals(around);
+    }
+
+    // 커서 -> 시작 순서
+    public int offset() {
+        if (cursor == null || cursor.isEmpty()) return 0;
+        try {
+            int offset = Integer.parseInt(cursor);
+            if (offset >= 0) return offset;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new CNotValidationException(CommonErrorCode.NOT_VALID_RANKING_PAGE);
+    }
+}
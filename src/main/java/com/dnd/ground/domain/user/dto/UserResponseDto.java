@@ -21,6 +21,7 @@ import java.util.List;
  * @author  박세헌, 박찬호
  * @since   2022-08-08
  * @updated 1. 프로필 사진 추가 - 2022-10-10 박세헌
+ *          2. 상세 지도에 이동 경로 추가 - 2022-10-18 박세헌
  */
 
 @Data
@@ -203,6 +204,9 @@ public class UserResponseDto {
         @ApiModelProperty(value = "칸 꼭지점 위도, 경도 리스트", example = "[{\"latitude\": 37.330436, \"longitude\": -122.030216}]",required = true)
         private List<MatrixDto> matrices;
 
+        @ApiModelProperty(value = "이동 경로(encoded polyline, 정밀도 1e-6, 끊긴 경로는 공백으로 구분). 없으면 null", example = "_izlhA~rlgdF_{geC~ywl@")
+        private String route;
+
         @ApiModelProperty(value="프로필 사진 URI(카카오 프로필 사용 시 kakao/카카오회원번호)", example="http:\\/\\/k.kakaocdn.net\\/dn\\/uQVeo\\/btrLgESJyjg\\/Pff3k36lRWkQ98ebAlexv1\\/img_640x640.jpg")
         private String picturePath;
     }
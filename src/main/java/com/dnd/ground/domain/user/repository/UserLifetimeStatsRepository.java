@@ -0,0 +1,52 @@
+package com.dnd.ground.domain.user.repository;
+
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserLifetimeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.Tuple;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @description 회원의 역대 누적 운동 통계 리포지토리 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 운동 기록 원자적 반영 추가 : 박세헌
+ *          2022-10-18 / 운동 기록 반영을 upsert 로 변경 (첫 기록 동시 저장 시 중복 생성 방지) : 박세헌
+ */
+
+public interface UserLifetimeStatsRepository extends JpaRepository<UserLifetimeStats, Long> {
+
+    // 회원의 누적 통계 조회
+    Optional<UserLifetimeStats> findByUser(User user);
+
+    // 유저와 친구들의 닉네임과 역대 누적 칸 수 조회
+    @Query("select u.nickname, s.matrixNumber, u.picturePath from UserLifetimeStats s " +
+            "join s.user u " +
+            "where u in :userAndFriends and s.matrixNumber > 0 " +
+            "order by s.matrixNumber desc ")
+    List<Tuple> findMatrixCount(List<User> userAndFriends);
+
+    // 운동 기록 반영 (row 가 없으면 만들고, 있으면 읽지 않고 더함)
+    // user_id 유니크 키로 한 문장에서 처리하므로 같은 회원의 첫 기록이 동시에 저장되어도 row 는 하나
+    @Modifying
+    @Query(value = "insert into user_lifetime_stats (user_id, record_number, step_count, distance, exercise_time, matrix_number) " +
+            "values (:userId, :recordNumber, :stepCount, :distance, :exerciseTime, :matrixNumber) " +
+            "on duplicate key update record_number = record_number + values(record_number), " +
+            "step_count = step_count + values(step_count), distance = distance + values(distance), " +
+            "exercise_time = exercise_time + values(exercise_time), matrix_number = matrix_number + values(matrix_number)",
+            nativeQuery = true)
+    void addRecord(@Param("userId") Long userId, @Param("recordNumber") Integer recordNumber,
+                   @Param("stepCount") Long stepCount, @Param("distance") Long distance,
+                   @Param("exerciseTime") Long exerciseTime, @Param("matrixNumber") Long matrixNumber);
+
+    // 회원의 누적 통계 삭제
+    @Modifying
+    @Query("delete from UserLifetimeStats s where s.user = :user")
+    void deleteByUser(User user);
+}
@@ -0,0 +1,74 @@
+package com.dnd.ground.domain.user.repository;
+
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserWeeklyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * @description 회원의 주간 운동 통계 리포지토리 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 운동 기록 원자적 반영, 랭킹(걸음 수, 칸 수, 영역) 조회 추가 : 박세헌
+ *          2022-10-18 / 전체 회원 주간 통계 조회 추가 : 박세헌
+ *          2022-10-18 / 운동 기록 반영을 upsert 로 변경 (첫 기록 동시 저장 시 중복 생성 방지) : 박세헌
+ */
+
+public interface UserWeeklyStatsRepository extends JpaRepository<UserWeeklyStats, Long> {
+
+    // 회원의 해당 주 통계 조회
+    Optional<UserWeeklyStats> findByUserAndWeekStart(User user, LocalDate weekStart);
+
+    // 운동 기록 반영 (row 가 없으면 만들고, 있으면 읽지 않고 더함, 영역의 수는 큰 값 유지)
+    // (user_id, week_start) 유니크 키로 한 문장에서 처리하므로 같은 회원의 첫 기록이 동시에 저장되어도 row 는 하나
+    @Modifying
+    @Query(value = "insert into user_weekly_stats (user_id, week_start, step_count, distance, exercise_time, matrix_number, area) " +
+            "values (:userId, :weekStart, :stepCount, :distance, :exerciseTime, :matrixNumber, :area) " +
+            "on duplicate key update step_count = step_count + values(step_count), distance = distance + values(distance), " +
+            "exercise_time = exercise_time + values(exercise_time), matrix_number = matrix_number + values(matrix_number), " +
+            "area = greatest(area, values(area))", nativeQuery = true)
+    void addRecord(@Param("userId") Long userId, @Param("weekStart") LocalDate weekStart,
+                   @Param("stepCount") Integer stepCount, @Param("distance") Integer distance,
+                   @Param("exerciseTime") Integer exerciseTime, @Param("matrixNumber") Long matrixNumber,
+                   @Param("area") Long area);
+
+    // 유저와 친구들의 닉네임과 (from-to) 주의 걸음 수 조회
+    @Query("select u.nickname, sum(s.stepCount), u.picturePath from UserWeeklyStats s " +
+            "join s.user u " +
+            "where u in :userAndFriends and s.weekStart between :from and :to " +
+            "group by u " +
+            "order by sum(s.stepCount) desc ")
+    List<Tuple> findStepCount(@Param("userAndFriends") List<User> userAndFriends,
+                              @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 유저와 친구들의 닉네임과 (from-to) 주의 칸 수 조회
+    @Query("select u.nickname, sum(s.matrixNumber), u.picturePath from UserWeeklyStats s " +
+            "join s.user u " +
+            "where u in :userAndFriends and s.weekStart between :from and :to " +
+            "group by u " +
+            "having sum(s.matrixNumber) > 0 " +
+            "order by sum(s.matrixNumber) desc ")
+    List<Tuple> findMatrixCount(@Param("userAndFriends") List<User> userAndFriends,
+                                @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 회원들의 해당 주 영역의 수 조회 [회원 id, 영역의 수]
+    @Query("select s.user.id, s.area from UserWeeklyStats s where s.user in :users and s.weekStart = :weekStart")
+    List<Tuple> findArea(@Param("users") List<User> users, @Param("weekStart") LocalDate weekStart);
+
+    // 해당 주 모든 회원의 통계 조회 [회원 id, 걸음 수, 칸 수, 영역의 수] (정렬 없음, 전체 랭킹 카운터용)
+    @Query("select s.user.id, s.stepCount, s.matrixNumber, s.area from UserWeeklyStats s where s.weekStart = :weekStart")
+    List<Tuple> findAllStats(@Param("weekStart") LocalDate weekStart);
+
+    // 회원의 주간 통계 삭제
+    @Modifying
+    @Query("delete from UserWeeklyStats s where s.user = :user")
+    void deleteByUser(User user);
+}
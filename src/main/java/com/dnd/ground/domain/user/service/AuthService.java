@@ -5,11 +5,11 @@ import com.dnd.ground.domain.user.dto.JwtUserDto;
 import com.dnd.ground.domain.user.dto.UserRequestDto;
 import com.dnd.ground.domain.user.dto.UserResponseDto;
 import org.json.simple.parser.ParseException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import javax.servlet.http.HttpServletRequest;
-import java.net.UnknownHostException;
 import java.util.Map;
 
 /**
@@ -18,6 +18,8 @@ import java.util.Map;
  * @since   2022-09-07
  * @updated 1.회원가입 로직 추가
  *          2022-09-12 박찬호
+ *          2.회원가입, 재로그인 및 토큰 발급 로직 추가 (JWTSignFilter와 공유)
+ *          2022-10-18 박찬호
  */
 public interface AuthService {
     User save(JwtUserDto user);
@@ -27,7 +29,9 @@ public interface AuthService {
 
     Boolean isOriginalUser(HttpServletRequest request);
 
-    ResponseEntity<UserResponseDto.SignUp> signUp(String kakaoAccessToken, UserRequestDto.SignUp request) throws ParseException, UnknownHostException;
+    ResponseEntity<UserResponseDto.SignUp> signUp(String kakaoAccessToken, UserRequestDto.SignUp request) throws ParseException;
+    String sign(JwtUserDto userDto);
+    HttpHeaders issueTokens(String nickname);
 
     ResponseEntity<Boolean> issuanceToken(String refreshToken);
 }
@@ -16,20 +16,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.json.simple.parser.ParseException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
 import javax.servlet.http.HttpServletRequest;
-import java.net.InetAddress;
-import java.net.UnknownHostException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
@@ -42,6 +40,10 @@ import java.util.regex.Pattern;
  *          2.프로필 사진 변경하는 기능 구현 - 박찬호
  *          3.닉네임 특수 문자 제외 - 박세헌
  *          2022-09-12
+ *          4.회원가입 시 /sign 으로 HTTP 요청하지 않고 서버 내부에서 회원 저장 및 토큰 발급 - 박찬호
+ *          5.리프레시 토큰은 캐시하지 않는 검증(verifyRefreshToken) 사용 - 박찬호
+ *          6.회원가입(회원 저장, 토큰 발급)을 한 트랜잭션으로 처리 - 박찬호
+ *          2022-10-18
  */
 
 @Slf4j
@@ -73,14 +75,13 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
                 .build());
     }
 
-    /*회원 가입*/
-    public ResponseEntity<UserResponseDto.SignUp> signUp(String kakaoAccessToken, UserRequestDto.SignUp request) throws ParseException, UnknownHostException {
+    /*회원 가입 (sign, issueTokens 는 같은 객체 안의 호출이라 프록시를 거치지 않으므로 여기서 트랜잭션 시작)*/
+    @Transactional
+    public ResponseEntity<UserResponseDto.SignUp> signUp(String kakaoAccessToken, UserRequestDto.SignUp request) throws ParseException {
 
         //카카오 회원 정보 조회(카카오 ID, 이메일, 프로필 사진)
         KakaoDto.UserInfo kakaoUserInfo = kakaoService.getUserInfo(kakaoAccessToken);
 
-        WebClient webClient = WebClient.create();
-
         JwtUserDto jwtUserDto = JwtUserDto.builder()
                 .id(kakaoUserInfo.getId())
                 .kakaoRefreshToken(request.getKakaoRefreshToken())
@@ -90,16 +91,49 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
                 .picturePath(kakaoUserInfo.getPicturePath())
                 .build();
 
+        //JWTSignFilter와 같은 로직으로 회원 저장 및 토큰 발급 (서버 내부 호출)
+        String nickname = sign(jwtUserDto);
+
+        UserResponseDto.SignUp response = new UserResponseDto.SignUp();
+        response.setNickname(nickname);
+
+        return ResponseEntity
+                .ok()
+                .headers(issueTokens(nickname))
+                .body(response);
+    }
+
+    /*회원가입 혹은 재로그인: 신규 회원이면 저장 후 카카오 ID와 닉네임이 일치하는지 확인*/
+    @Transactional
+    public String sign(JwtUserDto userDto) {
+        if (!userRepository.existsByKakaoId(userDto.getId())) {
+            save(userDto);
+        }
+
+        User user = userRepository.findByNickname(userDto.getNickname()).orElseThrow(
+                () -> new BadCredentialsException("카카오 회원 정보가 일치하지 않습니다."));
+        if (!Objects.equals(user.getKakaoId(), userDto.getId())) {
+            throw new BadCredentialsException("카카오 회원 정보가 일치하지 않습니다.");
+        }
+        return user.getNickname();
+    }
+
+    /*토큰 발급: 액세스, 리프레시 토큰을 헤더에 담고 리프레시 토큰은 저장*/
+    @Transactional
+    public HttpHeaders issueTokens(String nickname) {
+        User user = userRepository.findByNickname(nickname).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+
+        String accessToken = JwtUtil.makeAccessToken(nickname);
+        String refreshToken = JwtUtil.makeRefreshToken(nickname);
 
-        //필터 호출
-        ResponseEntity<UserResponseDto.SignUp> response = webClient.post()
-                .uri("http://"+InetAddress.getLocalHost().getHostAddress()+":8080/sign")//서버 배포시 서버에 할당된 IP로 변경 예정
-                .body(Mono.just(jwtUserDto), JwtUserDto.class)
-                .retrieve()
-                .toEntity(UserResponseDto.SignUp.class)
-                .block();
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", "Bearer " + accessToken);
+        headers.add("Refresh-Token", "Bearer " + refreshToken);
 
-        return response;
+        user.updateRefreshToken(refreshToken);
+        userRepository.save(user);
+        return headers;
     }
 
     /* 토큰으로 닉네임 찾은 후 반환하는 함수 */
@@ -112,7 +146,7 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
             result = JwtUtil.verify(accessToken.substring("Bearer ".length()));
         }
         else{
-            result = JwtUtil.verify(refreshToken.substring("Bearer ".length()));
+            result = JwtUtil.verifyRefreshToken(refreshToken.substring("Bearer ".length()));
         }
 
         Map<String, String> nick = new HashMap<>();
@@ -171,24 +205,12 @@ public class AuthServiceImpl implements AuthService, UserDetailsService {
     public ResponseEntity<Boolean> issuanceToken(String refreshToken){
 
         String token = refreshToken.substring("Bearer ".length());
-        JwtVerifyResult result = JwtUtil.verify(token);
-        // 토큰 재발급, 리프레시 토큰은 저장
-        String accessToken = JwtUtil.makeAccessToken(result.getNickname());
-        refreshToken = JwtUtil.makeRefreshToken(result.getNickname());
-
-        User user = userRepository.findByNickname(result.getNickname()).orElseThrow(
-                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Refresh-Token", "Bearer " + refreshToken);
-
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
+        JwtVerifyResult result = JwtUtil.verifyRefreshToken(token);
 
+        // 토큰 재발급, 리프레시 토큰은 저장
         return ResponseEntity
                 .ok()
-                .headers(headers)
+                .headers(issueTokens(result.getNickname()))
                 .body(true);
     }
 }
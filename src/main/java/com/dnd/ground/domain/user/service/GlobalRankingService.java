@@ -0,0 +1,20 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.user.GlobalRankingType;
+import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
+
+import java.time.LocalDate;
+
+/**
+ * @description 전체 회원 주간 랭킹 서비스 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public interface GlobalRankingService {
+    void addRecord(Long userId, LocalDate weekStart, long stepCount, long matrixNumber, long area);
+    void setStats(Long userId, LocalDate weekStart, long stepCount, long matrixNumber, long area);
+    RankResponseDto.Global globalRanking(String nickname, GlobalRankingType type, RankingPage page);
+}
@@ -0,0 +1,292 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.user.GlobalRankingType;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.RankingEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @description 전체 회원 주간 랭킹 서비스 클래스
+ *              - 기록 저장(커밋) 시 회원별 메모리 카운터에 더함 (LongAdder: 여러 스레드가 동시에 더해도 잠금 없음, 영역의 수는 큰 값 유지)
+ *              - SNAPSHOT_INTERVAL 마다 카운터로 스냅샷 생성: 종류별 점수 오름차순 배열 + 상위 TOP_SIZE 명 (heap 선택)
+ *              - 조회는 스냅샷만 사용: 내 랭킹은 정렬된 점수 배열에서 이분 탐색, 상위 랭킹은 미리 만든 목록을 잘라서 반환
+ *              - 카운터는 서버마다 따로 있으므로 시작 시, RELOAD_INTERVAL 마다 이번주 주간 통계로 다시 채움 (주간 통계가 원본)
+ *              - 상위 랭킹에 탈퇴한 회원이 있으면 그 카운터를 지우고 다시 계산 (빈 자리, 빠진 순위 없음)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 탈퇴한 회원은 랭킹 계산 전에 제외 : 박세헌
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GlobalRankingServiceImpl implements GlobalRankingService {
+
+    // 상위 랭킹 인원
+    private static final int TOP_SIZE = 100;
+
+    // 스냅샷 생성 주기(ms)
+    private static final long SNAPSHOT_INTERVAL = 10_000;
+
+    // 주간 통계로 카운터를 다시 채우는 주기(ms)
+    private static final long RELOAD_INTERVAL = 300_000;
+
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final UserRepository userRepository;
+
+    private volatile Board board = new Board(thisWeek());
+    private volatile Snapshot snapshot = Snapshot.empty(thisWeek());
+
+    // 서버 준비 후 이번주 주간 통계로 카운터 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    // 기록 반영 (지난 주 기록은 전체 랭킹에 반영하지 않음)
+    public void addRecord(Long userId, LocalDate weekStart, long stepCount, long matrixNumber, long area) {
+        Board current = boardOf(weekStart);
+        if (current != null) current.counterOf(userId).add(stepCount, matrixNumber, area);
+    }
+
+    // 통계 재계산 결과 반영 (기록 삭제, 수정 시 값이 줄어들 수 있으므로 덮어씀)
+    public void setStats(Long userId, LocalDate weekStart, long stepCount, long matrixNumber, long area) {
+        Board current = boardOf(weekStart);
+        if (current != null) current.counterOf(userId).set(stepCount, matrixNumber, area);
+    }
+
+    // 전체 랭킹 조회: 내 랭킹 + 상위 랭킹(limit, cursor 로 잘라서 조회, around 는 지원하지 않음)
+    public RankResponseDto.Global globalRanking(String nickname, GlobalRankingType type, RankingPage page) {
+        User user = userRepository.findByNickname(nickname).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+
+        // 주가 바뀐 뒤 아직 스냅샷이 없으면 빈 랭킹
+        Snapshot current = snapshot;
+        if (!current.weekStart.equals(thisWeek())) current = Snapshot.empty(thisWeek());
+
+        long score = current.scoreOf(user.getId(), type);
+        UserResponseDto.Ranking myRanking = new UserResponseDto.Ranking(current.rankOf(type, score),
+                user.getNickname(), score, user.getPicturePath());
+
+        List<UserResponseDto.Ranking> top = current.tops.get(type);
+        int from = Math.min(page.offset(), top.size());
+        int to = page.isPaged() ? Math.min(top.size(), from + page.getLimit()) : top.size();
+
+        return RankResponseDto.Global.builder()
+                .type(type)
+                .myRanking(myRanking)
+                .rankings(top.subList(from, to))
+                .nextCursor(to < top.size() ? String.valueOf(to) : null)
+                .total((long) current.scores.size())
+                .updatedAt(current.createdAt)
+                .build();
+    }
+
+    // 카운터 -> 스냅샷 (주가 바뀌었으면 새 카운터로 시작)
+    @Scheduled(fixedDelay = SNAPSHOT_INTERVAL, initialDelay = SNAPSHOT_INTERVAL)
+    public void snapshot() {
+        Board current = boardOf(thisWeek());
+        if (current == null) return;
+
+        List<Long> userIds;
+        Map<Long, long[]> scores;
+        Map<GlobalRankingType, long[]> columns;
+        Map<GlobalRankingType, RankingEngine.Ranked> tops;
+        Map<Long, User> users = new HashMap<>();
+        while (true) {
+            userIds = new ArrayList<>(current.counters.keySet());
+            scores = new HashMap<>(userIds.size() * 2);
+            columns = new EnumMap<>(GlobalRankingType.class);
+            for (GlobalRankingType type : GlobalRankingType.values()) columns.put(type, new long[userIds.size()]);
+
+            for (int i = 0; i < userIds.size(); i++) {
+                long[] userScores = current.counters.get(userIds.get(i)).scores();
+                scores.put(userIds.get(i), userScores);
+                for (GlobalRankingType type : GlobalRankingType.values()) columns.get(type)[i] = userScores[type.ordinal()];
+            }
+
+            // 종류별 상위 TOP_SIZE 명 (전체 정렬 없이 heap 선택), 프로필은 한 번에 조회
+            tops = new EnumMap<>(GlobalRankingType.class);
+            Set<Long> topIds = new HashSet<>();
+            for (GlobalRankingType type : GlobalRankingType.values()) {
+                RankingEngine.Ranked ranked = RankingEngine.top(columns.get(type), TOP_SIZE);
+                tops.put(type, ranked);
+                for (int p = 0; p < ranked.size(); p++) topIds.add(userIds.get(ranked.indexAt(p)));
+            }
+            topIds.removeAll(users.keySet());
+            for (User user : userRepository.findAllById(topIds)) users.put(user.getId(), user);
+
+            // 탈퇴한 회원의 카운터를 지우고 다시 계산 (보통 한 번에 끝남)
+            topIds.removeAll(users.keySet());
+            if (topIds.isEmpty()) break;
+            topIds.forEach(current.counters::remove);
+        }
+
+        Map<GlobalRankingType, long[]> sortedScores = new EnumMap<>(GlobalRankingType.class);
+        Map<GlobalRankingType, List<UserResponseDto.Ranking>> topRankings = new EnumMap<>(GlobalRankingType.class);
+        for (GlobalRankingType type : GlobalRankingType.values()) {
+            long[] column = columns.get(type);
+            RankingEngine.Ranked ranked = tops.get(type);
+            List<UserResponseDto.Ranking> rankings = new ArrayList<>(ranked.size());
+            for (int p = 0; p < ranked.size(); p++) {
+                long score = column[ranked.indexAt(p)];
+                if (score <= 0) break;  // 이번주 기록이 없는 종류는 제외
+
+                User user = users.get(userIds.get(ranked.indexAt(p)));
+                rankings.add(new UserResponseDto.Ranking(ranked.rankAt(p), user.getNickname(), score, user.getPicturePath()));
+            }
+            topRankings.put(type, Collections.unmodifiableList(rankings));
+
+            long[] sorted = column.clone();
+            Arrays.sort(sorted);
+            sortedScores.put(type, sorted);
+        }
+
+        snapshot = new Snapshot(current.weekStart, LocalDateTime.now(), scores, sortedScores, topRankings);
+    }
+
+    // 이번주 주간 통계로 카운터를 다시 채움 (다른 서버에서 저장된 기록 반영)
+    @Scheduled(fixedDelay = RELOAD_INTERVAL, initialDelay = RELOAD_INTERVAL)
+    public void reload() {
+        LocalDate weekStart = thisWeek();
+        Board loaded = new Board(weekStart);
+        for (Tuple stats : userWeeklyStatsRepository.findAllStats(weekStart)) {
+            loaded.counterOf(stats.get(0, Long.class)).set(longOf(stats, 1), longOf(stats, 2), longOf(stats, 3));
+        }
+
+        // 조회와 교체 사이에 더해진 기록은 다음 reload 때 주간 통계로 반영됨
+        synchronized (this) {
+            if (!board.weekStart.isAfter(weekStart)) board = loaded;
+        }
+        log.info("**전체 랭킹 카운터 갱신** 주:{} | 회원 수:{}", weekStart, loaded.counters.size());
+        snapshot();
+    }
+
+    // 해당 주의 카운터 (이번주보다 이전 주, 이후 주는 null, 주가 바뀌었으면 새 카운터)
+    private Board boardOf(LocalDate weekStart) {
+        Board current = board;
+        if (weekStart.equals(current.weekStart)) return current;
+        if (weekStart.isBefore(current.weekStart) || weekStart.isAfter(thisWeek())) return null;
+
+        synchronized (this) {
+            if (weekStart.isAfter(board.weekStart)) board = new Board(weekStart);
+            return weekStart.equals(board.weekStart) ? board : null;
+        }
+    }
+
+    private static LocalDate thisWeek() {
+        return WeeklyTerritory.weekStartOf(LocalDateTime.now());
+    }
+
+    private static long longOf(Tuple tuple, int index) {
+        Number value = (Number) tuple.get(index);
+        return value == null ? 0 : value.longValue();
+    }
+
+    // 한 주의 회원별 카운터
+    private static class Board {
+        private final LocalDate weekStart;
+        private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+        Board(LocalDate weekStart) {
+            this.weekStart = weekStart;
+        }
+
+        Counter counterOf(Long userId) {
+            return counters.computeIfAbsent(userId, id -> new Counter());
+        }
+    }
+
+    // 회원의 이번주 걸음 수, 칸 수, 영역의 수 (GlobalRankingType 순서)
+    private static class Counter {
+        private final LongAdder stepCount = new LongAdder();
+        private final LongAdder matrixNumber = new LongAdder();
+        private final AtomicLong area = new AtomicLong();
+
+        void add(long stepCount, long matrixNumber, long area) {
+            this.stepCount.add(stepCount);
+            this.matrixNumber.add(matrixNumber);
+            this.area.accumulateAndGet(area, Math::max);
+        }
+
+        void set(long stepCount, long matrixNumber, long area) {
+            this.stepCount.reset();
+            this.stepCount.add(stepCount);
+            this.matrixNumber.reset();
+            this.matrixNumber.add(matrixNumber);
+            this.area.set(area);
+        }
+
+        long[] scores() {
+            return new long[]{stepCount.sum(), matrixNumber.sum(), area.get()};
+        }
+    }
+
+    // 조회용 스냅샷 (만든 뒤 바뀌지 않음)
+    private static class Snapshot {
+        private final LocalDate weekStart;
+        private final LocalDateTime createdAt;
+        private final Map<Long, long[]> scores;
+        private final Map<GlobalRankingType, long[]> sortedScores;
+        private final Map<GlobalRankingType, List<UserResponseDto.Ranking>> tops;
+
+        Snapshot(LocalDate weekStart, LocalDateTime createdAt, Map<Long, long[]> scores,
+                 Map<GlobalRankingType, long[]> sortedScores, Map<GlobalRankingType, List<UserResponseDto.Ranking>> tops) {
+            this.weekStart = weekStart;
+            this.createdAt = createdAt;
+            this.scores = scores;
+            this.sortedScores = sortedScores;
+            this.tops = tops;
+        }
+
+        static Snapshot empty(LocalDate weekStart) {
+            Map<GlobalRankingType, long[]> sortedScores = new EnumMap<>(GlobalRankingType.class);
+            Map<GlobalRankingType, List<UserResponseDto.Ranking>> tops = new EnumMap<>(GlobalRankingType.class);
+            for (GlobalRankingType type : GlobalRankingType.values()) {
+                sortedScores.put(type, new long[0]);
+                tops.put(type, Collections.emptyList());
+            }
+            return new Snapshot(weekStart, LocalDateTime.now(), Collections.emptyMap(), sortedScores, tops);
+        }
+
+        // 이번주 기록이 없는 회원은 0
+        long scoreOf(Long userId, GlobalRankingType type) {
+            long[] userScores = scores.get(userId);
+            return userScores == null ? 0 : userScores[type.ordinal()];
+        }
+
+        // 랭킹 = 점수가 더 큰 회원 수 + 1 (오름차순 배열에서 score 보다 큰 첫 위치를 이분 탐색)
+        int rankOf(GlobalRankingType type, long score) {
+            long[] sorted = sortedScores.get(type);
+            int low = 0, high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= score) low = mid + 1;
+                else high = mid;
+            }
+            return sorted.length - low + 1;
+        }
+    }
+}
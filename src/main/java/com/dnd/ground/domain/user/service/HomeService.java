@@ -0,0 +1,19 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.matrix.dto.Viewport;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+
+/**
+ * @description 홈 화면(메인 지도) 구성 서비스 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 지도 화면 영역(viewport) 추가 : 박세헌
+ *          2022-10-18 / 변경분 조회(since) 추가 : 박세헌
+ */
+
+public interface HomeService {
+    HomeResponseDto getHome(User user, Viewport viewport, String since);
+    HomeResponseDto getRecordStartHome(User user);
+}
@@ -0,0 +1,134 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.challenge.Challenge;
+import com.dnd.ground.domain.challenge.ChallengeColor;
+import com.dnd.ground.domain.challenge.UserChallenge;
+import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
+import com.dnd.ground.domain.friend.service.FriendService;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.TerritorySync;
+import com.dnd.ground.domain.matrix.dto.Viewport;
+import com.dnd.ground.domain.matrix.matrixService.MatrixService;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * @description 홈 화면(메인 지도) 구성 서비스 클래스
+ *              - 친구 수와 상관없이 (친구 목록, 진행 중인 챌린지 UC, 챌린지 멤버 UC, 주간 영역) 4번의 쿼리로 구성
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / showHome, recordStart 의 홈 화면 구성 로직 통합 : 박세헌
+ *          2022-10-18 / 메인 화면은 지도 화면 영역(viewport) 안의 칸만 조회 : 박세헌
+ *          2022-10-18 / 지도 축소 단계(level) 적용, 회원의 칸 수는 전체 영역 기준 : 박세헌
+ *          2022-10-18 / since 토큰 이후 추가된 칸만 조회(변경분 조회) : 박세헌
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HomeServiceImpl implements HomeService {
+
+    private final FriendService friendService;
+    private final UserChallengeRepository userChallengeRepository;
+    private final MatrixService matrixService;
+
+    // 메인 화면 (화면 영역 안의 칸만 조회)
+    public HomeResponseDto getHome(User user, Viewport viewport, String since) {
+        return assemble(user, false, viewport, since);
+    }
+
+    // 기록 시작 화면 (회원 위치, 프로필 사진, 챌린지 개수 제외)
+    public HomeResponseDto getRecordStartHome(User user) {
+        return assemble(user, true, Viewport.all(), null);
+    }
+
+    private HomeResponseDto assemble(User user, boolean isRecordStart, Viewport viewport, String since) {
+        //챌린지를 함께하지 않는 친구 목록
+        List<User> friendsNotChallenge = friendService.getFriends(user);
+
+        //회원의 진행 중인 챌린지 UC (챌린지 id 오름차순)
+        List<UserChallenge> userChallenges = userChallengeRepository.findProgressUCs(user);
+        List<Challenge> challenges = userChallenges.stream()
+                .map(UserChallenge::getChallenge)
+                .collect(Collectors.toList());
+
+        //챌린지를 함께 하는 사람들(친구+친구X 둘 다): [회원 id, 회원] / [회원 id, 함께하는 챌린지 수] / [회원 id, 함께하는 첫번째 챌린지]
+        Map<Long, User> challengeUsers = new LinkedHashMap<>();
+        Map<Long, Integer> challengeNumbers = new HashMap<>();
+        Map<Long, Challenge> firstChallenges = new HashMap<>();
+
+        if (!challenges.isEmpty()) {
+            for (UserChallenge uc : userChallengeRepository.findUCsWithUser(challenges)) {
+                User member = uc.getUser();
+                if (member.getId().equals(user.getId())) continue;
+
+                challengeUsers.putIfAbsent(member.getId(), member);
+                challengeNumbers.merge(member.getId(), 1, Integer::sum);
+                firstChallenges.merge(member.getId(), uc.getChallenge(),
+                        (a, b) -> a.getId() <= b.getId() ? a : b);
+            }
+        }
+        friendsNotChallenge.removeIf(f -> challengeUsers.containsKey(f.getId()));
+
+        //회원 기준 챌린지 색깔 [챌린지 id, 색깔]
+        Map<Long, ChallengeColor> colors = new HashMap<>();
+        userChallenges.forEach(uc -> colors.put(uc.getChallenge().getId(), uc.getColor()));
+
+        //회원, 친구, 챌린지 멤버의 이번주 영역 일괄 조회
+        List<User> mapUsers = new ArrayList<>(friendsNotChallenge.size() + challengeUsers.size() + 1);
+        mapUsers.add(user);
+        mapUsers.addAll(friendsNotChallenge);
+        mapUsers.addAll(challengeUsers.values());
+        TerritorySync territorySync = matrixService.syncMatrixSetOfThisWeek(mapUsers, viewport, since);
+        Map<Long, List<MatrixDto>> matrices = territorySync.getMatrices();
+
+        /*회원의 matrix 와 정보 (userMatrix)*/
+        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
+        List<MatrixDto> userMatrixSet = matrices.get(user.getId());
+        long userMatrixNumber = territorySync.getAreas().get(user.getId());  // 화면 영역, 축소, 변경분과 상관없는 이번주 전체 영역의 수
+        if (isRecordStart) {
+            userMatrix.setProperties(user.getNickname(), userMatrixNumber, userMatrixSet, null, null);
+        } else {
+            userMatrix.setProperties(user.getNickname(), userMatrixNumber, userMatrixSet, user.getLatitude(), user.getLongitude(), user.getPicturePath());
+        }
+
+        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
+        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
+        for (User friend : friendsNotChallenge) {
+            friendMatrices.add(new UserResponseDto.FriendMatrix(friend.getNickname(), friend.getLatitude(), friend.getLongitude(),
+                    matrices.get(friend.getId()), friend.getPicturePath()));
+        }
+
+        /*챌린지를 하는 사람들의 matrix 와 정보 (challengeMatrices)*/
+        List<UserResponseDto.ChallengeMatrix> challengeMatrices = new ArrayList<>();
+        for (User friend : challengeUsers.values()) {
+            Long friendId = friend.getId();
+            challengeMatrices.add(
+                    new UserResponseDto.ChallengeMatrix(
+                            friend.getNickname(), challengeNumbers.get(friendId),
+                            colors.get(firstChallenges.get(friendId).getId()),
+                            friend.getLatitude(), friend.getLongitude(), matrices.get(friendId),
+                            friend.getPicturePath())
+            );
+        }
+
+        return HomeResponseDto.builder()
+                .userMatrices(userMatrix)
+                .friendMatrices(friendMatrices)
+                .challengeMatrices(challengeMatrices)
+                .challengesNumber(isRecordStart ? null : userChallenges.size())
+                .isShowMine(user.getIsShowMine())
+                .isShowFriend(user.getIsShowFriend())
+                .isPublicRecord(user.getIsPublicRecord())
+                .version(territorySync.getVersion())
+                .fullRefresh(territorySync.isFullRefresh())
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.dnd.ground.domain.user.service;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
 import com.dnd.ground.domain.user.dto.KakaoDto;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import lombok.RequiredArgsConstructor;
 import org.json.simple.JSONArray;
@@ -18,10 +20,18 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @description 카카오를 비롯한 회원 정보와 관련한 서비스
@@ -29,6 +39,11 @@ import java.util.Map;
  * @since   2022-08-23
  * @updated 1. 카카오 회원 정보 조회 API 수정
  *          - 2022.09.09 박찬호
+ *          2. 연결/응답 시간 제한, 커넥션 풀 크기 설정 및 토큰 정보 캐시 추가
+ *          - 2022.10.18 박찬호
+ * @note 1. 카카오 응답이 늦어도 요청 스레드는 최대 (연결 + 응답 시간 제한)만큼만 대기
+ *       2. 토큰 정보는 토큰의 해시를 키로 token-info-ttl 동안 캐시 (토큰 만료 시각을 넘지 않음)
+ *       3. kakao.api-url 을 바꾸면 로컬 stub 서버(kakao-stub 프로필)로 요청 가능
  */
 
 @RequiredArgsConstructor
@@ -36,6 +51,9 @@ import java.util.Map;
 public class KakaoService {
     WebClient webClient;
 
+    // 토큰 해시 -> 토큰 정보
+    private final Map<String, CachedTokenInfo> tokenInfoCache = new ConcurrentHashMap<>();
+
     @Value("${kakao.REST_KEY}")
     private String REST_API_KEY;
 
@@ -43,9 +61,41 @@ public class KakaoService {
     @Value("${kakao.REDIRECT_URI}")
     private String REDIRECT_URI;
 
+    @Value("${kakao.api-url:https://kapi.kakao.com}")
+    private String API_URL;
+
+    @Value("${kakao.client.connect-timeout:2000}")
+    private int connectTimeout;
+
+    @Value("${kakao.client.read-timeout:3000}")
+    private int readTimeout;
+
+    @Value("${kakao.client.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${kakao.client.token-info-ttl:60}")
+    private long tokenInfoTtl;
+
+    @Value("${kakao.client.token-info-cache-size:10000}")
+    private int tokenInfoCacheSize;
+
     @PostConstruct
     public void initWebClient() {
-        webClient = WebClient.create();
+        // 커넥션 풀: 최대 연결 수, 연결을 기다리는 시간 제한
+        ConnectionProvider provider = ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeout))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(Duration.ofMillis(readTimeout))
+                .doOnConnected(connection -> connection.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS)));
+
+        webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
     /**deprecated
@@ -65,7 +115,7 @@ public class KakaoService {
                 .body(BodyInserters.fromFormData(getTokenBody))
                 .retrieve()
                 .bodyToMono(KakaoDto.Token.class)
-                .block();
+                .block(timeout());
 
         Map<String, String> tokens = new HashMap<>();
         tokens.put("Access-Token", token.getAccess_token());
@@ -77,22 +127,39 @@ public class KakaoService {
     /**deprecated
      /*카카오 엑세스 토큰 정보 확인*/
     public KakaoDto.TokenInfo getTokenInfo(String token) {
-        return webClient.get()
-                .uri("https://kapi.kakao.com/v1/user/access_token_info")
+        String key = token == null ? null : hash(token);
+        long now = System.currentTimeMillis();
+
+        CachedTokenInfo cached = key == null ? null : tokenInfoCache.get(key);
+        if (cached != null && cached.expiresAt > now) return cached.tokenInfo;
+
+        KakaoDto.TokenInfo tokenInfo = webClient.get()
+                .uri(API_URL + "/v1/user/access_token_info")
                 .header("Authorization","Bearer " + token)
                 .retrieve()
                 .bodyToMono(KakaoDto.TokenInfo.class)
-                .block();
+                .block(timeout());
+
+        // 캐시 기간은 토큰의 남은 만료 시간을 넘지 않음
+        long ttl = TimeUnit.SECONDS.toMillis(tokenInfoTtl);
+        if (tokenInfo != null && tokenInfo.getExpires_in() != null) {
+            ttl = Math.min(ttl, TimeUnit.SECONDS.toMillis(tokenInfo.getExpires_in()));
+        }
+        if (key != null && tokenInfo != null && ttl > 0) {
+            if (tokenInfoCache.size() >= tokenInfoCacheSize) evictTokenInfo(now);
+            tokenInfoCache.put(key, new CachedTokenInfo(tokenInfo, now + ttl));
+        }
+        return tokenInfo;
     }
 
     /*사용자 정보 확인*/
     public KakaoDto.UserInfo getUserInfo(String token) throws ParseException {
         String userKakaoInfo = webClient.get()
-                .uri("https://kapi.kakao.com/v2/user/me")
+                .uri(API_URL + "/v2/user/me")
                 .header("Authorization", "Bearer " + token)
                 .retrieve()
                 .bodyToMono(String.class)
-                .block();
+                .block(timeout());
 
         JSONParser jsonParser = new JSONParser();
 
@@ -110,6 +177,37 @@ public class KakaoService {
                 .build();
     }
 
+    // 요청 스레드의 최대 대기 시간
+    private Duration timeout() {
+        return Duration.ofMillis((long) connectTimeout + readTimeout);
+    }
+
+    // 만료된 캐시 제거, 그래도 가득 차 있으면 전체 비움
+    private void evictTokenInfo(long now) {
+        tokenInfoCache.values().removeIf(cached -> cached.expiresAt <= now);
+        if (tokenInfoCache.size() >= tokenInfoCacheSize) tokenInfoCache.clear();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedTokenInfo {
+        private final KakaoDto.TokenInfo tokenInfo;
+        private final long expiresAt;
+
+        CachedTokenInfo(KakaoDto.TokenInfo tokenInfo, long expiresAt) {
+            this.tokenInfo = tokenInfo;
+            this.expiresAt = expiresAt;
+        }
+    }
+
     /*카카오 친구 목록 조회*/
 //    public void getKakaoFriends(String token, Integer offset) {
 //
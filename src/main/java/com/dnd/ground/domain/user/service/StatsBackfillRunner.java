@@ -0,0 +1,44 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @description 회원 통계, 주간 영역 backfill 실행기 (1회용)
+ *              - 통계 테이블(user_weekly_stats, user_lifetime_stats), 주간 영역(weekly_territory)이 생기기 전의 운동 기록으로 채움
+ *              - 회원마다 트랜잭션 하나: 기록이 있는 주의 영역, 주간 통계를 다시 계산한 뒤 누적 통계 계산 (다시 실행해도 같은 결과)
+ *              - stats-backfill 프로필로 실행할 때만 등록: --spring.profiles.active=dev,stats-backfill
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Slf4j
+@Profile("stats-backfill")
+@Component
+@RequiredArgsConstructor
+public class StatsBackfillRunner implements ApplicationRunner {
+
+    private final UserStatsService userStatsService;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> userIds = exerciseRecordRepository.findUserIdsWithRecords();
+        log.info("**통계 backfill 시작** 회원 수:{}", userIds.size());
+
+        int weeks = 0;
+        for (Long userId : userIds) {
+            weeks += userStatsService.backfill(userId);
+        }
+
+        log.info("**통계 backfill 완료** 회원 수:{}, 주 수:{}", userIds.size(), weeks);
+    }
+}
@@ -3,6 +3,7 @@ package com.dnd.ground.domain.user.service;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordRequestDto;
 import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.dto.*;
 import org.springframework.http.ResponseEntity;
@@ -17,16 +18,18 @@ import java.time.LocalDateTime;
  * @since   2022-08-01
  * @updated 운동 기록 날짜 조회 함수 추가
  *          - 2022-09-24 박세헌
+ *          지도 화면 영역(viewport) 파라미터 추가
+ *          - 2022-10-18 박세헌
  */
 
 public interface UserService {
-    HomeResponseDto showHome(String nickname);
+    HomeResponseDto showHome(String nickname, Viewport viewport, String since);
     UserResponseDto.Profile getUserInfo(String nickname);
 
     FriendResponseDto.FriendProfile getUserProfile(String userNickname, String friendNickname);
     UserResponseDto.ActivityRecordResponseDto getActivityRecord(UserRequestDto.LookUp requestDto);
     RecordResponseDto.EInfo getExerciseInfo(Long exerciseId);
-    UserResponseDto.DetailMap getDetailMap(Long recordId);
+    UserResponseDto.DetailMap getDetailMap(Long recordId, Viewport viewport);
 
     Boolean changeFilterMine(String nickname);
     Boolean changeFilterFriend(String nickname);
@@ -1,10 +1,6 @@
 package com.dnd.ground.domain.user.service;
 
-import com.dnd.ground.domain.challenge.Challenge;
-import com.dnd.ground.domain.challenge.ChallengeColor;
 import com.dnd.ground.domain.challenge.dto.ChallengeResponseDto;
-import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
-import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.challenge.service.ChallengeService;
 import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
 import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
@@ -13,10 +9,12 @@ import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
 import com.dnd.ground.domain.friend.dto.FriendResponseDto;
 import com.dnd.ground.domain.friend.repository.FriendRepository;
 import com.dnd.ground.domain.friend.service.FriendService;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
 import com.dnd.ground.domain.matrix.dto.MatrixDto;
-import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.dto.Viewport;
 import com.dnd.ground.domain.matrix.matrixService.MatrixService;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserWeeklyStats;
 import com.dnd.ground.domain.user.dto.*;
 import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.global.exception.CNotFoundException;
@@ -46,6 +44,22 @@ import static java.time.temporal.TemporalAdjusters.lastDayOfMonth;
  * @since   2022-08-01
  * @updated 1.FriendRepository의 쿼리 수정에 따른 코드 변경(친구 관계 조회)
  *          - 2022-10-10 박찬호
+ *          2.운동 기록의 압축된 칸 정보로 영역 조회
+ *          - 2022-10-18 박세헌
+ *          3.이번주 영역을 주간 영역(bitmap)으로 조회
+ *          - 2022-10-18 박세헌
+ *          4.마이페이지 정보를 주간, 누적 통계에서 조회
+ *          - 2022-10-18 박세헌
+ *          5.메인 화면 구성을 HomeService 로 이동(일괄 조회)
+ *          - 2022-10-18 박세헌
+ *          6.메인 화면, 상세 지도를 지도 화면 영역(viewport) 안의 칸만 조회
+ *          - 2022-10-18 박세헌
+ *          7.메인 화면 변경분 조회(since)
+ *          - 2022-10-18 박세헌
+ *          8.운동 기록 정보, 상세 지도에 이동 경로(encoded polyline) 추가
+ *          - 2022-10-18 박세헌
+ *          9.친구 프로필의 랭킹은 친구 본인 순위만 조회(상위 1명 페이지)
+ *          - 2022-10-18 박세헌
  */
 
 @Slf4j
@@ -56,93 +70,18 @@ public class UserServiceImpl implements UserService{
 
     private final UserRepository userRepository;
     private final ChallengeService challengeService;
-    private final ChallengeRepository challengeRepository;
-    private final UserChallengeRepository userChallengeRepository;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final FriendService friendService;
     private final FriendRepository friendRepository;
-    private final MatrixRepository matrixRepository;
     private final MatrixService matrixService;
+    private final UserStatsService userStatsService;
+    private final HomeService homeService;
 
-    public HomeResponseDto showHome(String nickname){
+    public HomeResponseDto showHome(String nickname, Viewport viewport, String since){
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        /*회원의 matrix 와 정보 (userMatrix)*/
-        UserResponseDto.UserMatrix userMatrix = new UserResponseDto.UserMatrix(user);
-
-        List<ExerciseRecord> userRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId()); // 이번주 운동기록 조회
-        List<MatrixDto> userMatrixSet = matrixRepository.findMatrixSetByRecords(userRecordOfThisWeek);  // 운동 기록의 영역 조회
-
-        //회원 정보 저장
-        userMatrix.setProperties(user.getNickname(), userMatrixSet.size(), userMatrixSet, user.getLatitude(), user.getLongitude(), user.getPicturePath());
-
-        /*----------*/
-        //진행 중인 챌린지 목록 조회 List<UserChallenge>
-        List<Challenge> challenges = challengeRepository.findProgressChallenge(user);
-
-        //챌린지를 함께하지 않는 친구 목록
-        List<User> friendsNotChallenge = friendService.getFriends(user);
-
-        //나랑 챌린지를 함께 하는 사람들(친구+친구X 둘 다)
-        Set<User> friendsWithChallenge = new HashSet<>();
-
-        for (Challenge challenge : challenges) {
-            List<User> challengeUsers = userChallengeRepository.findChallengeUsers(challenge);
-            //챌린지를 함께하고 있는 사람들 조회
-            for (User cu : challengeUsers) {
-                friendsWithChallenge.add(cu);
-                friendsNotChallenge.remove(cu);
-            }
-        }
-        friendsWithChallenge.remove(user);
-        /*----------*/
-
-        /*챌린지를 안하는 친구들의 matrix 와 정보 (friendMatrices)*/
-        Map<String, List<MatrixDto>> friendHashMap= new HashMap<>();
-        List<UserResponseDto.FriendMatrix> friendMatrices = new ArrayList<>();
-
-        friendsNotChallenge.forEach(nf -> friendHashMap.put(nf.getNickname(),
-                matrixRepository.findMatrixSetByRecords(exerciseRecordRepository.findRecordOfThisWeek(nf.getId()))));  // 이번주 운동기록 조회하여 영역 대입
-
-        for (String friendNickname : friendHashMap.keySet()) {
-            User friend = userRepository.findByNickname(friendNickname).orElseThrow(
-                    () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-
-            friendMatrices.add(new UserResponseDto.FriendMatrix(friendNickname, friend.getLatitude(), friend.getLongitude(),
-                    friendHashMap.get(friendNickname), friend.getPicturePath()));
-        }
-
-        /*챌린지를 하는 사람들의 matrix 와 정보 (challengeMatrices)*/
-        List<UserResponseDto.ChallengeMatrix> challengeMatrices = new ArrayList<>();
-
-        for (User friend : friendsWithChallenge) {
-            Integer challengeNumber = challengeRepository.findCountChallenge(user, friend); // 함께하는 챌린지 수
-
-            //색깔 처리
-            Challenge challengeWithFriend = challengeRepository.findChallengesWithFriend(user, friend).get(0);//함께하는 첫번째 챌린지 조회
-            ChallengeColor challengeColor = userChallengeRepository.findChallengeColor(user, challengeWithFriend);//회원 기준 해당 챌린지 색깔
-
-            List<ExerciseRecord> challengeRecordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(friend.getId()); // 이번주 운동기록 조회
-            List<MatrixDto> challengeMatrixSetDto = matrixRepository.findMatrixSetByRecords(challengeRecordOfThisWeek); // 운동 기록의 영역 조회
-
-            challengeMatrices.add(
-                    new UserResponseDto.ChallengeMatrix(
-                            friend.getNickname(), challengeNumber, challengeColor,
-                            friend.getLatitude(), friend.getLongitude(), challengeMatrixSetDto,
-                            friend.getPicturePath())
-            );
-        }
-
-        return HomeResponseDto.builder()
-                .userMatrices(userMatrix)
-                .friendMatrices(friendMatrices)
-                .challengeMatrices(challengeMatrices)
-                .challengesNumber(challengeRepository.findCountChallenge(user))
-                .isShowMine(user.getIsShowMine())
-                .isShowFriend(user.getIsShowFriend())
-                .isPublicRecord(user.getIsPublicRecord())
-                .build();
+        return homeService.getHome(user, viewport, since);
     }
 
     /*회원 정보 조회(마이페이지)*/
@@ -150,25 +89,17 @@ public class UserServiceImpl implements UserService{
         User user = userRepository.findByNickname(nickname).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
 
-        // 이번주 운동기록
-        List<ExerciseRecord> recordOfThisWeek = exerciseRecordRepository.findRecordOfThisWeek(user.getId());
-
-        // 이번주 채운 칸의 수
-        Long matrixNumber = (long) matrixRepository.findMatrixByRecords(recordOfThisWeek).size();
-
-        // 이번주 걸음수
-        Integer stepCount = exerciseRecordRepository.findUserStepCount(user, recordOfThisWeek).orElse(0);
-
-        // 이번주 거리합
-        Integer distance = exerciseRecordRepository.findUserDistance(user, recordOfThisWeek).orElse(0);
+        // 이번주 통계(채운 칸의 수, 걸음수, 거리합)
+        UserWeeklyStats weeklyStats = userStatsService.findWeeklyStats(user, WeeklyTerritory.weekStartOf(LocalDateTime.now()));
+        Long matrixNumber = weeklyStats.getMatrixNumber();
+        Integer stepCount = weeklyStats.getStepCount();
+        Integer distance = weeklyStats.getDistance();
 
         // 친구 수
         Integer friendNumber = friendService.getFriends(user).size();
 
-        // 역대 누적 운동기록(가입날짜 ~ 지금)
-        List<ExerciseRecord> record = exerciseRecordRepository.findRecord(user.getId(), user.getCreated(), LocalDateTime.now());
         // 역대 누적 칸수
-        Long allMatrixNumber = (long) matrixRepository.findMatrixByRecords(record).size();
+        Long allMatrixNumber = userStatsService.findLifetimeStats(user).getMatrixNumber();
 
         return UserResponseDto.Profile.builder()
                 .nickname(user.getNickname())
@@ -207,7 +138,7 @@ public class UserServiceImpl implements UserService{
         Long allMatrixNumber = -1L;
         Long areas = -1L;
 
-        RankResponseDto.Matrix matrixRanking = matrixService.matrixRanking(friendNickname);
+        RankResponseDto.Matrix matrixRanking = matrixService.matrixRanking(friendNickname, RankingPage.top(1));
 
         //역대 누적 칸수 및 랭킹 정보
         for (UserResponseDto.Ranking allRankInfo: matrixRanking.getMatrixRankings()) {
@@ -218,8 +149,7 @@ public class UserServiceImpl implements UserService{
         }
 
         //이번주 영역 정보
-        areas = (long) matrixRepository.findMatrixSetByRecords(
-                exerciseRecordRepository.findRecordOfThisWeek(friend.getId())).size();
+        areas = matrixService.countMatrixSetOfThisWeek(friend);
 
         //함께 진행하는 챌린지 정보
         List<ChallengeResponseDto.Progress> challenges = challengeService.findProgressChallenge(userNickname, friendNickname);
@@ -270,7 +200,7 @@ public class UserServiceImpl implements UserService{
             activityRecords.add(RecordResponseDto.activityRecord
                     .builder()
                     .recordId(exerciseRecord.getId())
-                    .matrixNumber((long) exerciseRecord.getMatrices().size())
+                    .matrixNumber((long) exerciseRecord.getMatrixNumber())
                     .stepCount(exerciseRecord.getStepCount())
                     .distance(exerciseRecord.getDistance())
                     .exerciseTime(time)
@@ -316,29 +246,30 @@ public class UserServiceImpl implements UserService{
                 .date(date)
                 .started(started)
                 .ended(ended)
-                .matrixNumber((long) exerciseRecord.getMatrices().size())
+                .matrixNumber((long) exerciseRecord.getMatrixNumber())
                 .distance(exerciseRecord.getDistance())
                 .exerciseTime(time)
                 .stepCount(exerciseRecord.getStepCount())
                 .message(exerciseRecord.getMessage())
-                .matrices(matrixRepository.findMatrixSetByRecord(exerciseRecord))
+                .matrices(matrixService.findMatrixSetByRecord(exerciseRecord))
+                .route(exerciseRecord.getRoute())
                 .challenges(challenges)
                 .build();
     }
 
     /* 상세 지도 보기 */
-    public UserResponseDto.DetailMap getDetailMap(Long recordId){
+    public UserResponseDto.DetailMap getDetailMap(Long recordId, Viewport viewport){
         // 운동 기록 찾기
         ExerciseRecord exerciseRecord = exerciseRecordRepository.findById(recordId).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_RECORD));
         // 유저 찾기
         User user = userRepository.findByExerciseRecord(exerciseRecord).orElseThrow(
                 () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
-        // 운동기록의 칸 찾기
-        List<MatrixDto> matrices = matrixRepository.findMatrixSetByRecord(exerciseRecord);
+        // 운동기록의 칸 찾기 (화면 영역 안의 칸만)
+        List<MatrixDto> matrices = matrixService.findMatrixSetByRecord(exerciseRecord, viewport);
 
         return new UserResponseDto.DetailMap(user.getLatitude(),
-                user.getLongitude(), matrices, user.getPicturePath());
+                user.getLongitude(), matrices, exerciseRecord.getRoute(), user.getPicturePath());
     }
 
     /*필터 변경: 나의 기록 보기*/
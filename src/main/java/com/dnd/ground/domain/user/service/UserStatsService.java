@@ -0,0 +1,30 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserLifetimeStats;
+import com.dnd.ground.domain.user.UserWeeklyStats;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * @description 회원 운동 통계 서비스 인터페이스
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 통계 기반 걸음 수, 칸 수 랭킹 조회 추가 : 박세헌
+ *          2022-10-18 / 기존 운동 기록으로 통계, 주간 영역 채우기(backfill) 추가 : 박세헌
+ */
+
+public interface UserStatsService {
+    void addRecord(ExerciseRecord exerciseRecord, Long area);
+    void rebuild(User user, LocalDate weekStart);
+    int backfill(Long userId);
+    UserWeeklyStats findWeeklyStats(User user, LocalDate weekStart);
+    UserLifetimeStats findLifetimeStats(User user);
+    List<Tuple> findStepCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end);
+    List<Tuple> findMatrixCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end);
+}
@@ -0,0 +1,173 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.matrix.matrixService.MatrixService;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserLifetimeStats;
+import com.dnd.ground.domain.user.UserWeeklyStats;
+import com.dnd.ground.domain.user.repository.UserLifetimeStatsRepository;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.exception.CommonErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Tuple;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * @description 회원 운동 통계 서비스 클래스
+ *              - 운동 기록 저장 시 주간 통계, 누적 통계를 같은 트랜잭션에서 갱신
+ *              - 갱신은 upsert 쿼리 한 번으로 더하므로 같은 회원의 기록이 동시에 저장되어도 값을 잃거나 row 가 중복되지 않음
+ *              - 주 단위 기간의 걸음 수, 칸 수 랭킹은 기록 대신 주간 통계로 계산 (기록 수와 무관)
+ *              - 커밋 후 전체 회원 주간 랭킹 카운터에도 반영 (롤백되면 반영하지 않음)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 통계 원자적 갱신, 통계 기반 랭킹 조회 추가 : 박세헌
+ *          2022-10-18 / 전체 회원 주간 랭킹 카운터 반영 : 박세헌
+ *          2022-10-18 / 통계 row 생성을 upsert 로 변경 (update 후 insert 경합 제거) : 박세헌
+ *          2022-10-18 / 기존 운동 기록으로 주간 영역, 주간 통계, 누적 통계 채우기(backfill) 추가 : 박세헌
+ */
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final UserLifetimeStatsRepository userLifetimeStatsRepository;
+    private final ExerciseRecordRepository exerciseRecordRepository;
+    private final UserRepository userRepository;
+    private final MatrixService matrixService;
+    private final GlobalRankingService globalRankingService;
+
+    // 운동 기록 반영 (area: 운동 기록이 속한 주의 영역의 수)
+    @Transactional
+    public void addRecord(ExerciseRecord exerciseRecord, Long area) {
+        User user = exerciseRecord.getUser();
+        LocalDate weekStart = WeeklyTerritory.weekStartOf(exerciseRecord.getStarted());
+
+        Long matrixNumber = exerciseRecord.getMatrixNumber() == null ? 0L : exerciseRecord.getMatrixNumber().longValue();
+        long weekArea = area == null ? 0 : area;
+
+        // 통계 row 가 없으면 기록을 반영해서 새로 만듦
+        userWeeklyStatsRepository.addRecord(user.getId(), weekStart, exerciseRecord.getStepCount(),
+                exerciseRecord.getDistance(), exerciseRecord.getExerciseTime(), matrixNumber, weekArea);
+        userLifetimeStatsRepository.addRecord(user.getId(), 1, exerciseRecord.getStepCount().longValue(),
+                exerciseRecord.getDistance().longValue(), exerciseRecord.getExerciseTime().longValue(), matrixNumber);
+
+        long stepCount = exerciseRecord.getStepCount();
+        afterCommit(() -> globalRankingService.addRecord(user.getId(), weekStart, stepCount, matrixNumber, weekArea));
+    }
+
+    // 운동 기록 삭제, 수정 시 해당 주 통계와 누적 통계 재계산
+    @Transactional
+    public void rebuild(User user, LocalDate weekStart) {
+        rebuildWeeklyStats(user, weekStart);
+        rebuildLifetimeStats(user, exerciseRecordRepository.findRecordsByUser(user));
+    }
+
+    // 통계 테이블이 생기기 전의 운동 기록으로 회원의 주간 영역, 주간 통계, 누적 통계 채우기 (다시 실행해도 같은 결과)
+    // 반환: 채운 주의 수
+    @Transactional
+    public int backfill(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));
+        List<ExerciseRecord> records = exerciseRecordRepository.findRecordsByUser(user);
+
+        Set<LocalDate> weekStarts = new TreeSet<>();
+        records.forEach(r -> weekStarts.add(WeeklyTerritory.weekStartOf(r.getStarted())));
+        for (LocalDate weekStart : weekStarts) {
+            matrixService.rebuildWeeklyTerritory(user, weekStart);
+            rebuildWeeklyStats(user, weekStart);
+        }
+        rebuildLifetimeStats(user, records);
+        return weekStarts.size();
+    }
+
+    // 해당 주 통계를 운동 기록과 주간 영역으로 다시 계산
+    private void rebuildWeeklyStats(User user, LocalDate weekStart) {
+        Long area = matrixService.findWeeklyTerritory(user, weekStart).getLongCardinality();
+
+        UserWeeklyStats weeklyStats = getOrCreateWeeklyStats(user, weekStart);
+        weeklyStats.reset();
+        List<ExerciseRecord> weekRecords = exerciseRecordRepository.findRecord(user.getId(),
+                weekStart.atStartOfDay(), weekStart.plusWeeks(1).atStartOfDay().minusNanos(1));
+        weekRecords.forEach(r -> weeklyStats.addRecord(r, area));
+        long stepCount = weeklyStats.getStepCount(), matrixNumber = weeklyStats.getMatrixNumber();
+        afterCommit(() -> globalRankingService.setStats(user.getId(), weekStart, stepCount, matrixNumber, area));
+    }
+
+    // 누적 통계를 회원의 모든 운동 기록으로 다시 계산
+    private void rebuildLifetimeStats(User user, List<ExerciseRecord> records) {
+        UserLifetimeStats lifetimeStats = getOrCreateLifetimeStats(user);
+        lifetimeStats.reset();
+        records.forEach(lifetimeStats::addRecord);
+    }
+
+    // 회원의 해당 주 통계 조회 (없으면 0)
+    public UserWeeklyStats findWeeklyStats(User user, LocalDate weekStart) {
+        return userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart)
+                .orElseGet(() -> new UserWeeklyStats(user, weekStart));
+    }
+
+    // 회원의 누적 통계 조회 (없으면 0)
+    public UserLifetimeStats findLifetimeStats(User user) {
+        return userLifetimeStatsRepository.findByUser(user)
+                .orElseGet(() -> new UserLifetimeStats(user));
+    }
+
+    // 유저와 친구들의 (start-end) 사이 걸음 수 조회 [닉네임, 걸음 수, 프로필 path] (주 단위 기간이면 주간 통계 사용)
+    public List<Tuple> findStepCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end) {
+        if (UserWeeklyStats.isWeekly(start, end)) {
+            return userWeeklyStatsRepository.findStepCount(userAndFriends,
+                    WeeklyTerritory.weekStartOf(start), UserWeeklyStats.lastWeekOf(end));
+        }
+        return exerciseRecordRepository.findStepCount(userAndFriends, start, end);
+    }
+
+    // 유저와 친구들의 (start-end) 사이 칸 수 조회 [닉네임, 칸 수, 프로필 path] (주 단위 기간이면 주간 통계 사용)
+    public List<Tuple> findMatrixCount(List<User> userAndFriends, LocalDateTime start, LocalDateTime end) {
+        if (UserWeeklyStats.isWeekly(start, end)) {
+            return userWeeklyStatsRepository.findMatrixCount(userAndFriends,
+                    WeeklyTerritory.weekStartOf(start), UserWeeklyStats.lastWeekOf(end));
+        }
+        return exerciseRecordRepository.findMatrixCount(userAndFriends, start, end);
+    }
+
+    // 커밋 후 실행 (트랜잭션 밖이면 바로 실행)
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // 통계 row 가 없으면 0 으로 만든 뒤 조회 (upsert 로 만들어서 동시에 호출되어도 row 는 하나)
+    private UserWeeklyStats getOrCreateWeeklyStats(User user, LocalDate weekStart) {
+        userWeeklyStatsRepository.addRecord(user.getId(), weekStart, 0, 0, 0, 0L, 0L);
+        return userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart).orElseThrow();
+    }
+
+    private UserLifetimeStats getOrCreateLifetimeStats(User user) {
+        userLifetimeStatsRepository.addRecord(user.getId(), 0, 0L, 0L, 0L, 0L);
+        return userLifetimeStatsRepository.findByUser(user).orElseThrow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.dnd.ground.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * @description 작업 스레드 설정 파일
+ *              - recordIngestExecutor: 기록 끝 비동기 저장 작업 스레드 (작업 스레드마다 큐 하나를 계속 처리)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor recordIngestExecutor(@Value("${record.ingest.workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);  // 작업 스레드 수만큼만 실행 (대기 작업 없음)
+        executor.setThreadNamePrefix("record-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);  // 처리 중인 batch 는 끝까지 저장
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
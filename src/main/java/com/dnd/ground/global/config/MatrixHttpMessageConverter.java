@@ -0,0 +1,141 @@
+package com.dnd.ground.global.config;
+
+import com.dnd.ground.domain.challenge.dto.ChallengeMapResponseDto;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.user.dto.HomeResponseDto;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.global.util.CellUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * @description 지도 응답(칸 목록)을 압축된 바이너리로 내려주는 메시지 컨버터
+ *              - Accept: application/vnd.ground.matrix 인 경우에만 사용, 기본은 JSON
+ *              - 형식(big endian)
+ *                [매직 "GRMX"][버전(1byte)]
+ *                [헤더 길이(int)][헤더: 응답 JSON, 모든 matrices 배열은 프레임 번호(int)로 치환]
+ *                [프레임 수(int)][프레임 길이(int)][프레임]...
+ *              - 프레임: [칸 수 포함 여부(1byte)][CellUtil.compress 로 압축된 셀 ID][칸 수(int, 셀 ID 오름차순)...]
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class MatrixHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MATRIX_BINARY = MediaType.parseMediaType("application/vnd.ground.matrix");
+
+    private static final byte[] MAGIC = {'G', 'R', 'M', 'X'};
+    private static final byte VERSION = 1;
+    private static final String FRAMES = "matrixFrames";
+
+    private static final Set<Class<?>> SUPPORTED = Set.of(
+            HomeResponseDto.class, UserResponseDto.DetailMap.class, ChallengeMapResponseDto.Detail.class);
+
+    private final ObjectMapper objectMapper;
+
+    public MatrixHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MATRIX_BINARY);
+        // matrices 필드만 프레임 번호로 바꿔서 쓰는 ObjectMapper
+        this.objectMapper = objectMapper.copy().registerModule(new SimpleModule().setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                for (BeanPropertyWriter property : beanProperties) {
+                    if (property.getName().equals("matrices")) property.assignSerializer(new FrameSerializer());
+                }
+                return beanProperties;
+            }
+        }));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SUPPORTED.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않는 형식입니다.", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) throws IOException {
+        List<byte[]> frames = new ArrayList<>();
+        byte[] header = objectMapper.writer().withAttribute(FRAMES, frames).writeValueAsBytes(object);
+
+        DataOutputStream out = new DataOutputStream(outputMessage.getBody());
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(header.length);
+        out.write(header);
+        out.writeInt(frames.size());
+        for (byte[] frame : frames) {
+            out.writeInt(frame.length);
+            out.write(frame);
+        }
+        out.flush();
+    }
+
+    /*칸 목록 -> 프레임*/
+    static byte[] toFrame(List<MatrixDto> matrices) throws IOException {
+        long[] cellIds = new long[matrices.size()];
+        boolean hasCount = false;
+        for (int i = 0; i < cellIds.length; i++) {
+            cellIds[i] = matrices.get(i).toCellId();
+            hasCount |= matrices.get(i).getCount() != null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(hasCount ? 1 : 0);
+        out.write(CellUtil.compress(cellIds));
+
+        if (hasCount) {
+            // 압축된 셀 ID 순서(오름차순)에 맞춰 칸 수 기록
+            Map<Long, Integer> counts = new HashMap<>();
+            for (int i = 0; i < cellIds.length; i++) {
+                Integer count = matrices.get(i).getCount();
+                counts.merge(cellIds[i], count == null ? 1 : count, Integer::sum);
+            }
+            for (long cellId : CellUtil.distinctSorted(cellIds)) {
+                out.writeInt(counts.get(cellId));
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static class FrameSerializer extends StdSerializer<Object> {
+
+        FrameSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            List<byte[]> frames = (List<byte[]>) provider.getAttribute(FRAMES);
+            frames.add(toFrame((List<MatrixDto>) value));
+            gen.writeNumber(frames.size() - 1);
+        }
+    }
+}
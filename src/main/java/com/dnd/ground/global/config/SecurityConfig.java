@@ -10,6 +10,7 @@ import com.dnd.ground.global.securityFilter.JWTSignFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -30,6 +31,17 @@ import org.springframework.security.web.authentication.www.BasicAuthenticationFi
  * @updated 1. 로그인 필터 추가
  *          2. 기존 SignFilter의 지역 변수명 변경 (loginFilter -> signFilter)
  *          - 2022-09-25 박찬호
+ *          3. 실시간 운동 기록 WebSocket 연결(/ws) 규칙 제외 (세션 id로 구분)
+ *          - 2022-10-18 박세헌
+ *          4. 토큰 검사 필터에서 AuthService 의존성 제거
+ *          5. 회원가입 필터에서 UserRepository 의존성 제거
+ *          - 2022-10-18 박찬호
+ *          6. 카카오 stub(/kakao-stub) 규칙 제외
+ *          - 2022-10-18 박찬호
+ *          7. /ws 는 핸드셰이크만 규칙 제외, 인증은 STOMP CONNECT 에서 토큰으로 (StompAuthInterceptor)
+ *          - 2022-10-18 박세헌
+ *          8. 카카오 stub(/kakao-stub) 규칙 제외는 kakao-stub 프로필에서만 등록
+ *          - 2022-10-18 박찬호
  */
 
 @Configuration
@@ -57,9 +69,9 @@ public class SecurityConfig {
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
         // 회원가입 or 재로그인 인증 필터
-        JWTSignFilter signFilter = new JWTSignFilter(authenticationManager(authenticationConfiguration), authService, userRepository);
+        JWTSignFilter signFilter = new JWTSignFilter(authenticationManager(authenticationConfiguration), authService);
         // 매 request마다 토큰을 검사 해주는 필터
-        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager(authenticationConfiguration), authService, userRepository);
+        JWTCheckFilter checkFilter = new JWTCheckFilter(authenticationManager(authenticationConfiguration), userRepository);
         // 로그인 필터
         JWTLoginFilter loginFIlter = new JWTLoginFilter(authenticationManager(authenticationConfiguration), kakaoService, userRepository);
 
@@ -85,7 +97,16 @@ public class SecurityConfig {
         return (web) -> web.ignoring()
                 .antMatchers("/doc", "/swagger*/**", "/favicon*/**", "/v2/api-docs")
                 .antMatchers("/auth/signup", "/auth/check/origin", "/auth/check/nickname", "/auth/kakao/login")
-                .antMatchers("/dummy/**");
+                .antMatchers("/dummy/**")
+                .antMatchers("/ws/**");  // SockJS 핸드셰이크 (STOMP CONNECT 에서 토큰 인증)
+    }
+
+    /* 카카오 stub 은 kakao-stub 프로필(로컬)에서만 규칙 제외 */
+    @Bean
+    @Profile("kakao-stub")
+    public WebSecurityCustomizer kakaoStubSecurityCustomizer() {
+        return (web) -> web.ignoring()
+                .antMatchers("/kakao-stub/**");
     }
 
 }
\ No newline at end of file
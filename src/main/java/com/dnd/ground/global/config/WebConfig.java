@@ -1,22 +1,38 @@
 package com.dnd.ground.global.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 /**
  * @description Web 관련 설정 파일
  * @author  박찬호
  * @since   2022-07-21
  * @updated 2022-07-21 / CORS 설정 추가
+ *          2022-10-18 / 지도 응답 바이너리 컨버터 추가 : 박세헌
  */
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE");
     }
+
+    // JSON 컨버터 뒤에 추가: Accept 에 application/vnd.ground.matrix 가 있을 때만 선택됨
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MatrixHttpMessageConverter(objectMapper));
+    }
 }
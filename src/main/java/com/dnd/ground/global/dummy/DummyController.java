@@ -13,6 +13,14 @@ import org.springframework.web.bind.annotation.*;
  * @since   2022-10-04
  * @updated 1. 회원, 운동 기록, 영역과 관련된 로직 생성
  *          - 2022.10.04 박찬호
+ *          2. 영역 저장 벤치마크 api 추가
+ *          - 2022.10.18 박세헌
+ *          3. matrix row 마이그레이션 api 추가
+ *          - 2022.10.18 박세헌
+ *          4. matrix row 마이그레이션 api 삭제 (matrix-migration 프로필 실행기로 이동)
+ *          - 2022.10.18 박세헌
+ *          5. 영역 저장 벤치마크 api 삭제 (src/jmh MatrixInsertBenchmark 로 이동)
+ *          - 2022.10.18 박세헌
  */
 
 @Api(tags = "더미 데이터")
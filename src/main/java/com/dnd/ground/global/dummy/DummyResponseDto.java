@@ -13,6 +13,10 @@ import java.util.ArrayList;
  * @since   2022-10-04
  * @updated 1. 회원, 운동 기록, 영역과 관련된 로직 생성
  *          - 2022.10.04 박찬호
+ *          2. 영역 저장 벤치마크 결과 추가
+ *          - 2022.10.18 박세헌
+ *          3. 영역 저장 벤치마크 결과 삭제 (src/jmh MatrixInsertBenchmark 로 이동)
+ *          - 2022.10.18 박세헌
  */
 public class DummyResponseDto {
 
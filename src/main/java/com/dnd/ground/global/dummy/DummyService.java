@@ -8,11 +8,19 @@ import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
 import com.dnd.ground.domain.friend.Friend;
 import com.dnd.ground.domain.friend.repository.FriendRepository;
 import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
 import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
+import com.dnd.ground.domain.matrix.matrixService.MatrixService;
 import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserLifetimeStatsRepository;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import com.dnd.ground.domain.user.service.UserStatsService;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.CellUtil;
 import com.dnd.ground.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -30,6 +38,18 @@ import java.util.List;
  * @since   2022-10-04
  * @updated 1. 회원, 운동 기록, 영역과 관련된 로직 생성
  *          - 2022.10.04 박찬호
+ *          2. 영역을 운동 기록의 압축 컬럼으로 저장
+ *          - 2022.10.18 박세헌
+ *          3. 회원, 운동 기록 삭제 시 주간 영역, 통계 삭제/재계산
+ *          - 2022.10.18 박세헌
+ *          4. 영역 저장 벤치마크(한 건씩 insert vs JDBC batch insert) 추가
+ *          - 2022.10.18 박세헌
+ *          5. 기존 matrix row 를 압축 칸 컬럼으로 변환하는 마이그레이션 추가
+ *          - 2022.10.18 박세헌
+ *          6. 마이그레이션을 matrix-migration 프로필 실행기(MatrixMigrationRunner)로 이동
+ *          - 2022.10.18 박세헌
+ *          7. 영역 저장 벤치마크 삭제 (src/jmh MatrixInsertBenchmark 로 이동)
+ *          - 2022.10.18 박세헌
  */
 
 @RequiredArgsConstructor
@@ -38,6 +58,11 @@ public class DummyService {
     private final UserRepository userRepository;
     private final ExerciseRecordRepository exerciseRecordRepository;
     private final MatrixRepository matrixRepository;
+    private final MatrixService matrixService;
+    private final WeeklyTerritoryRepository weeklyTerritoryRepository;
+    private final UserWeeklyStatsRepository userWeeklyStatsRepository;
+    private final UserLifetimeStatsRepository userLifetimeStatsRepository;
+    private final UserStatsService userStatsService;
     private final FriendRepository friendRepository;
     private final UserChallengeRepository userChallengeRepository;
     private final ChallengeRepository challengeRepository;
@@ -126,6 +151,11 @@ public class DummyService {
             exerciseRecordRepository.delete(record);
         }
 
+        //주간 영역, 통계 삭제
+        weeklyTerritoryRepository.deleteByUser(user);
+        userWeeklyStatsRepository.deleteByUser(user);
+        userLifetimeStatsRepository.deleteByUser(user);
+
         //친구 관계 삭제
         List<Friend> friends = friendRepository.findFriendsAnyway(user);
         friendRepository.deleteAll(friends);
@@ -185,16 +215,15 @@ public class DummyService {
                 .exerciseTime(request.getExerciseTime())
                 .stepCount(request.getStepCount())
                 .message(request.getMessage())
+                .matrixNumber(0)
                 .matrices(new ArrayList<>())
                 .build();
 
         //영억 넣기
-        ArrayList<ArrayList<Double>> matrices = request.getMatrices();
-        for (ArrayList<Double> matrix : matrices) {
-            record.addMatrix(new Matrix(matrix.get(0), matrix.get(1)));
-        }
+        Long area = matrixService.saveCells(record, toCellIds(request.getMatrices()));
 
         exerciseRecordRepository.save(record);
+        userStatsService.addRecord(record, area);
 
         return ResponseEntity.ok()
                 .body(record.getId());
@@ -208,10 +237,8 @@ public class DummyService {
         );
 
         ArrayList<ArrayList<Double>> matrices = request.getMatrices();
-
-        for (ArrayList<Double> matrix : matrices) {
-            record.addMatrix(new Matrix(matrix.get(0), matrix.get(1)));
-        }
+        matrixService.saveCells(record, toCellIds(matrices));
+        userStatsService.rebuild(record.getUser(), WeeklyTerritory.weekStartOf(record.getStarted()));
 
         return ResponseEntity.ok()
                 .body(matrices.size());
@@ -225,13 +252,13 @@ public class DummyService {
 
         DummyResponseDto.DummyMatricesInfo response = new DummyResponseDto.DummyMatricesInfo();
 
-        List<Matrix> matrices = matrixRepository.findByRecord(record);
+        List<MatrixDto> matrices = matrixService.findMatrixSetByRecord(record);
 
         //사이즈
         response.setSize((long) matrices.size());
 
         //영역 추가
-        for (Matrix matrix : matrices) {
+        for (MatrixDto matrix : matrices) {
             response.addMatrix(matrix.getLatitude(), matrix.getLongitude());
         }
 
@@ -250,7 +277,19 @@ public class DummyService {
         matrixRepository.deleteAll(matrices);
         exerciseRecordRepository.delete(record);
 
+        //삭제된 기록이 속한 주의 영역 재계산
+        matrixService.rebuildWeeklyTerritory(record.getUser(), WeeklyTerritory.weekStartOf(record.getStarted()));
+        userStatsService.rebuild(record.getUser(), WeeklyTerritory.weekStartOf(record.getStarted()));
+
         return ResponseEntity.ok()
                 .body(true);
     }
+
+    private long[] toCellIds(ArrayList<ArrayList<Double>> matrices) {
+        long[] cellIds = new long[matrices.size()];
+        for (int i = 0; i < cellIds.length; i++) {
+            cellIds[i] = CellUtil.encode(matrices.get(i).get(0), matrices.get(i).get(1));
+        }
+        return cellIds;
+    }
 }
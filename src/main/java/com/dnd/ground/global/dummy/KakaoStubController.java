@@ -0,0 +1,85 @@
+package com.dnd.ground.global.dummy;
+
+import io.swagger.annotations.Api;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * @description 테스트, 부하 테스트용 카카오 API stub 컨트롤러
+ *              - kakao-stub 프로필에서만 등록 (kakao.api-url 을 이 컨트롤러로 지정)
+ *              - 토큰이 숫자면 그 값을, 아니면 토큰의 해시를 카카오 회원 번호로 사용
+ *              - kakao.stub.latency 만큼 응답을 지연시켜 느린 카카오 응답 재현
+ * @author  박찬호
+ * @since   2022-10-18
+ * @updated 1. 토큰 정보, 사용자 정보 조회 API 생성
+ *          - 2022.10.18 박찬호
+ */
+
+@Api(tags = "카카오 stub")
+@Slf4j
+@Profile("kakao-stub")
+@RequestMapping("/kakao-stub")
+@RestController
+public class KakaoStubController {
+
+    @Value("${kakao.stub.latency:0}")
+    private long latency;
+
+    @GetMapping("/v1/user/access_token_info")
+    @Operation(summary = "카카오 토큰 정보 stub", description = "Authorization: Bearer 토큰\n카카오 회원 번호, 남은 만료 시간, 앱 번호 반환")
+    public ResponseEntity<?> getTokenInfo(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        Long kakaoId = kakaoIdOf(authorization);
+        if (kakaoId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        delay();
+        return ResponseEntity.ok(Map.of(
+                "id", kakaoId,
+                "expires_in", 21599,
+                "app_id", 0));
+    }
+
+    @GetMapping("/v2/user/me")
+    @Operation(summary = "카카오 사용자 정보 stub", description = "Authorization: Bearer 토큰\n카카오 회원 번호, 이메일, 프로필 사진 반환")
+    public ResponseEntity<?> getUserInfo(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        Long kakaoId = kakaoIdOf(authorization);
+        if (kakaoId == null) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+
+        delay();
+        return ResponseEntity.ok(Map.of(
+                "id", kakaoId,
+                "kakao_account", Map.of(
+                        "email", kakaoId + "@stub.kakao",
+                        "profile", Map.of("profile_image_url", "http://stub.kakao/" + kakaoId + ".jpg"))));
+    }
+
+    private static Long kakaoIdOf(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) return null;
+
+        String token = authorization.substring("Bearer ".length());
+        if (token.isBlank()) return null;
+        try {
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            return (long) (token.hashCode() & Integer.MAX_VALUE);
+        }
+    }
+
+    private void delay() {
+        if (latency <= 0) return;
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
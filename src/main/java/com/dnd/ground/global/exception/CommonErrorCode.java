@@ -10,6 +10,12 @@ import org.springframework.http.HttpStatus;
  * @since   2022-08-24
  * @updated 1. 에러 코드 추가 (NOT_FOUND_FRIEND_REQUEST)
  *          -2022.10.10 박찬호
+ *          2. 에러 코드 추가 (NOT_FOUND_LIVE_SESSION)
+ *          -2022.10.18 박세헌
+ *          3. 에러 코드 추가 (RECORD_QUEUE_FULL)
+ *          -2022.10.18 박세헌
+ *          4. 에러 코드 추가 (NOT_VALID_RANKING_PAGE)
+ *          -2022.10.18 박세헌
  */
 
 @RequiredArgsConstructor
@@ -23,6 +29,9 @@ public enum CommonErrorCode implements ErrorCode {
     NOT_FOUND_CHALLENGE(HttpStatus.BAD_REQUEST, "챌린지가 존재하지 않습니다."),
     NOT_FOUND_RECORD(HttpStatus.BAD_REQUEST, "운동 기록이 존재하지 않습니다."),
     NOT_FOUND_USER_CHALLENGE(HttpStatus.BAD_REQUEST, "해당 유저의 챌린지 관련 기록이 없습니다."),
+    NOT_FOUND_LIVE_SESSION(HttpStatus.BAD_REQUEST, "진행 중인 실시간 기록 세션이 없습니다."),
+
+    NOT_VALID_RANKING_PAGE(HttpStatus.BAD_REQUEST, "잘못된 랭킹 페이지 요청입니다."),
 
     NOT_CHANGE_MASTER_STATUS(HttpStatus.BAD_REQUEST, "주최자의 상태를 변경할 수 없습니다."),
 
@@ -37,7 +46,8 @@ public enum CommonErrorCode implements ErrorCode {
     //5XX
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 동작 중 예외가 발생했습니다."),
     SQL_INTEGRITY_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SQL 처리 중 무결성 문제가 발생했습니다."),
-    NULL_POINTER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Null Pointer 예외가 발생했습니다.");
+    NULL_POINTER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "Null Pointer 예외가 발생했습니다."),
+    RECORD_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "기록 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String message;
@@ -3,7 +3,6 @@ package com.dnd.ground.global.securityFilter;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.repository.UserRepository;
-import com.dnd.ground.domain.user.service.AuthService;
 import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
 import com.dnd.ground.global.util.JwtUtil;
@@ -11,8 +10,9 @@ import com.dnd.ground.global.util.JwtVerifyResult;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 import javax.security.sasl.AuthenticationException;
@@ -21,6 +21,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -29,21 +30,25 @@ import java.util.Objects;
  * @since   2022-08-02
  * @updated 1. 전체 적인 로직 수정
  *          - 2022.08.24 박세헌
+ *          2. 검증된 토큰의 subject(닉네임)로 인증 정보 생성 (매 요청마다 회원 조회, BCrypt 인코딩 제거)
+ *          - 2022.10.18 박찬호
+ *          3. 리프레시 토큰은 캐시하지 않는 검증(verifyRefreshToken) 사용
+ *          - 2022.10.18 박찬호
  * @note 1. 매 request마다 토큰을 검사하여 securityContestHolder에 채워줌
  *       2. 해당 필터에서 자동 로그인을 구현 하면 될 것 같음
+ *       3. 토큰은 서버가 서명한 것만 통과하므로 인증 정보에 비밀번호는 담지 않음 (리프레시 토큰만 DB와 비교)
  */
 
 @Slf4j
 public class JWTCheckFilter extends BasicAuthenticationFilter {
 
-    private final AuthService authService;
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("BASIC"));
+
     private final UserRepository userRepository;
 
     public JWTCheckFilter(AuthenticationManager authenticationManager,
-                          AuthService authService,
                           UserRepository userRepository) {
         super(authenticationManager);
-        this.authService = authService;
         this.userRepository = userRepository;
     }
 
@@ -62,7 +67,7 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
         if (refreshToken != null) {
             try {
                 token = refreshToken.substring("Bearer ".length());
-                result = JwtUtil.verify(token);
+                result = JwtUtil.verifyRefreshToken(token);
             } catch (Exception e) {
                 request.setAttribute("exception", CommonErrorCode.WRONG_TOKEN.getMessage());
                 throw new AuthenticationException("잘못된 토큰 입니다.");
@@ -79,11 +84,7 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
                 // 유저의 리프레시 토큰과 넘어온 리프레시 토큰이 같으면
                 if (Objects.equals(user.getRefreshToken(), token)) {
                     // 필터 통과
-                    UserDetails userDetails = authService.loadUserByUsername(result.getNickname());
-                    UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
-                            userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities()
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(userToken);
+                    authenticate(result.getNickname());
                     chain.doFilter(request, response);
                 }
                 else {
@@ -107,12 +108,16 @@ public class JWTCheckFilter extends BasicAuthenticationFilter {
                 throw new TokenExpiredException("액세스 토큰이 만료되었습니다.");
             }
             // 필터 통과
-            UserDetails user = authService.loadUserByUsername(result.getNickname());
-            UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
-                    user.getUsername(), user.getPassword(), user.getAuthorities()
-            );
-            SecurityContextHolder.getContext().setAuthentication(userToken);
+            authenticate(result.getNickname());
             chain.doFilter(request, response);
         }
     }
+
+    // 검증된 토큰의 닉네임으로 인증 정보 생성 (DB 조회, 비밀번호 인코딩 x)
+    private static void authenticate(String nickname) {
+        UsernamePasswordAuthenticationToken userToken = new UsernamePasswordAuthenticationToken(
+                nickname, null, AUTHORITIES
+        );
+        SecurityContextHolder.getContext().setAuthentication(userToken);
+    }
 }
@@ -1,27 +1,26 @@
 package com.dnd.ground.global.securityFilter;
 
 import com.dnd.ground.domain.user.dto.JwtUserDto;
-import com.dnd.ground.domain.user.repository.UserRepository;
 import com.dnd.ground.domain.user.service.AuthService;
-import com.dnd.ground.global.exception.CNotFoundException;
 import com.dnd.ground.global.exception.CommonErrorCode;
-import com.dnd.ground.global.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * @description 회원가입 혹은 재로그인시 인증 필터
@@ -30,6 +29,8 @@ import java.io.IOException;
  * @updated 1. 필터 생성
  *          2. password: kakaoId + 닉네임
  *          - 2022.08.24 박세헌
+ *          3. 회원 저장, 토큰 발급을 AuthService로 이동 (회원가입 API와 공유)
+ *          - 2022.10.18 박찬호
  * @note 1. 찬호가 카카오 유저 대한 정보를 JwtUserDto에 맞게 "/sign"으로 post요청(회원가입 or 재로그인)
  *
  */
@@ -37,17 +38,16 @@ import java.io.IOException;
 @Slf4j
 public class JWTSignFilter extends UsernamePasswordAuthenticationFilter {
 
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("BASIC"));
+
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final AuthService authService;
-    private final UserRepository userRepository;
 
     public JWTSignFilter(AuthenticationManager authenticationManager,
-                         AuthService authService,
-                         UserRepository userRepository)
+                         AuthService authService)
     {
         super(authenticationManager);
         this.authService = authService;
-        this.userRepository = userRepository;
         setFilterProcessesUrl("/sign");
     }
 
@@ -64,20 +64,11 @@ public class JWTSignFilter extends UsernamePasswordAuthenticationFilter {
             request.setAttribute("exception", CommonErrorCode.INTERNAL_SERVER_ERROR.getMessage());
         }
 
-        // 신규 회원이면 저장
-        if (!userRepository.existsByKakaoId(userDto.getId())){
-            authService.save(userDto);
-        }
-
-        // id: 닉네임, password: kakaoId + 닉네임
-        UsernamePasswordAuthenticationToken token = new UsernamePasswordAuthenticationToken(
-                userDto.getNickname(),
-                userDto.getId()+userDto.getNickname(),
-                null
-        );
+        // 신규 회원이면 저장, 카카오 ID와 닉네임 확인 (AuthService.signUp과 같은 로직)
+        String nickname = authService.sign(userDto);
 
-        // AuthenticationManager에게 인증 요청
-        return getAuthenticationManager().authenticate(token);
+        // 인증 완료 (비밀번호 인코딩, AuthenticationManager 거치지 않음)
+        return new UsernamePasswordAuthenticationToken(nickname, null, AUTHORITIES);
     }
 
     // 성공적으로 인증이 되었다면 넘어옴 해당 함수로 넘어옴
@@ -88,24 +79,15 @@ public class JWTSignFilter extends UsernamePasswordAuthenticationFilter {
             FilterChain chain,
             Authentication authResult) throws IOException, ServletException
     {
-        // 유저 찾아서
-        User principal = (User) authResult.getPrincipal();
-        String accessToken = JwtUtil.makeAccessToken(principal.getUsername());
-        String refreshToken = JwtUtil.makeRefreshToken(principal.getUsername());
-
         // Jwt토큰 발급, refresh 토큰은 저장
-        response.setHeader("Authorization", "Bearer "+accessToken);
-        response.setHeader("Refresh-Token", "Bearer "+refreshToken);
+        String nickname = (String) authResult.getPrincipal();
+        HttpHeaders headers = authService.issueTokens(nickname);
+        headers.forEach((name, values) -> response.setHeader(name, values.get(0)));
         response.setContentType("application/json; charset=utf-8");
 
-        com.dnd.ground.domain.user.User user = userRepository.findByNickname(principal.getUsername())
-                .orElseThrow(() -> new CNotFoundException(CommonErrorCode.NOT_FOUND_USER));;
-        user.updateRefreshToken(refreshToken);
-        userRepository.save(user);
-
         // 닉네임과 함께 response
         JSONObject json = new JSONObject();
-        json.put("nickname", principal.getUsername());
+        json.put("nickname", nickname);
         response.getWriter().write(String.valueOf(json));
     }
 }
\ No newline at end of file
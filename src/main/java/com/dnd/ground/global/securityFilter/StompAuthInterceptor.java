@@ -0,0 +1,72 @@
+package com.dnd.ground.global.securityFilter;
+
+import com.dnd.ground.global.exception.CommonErrorCode;
+import com.dnd.ground.global.util.JwtUtil;
+import com.dnd.ground.global.util.JwtVerifyResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @description STOMP 연결 인증 인터셉터
+ *              - CONNECT 프레임의 Authorization 헤더(Bearer 액세스 토큰)를 검증해서 연결의 회원(닉네임)으로 등록
+ *              - 인증되지 않은 연결의 SEND, SUBSCRIBE 는 거부
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ * @note 1. /ws 핸드셰이크(SockJS)는 헤더를 보낼 수 없어 시큐리티 규칙에서 제외하고, 인증은 CONNECT 에서 함
+ *       2. 세션 소유 여부는 등록된 닉네임으로 LiveSessionService 에서 확인
+ */
+
+@Slf4j
+@Component
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("BASIC"));
+    private static final String BEARER = "Bearer ";
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) return message;
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            accessor.setUser(new UsernamePasswordAuthenticationToken(verify(accessor.getFirstNativeHeader("Authorization")),
+                    null, AUTHORITIES));
+        } else if ((accessor.getCommand() == StompCommand.SEND || accessor.getCommand() == StompCommand.SUBSCRIBE)
+                && accessor.getUser() == null) {
+            throw new AccessDeniedException(CommonErrorCode.ACCESS_DENIED.getMessage());
+        }
+        return message;
+    }
+
+    // 액세스 토큰 검증 -> 닉네임
+    private static String verify(String header) {
+        if (header == null || !header.startsWith(BEARER)) {
+            throw new AccessDeniedException(CommonErrorCode.WRONG_TOKEN.getMessage());
+        }
+
+        JwtVerifyResult result;
+        try {
+            result = JwtUtil.verify(header.substring(BEARER.length()));
+        } catch (RuntimeException e) {
+            throw new AccessDeniedException(CommonErrorCode.WRONG_TOKEN.getMessage());
+        }
+        if (!result.isSuccess()) {
+            log.info("**STOMP 연결 토큰 만료** 닉네임:{}", result.getNickname());
+            throw new AccessDeniedException(CommonErrorCode.ACCESS_TOKEN_EXPIRED.getMessage());
+        }
+        return result.getNickname();
+    }
+}
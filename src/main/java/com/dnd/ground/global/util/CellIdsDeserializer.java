@@ -0,0 +1,56 @@
+package com.dnd.ground.global.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @description [[위도, 경도], [위도, 경도], ...] 형태의 칸 좌표 배열을 셀 ID 배열(long[])로 바로 읽는 역직렬화 클래스
+ *              - 토큰 단위로 읽으면서 바로 셀 ID로 변환하므로 Double, ArrayList 객체를 만들지 않음 (칸 1개당 8byte)
+ *              - 입력 순서 유지 (마지막 칸 = 회원의 마지막 위치)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class CellIdsDeserializer extends JsonDeserializer<long[]> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    @Override
+    public long[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return (long[]) context.handleUnexpectedToken(long[].class, parser);
+        }
+
+        long[] cellIds = new long[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return (long[]) context.handleUnexpectedToken(long[].class, parser);
+            }
+            double latitude = nextCoordinate(parser, context);
+            double longitude = nextCoordinate(parser, context);
+            if (parser.nextToken() != JsonToken.END_ARRAY) {
+                context.reportInputMismatch(long[].class, "칸 좌표는 [위도, 경도] 형식이어야 합니다.");
+            }
+
+            if (size == cellIds.length) cellIds = Arrays.copyOf(cellIds, size * 2);
+            cellIds[size++] = CellUtil.encode(latitude, longitude);
+        }
+        return Arrays.copyOf(cellIds, size);
+    }
+
+    private static double nextCoordinate(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            context.reportInputMismatch(long[].class, "칸 좌표는 [위도, 경도] 형식이어야 합니다.");
+        }
+        return parser.getDoubleValue();
+    }
+}
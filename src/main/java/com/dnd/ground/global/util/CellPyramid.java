@@ -0,0 +1,96 @@
+package com.dnd.ground.global.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * @description 축소된 지도를 위한 칸 피라미드 유틸 클래스
+ *              - 단계(level) L의 상위 칸 크기 = BASE_SIZE_E6 * 2^L (마이크로 도), 0단계는 원본 칸
+ *              - 셀 ID의 양자화된 위도/경도를 상위 칸 크기로 내림 나눗셈해 상위 칸을 구하고, 상위 칸의 중심 좌표를 셀 ID로 사용
+ *              - 상위 칸에는 포함된 원본 칸의 수(count)를 함께 저장
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class CellPyramid {
+
+    // 0단계 칸 크기(마이크로 도): 원본 칸의 간격(약 0.0003 ~ 0.000374도)을 모두 덮는 크기
+    public static final int BASE_SIZE_E6 = 375;
+
+    // 최대 단계(375 * 2^20 마이크로 도 = 약 393도 -> 전 지구가 한 칸)
+    public static final int MAX_LEVEL = 20;
+
+    // 한 번에 내려주는 최대 칸 수
+    public static final int MAX_CELLS = 2000;
+
+    private CellPyramid() {
+    }
+
+    /*해당 단계의 상위 칸 셀 ID (상위 칸의 중심 좌표)*/
+    public static long parentOf(long cellId, int level) {
+        if (level <= 0) return cellId;
+
+        int size = BASE_SIZE_E6 << level;
+        return CellUtil.pack(center(CellUtil.latitudeE6(cellId), size), center(CellUtil.longitudeE6(cellId), size));
+    }
+
+    /*해당 단계로 묶기*/
+    public static Cells aggregate(long[] cellIds, int level) {
+        if (level <= 0) {
+            int[] counts = new int[cellIds.length];
+            Arrays.fill(counts, 1);
+            return new Cells(cellIds, counts, 0);
+        }
+
+        long[] parents = new long[cellIds.length];
+        for (int i = 0; i < cellIds.length; i++) {
+            parents[i] = parentOf(cellIds[i], level);
+        }
+        Arrays.sort(parents);
+
+        // 정렬된 상위 칸을 run-length 로 압축
+        long[] ids = new long[parents.length];
+        int[] counts = new int[parents.length];
+        int size = 0;
+        for (int i = 0; i < parents.length; i++) {
+            if (size > 0 && ids[size - 1] == parents[i]) counts[size - 1]++;
+            else {
+                ids[size] = parents[i];
+                counts[size++] = 1;
+            }
+        }
+        return new Cells(Arrays.copyOf(ids, size), Arrays.copyOf(counts, size), level);
+    }
+
+    /*요청한 단계부터 시작해, 칸의 수가 maxCells 이하가 될 때까지 단계를 올려서 묶기*/
+    public static Cells aggregate(long[] cellIds, int level, int maxCells) {
+        int current = Math.max(0, Math.min(level, MAX_LEVEL));
+        Cells cells = aggregate(cellIds, current);
+        while (cells.size() > maxCells && current < MAX_LEVEL) {
+            cells = aggregate(cellIds, ++current);
+        }
+        return cells;
+    }
+
+    private static int center(int coordinateE6, int size) {
+        long origin = Math.floorDiv((long) coordinateE6, size) * size;
+        return (int) (origin + size / 2);
+    }
+
+    /*묶인 칸: [셀 ID, 포함된 원본 칸의 수], 실제 적용된 단계*/
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Cells {
+        private final long[] cellIds;
+        private final int[] counts;
+        private final int level;
+
+        public int size() {
+            return cellIds.length;
+        }
+    }
+}
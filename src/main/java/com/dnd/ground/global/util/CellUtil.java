@@ -0,0 +1,148 @@
+package com.dnd.ground.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * @description 칸(Matrix) 좌표 <-> 셀 ID(long) 변환 유틸 클래스
+ *              - 위도/경도를 소수점 6자리(마이크로 도) 정수로 양자화한 뒤 상위 32비트(위도), 하위 32비트(경도)에 저장
+ *              - 저장(ingest)과 조회(read)가 같은 코덱을 사용하므로 칸의 동등 비교, 중복 제거, 영역 계산을 정수 연산으로 처리
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 1. 셀 ID 코덱 생성
+ *          - 2022.10.18 박세헌
+ *          2. 운동 기록 단위 셀 ID 압축(정렬 + delta + varint) 추가
+ *          - 2022.10.18 박세헌
+ *          3. 셀 ID 배열 합치기 추가
+ *          - 2022.10.18 박세헌
+ */
+
+public class CellUtil {
+
+    // 좌표 양자화 단위(1e-6도 = 약 0.1m)
+    public static final int SCALE = 1_000_000;
+
+    private static final long LOWER_MASK = 0xFFFFFFFFL;
+
+    private CellUtil() {
+    }
+
+    /*위도, 경도 -> 셀 ID*/
+    public static long encode(double latitude, double longitude) {
+        return pack(quantize(latitude), quantize(longitude));
+    }
+
+    /*양자화된 위도, 경도 -> 셀 ID*/
+    public static long pack(int latitudeE6, int longitudeE6) {
+        return ((long) latitudeE6 << 32) | (longitudeE6 & LOWER_MASK);
+    }
+
+    /*셀 ID -> 양자화된 위도*/
+    public static int latitudeE6(long cellId) {
+        return (int) (cellId >> 32);
+    }
+
+    /*셀 ID -> 양자화된 경도*/
+    public static int longitudeE6(long cellId) {
+        return (int) cellId;
+    }
+
+    /*셀 ID -> 위도*/
+    public static double latitude(long cellId) {
+        return (double) latitudeE6(cellId) / SCALE;
+    }
+
+    /*셀 ID -> 경도*/
+    public static double longitude(long cellId) {
+        return (double) longitudeE6(cellId) / SCALE;
+    }
+
+    /*좌표 -> 마이크로 도 정수*/
+    public static int quantize(double degree) {
+        return (int) Math.round(degree * SCALE);
+    }
+
+    /*셀 ID 배열 압축: [개수][첫 셀 ID(zigzag)][이전 셀과의 차이...] 모두 varint*/
+    public static byte[] compress(long[] cellIds) {
+        long[] sorted = distinctSorted(cellIds);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(sorted.length * 3 + 8);
+
+        writeVarint(out, sorted.length);
+        if (sorted.length == 0) return out.toByteArray();
+
+        writeVarint(out, (sorted[0] << 1) ^ (sorted[0] >> 63));
+        for (int i = 1; i < sorted.length; i++) {
+            writeVarint(out, sorted[i] - sorted[i - 1]);  // 정렬되어 있으므로 차이는 항상 양수(부호 없는 64비트)
+        }
+        return out.toByteArray();
+    }
+
+    /*압축된 셀 ID 복원 (정렬, 중복 제거된 상태)*/
+    public static long[] decompress(byte[] blob) {
+        if (blob == null || blob.length == 0) return new long[0];
+
+        int[] pos = {0};
+        int size = (int) readVarint(blob, pos);
+        long[] cellIds = new long[size];
+        if (size == 0) return cellIds;
+
+        long zigzag = readVarint(blob, pos);
+        cellIds[0] = (zigzag >>> 1) ^ -(zigzag & 1);
+        for (int i = 1; i < size; i++) {
+            cellIds[i] = cellIds[i - 1] + readVarint(blob, pos);
+        }
+        return cellIds;
+    }
+
+    /*압축된 셀 ID의 개수*/
+    public static int compressedSize(byte[] blob) {
+        if (blob == null || blob.length == 0) return 0;
+        return (int) readVarint(blob, new int[]{0});
+    }
+
+    /*정렬 후 중복 제거*/
+    public static long[] distinctSorted(long[] cellIds) {
+        long[] sorted = Arrays.copyOf(cellIds, cellIds.length);
+        Arrays.sort(sorted);
+
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (size == 0 || sorted[size - 1] != sorted[i]) sorted[size++] = sorted[i];
+        }
+        return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+    }
+
+    /*셀 ID 배열 합치기 (순서 유지)*/
+    public static long[] concat(long[]... arrays) {
+        int size = 0;
+        for (long[] array : arrays) size += array.length;
+
+        long[] result = new long[size];
+        int offset = 0;
+        for (long[] array : arrays) {
+            System.arraycopy(array, 0, result, offset, array.length);
+            offset += array.length;
+        }
+        return result;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] blob, int[] pos) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = blob[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
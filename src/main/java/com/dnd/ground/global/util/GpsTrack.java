@@ -0,0 +1,32 @@
+package com.dnd.ground.global.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @description GPS 이동 경로 (점의 위도, 경도, 시각을 배열로 보관)
+ *              - 시각은 epoch millis, 요청에 시각이 없는 점은 NO_TIME
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class GpsTrack {
+
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final long[] times;
+
+    public int size() {
+        return latitudes.length;
+    }
+
+    public boolean hasTime(int index) {
+        return times[index] != NO_TIME;
+    }
+}
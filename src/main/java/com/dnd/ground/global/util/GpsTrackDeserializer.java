@@ -0,0 +1,68 @@
+package com.dnd.ground.global.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * @description [[위도, 경도, 시각(epoch millis)], ...] 형태의 GPS 경로를 GpsTrack 으로 읽는 역직렬화 클래스
+ *              - 시각은 생략 가능([위도, 경도])
+ *              - CellIdsDeserializer 와 같이 토큰 단위로 읽어 배열에 바로 저장
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class GpsTrackDeserializer extends JsonDeserializer<GpsTrack> {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final String FORMAT_MESSAGE = "GPS 경로는 [위도, 경도, 시각(epoch millis)] 형식이어야 합니다.";
+
+    @Override
+    public GpsTrack deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return (GpsTrack) context.handleUnexpectedToken(GpsTrack.class, parser);
+        }
+
+        double[] latitudes = new double[INITIAL_CAPACITY];
+        double[] longitudes = new double[INITIAL_CAPACITY];
+        long[] times = new long[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                return (GpsTrack) context.handleUnexpectedToken(GpsTrack.class, parser);
+            }
+            if (size == latitudes.length) {
+                latitudes = Arrays.copyOf(latitudes, size * 2);
+                longitudes = Arrays.copyOf(longitudes, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+            }
+
+            latitudes[size] = nextNumber(parser, context).getDoubleValue();
+            longitudes[size] = nextNumber(parser, context).getDoubleValue();
+
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY) times[size] = GpsTrack.NO_TIME;
+            else {
+                if (token != JsonToken.VALUE_NUMBER_INT) context.reportInputMismatch(GpsTrack.class, FORMAT_MESSAGE);
+                times[size] = parser.getLongValue();
+                if (parser.nextToken() != JsonToken.END_ARRAY) context.reportInputMismatch(GpsTrack.class, FORMAT_MESSAGE);
+            }
+            size++;
+        }
+        return new GpsTrack(Arrays.copyOf(latitudes, size), Arrays.copyOf(longitudes, size), Arrays.copyOf(times, size));
+    }
+
+    private static JsonParser nextNumber(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != JsonToken.VALUE_NUMBER_FLOAT && token != JsonToken.VALUE_NUMBER_INT) {
+            context.reportInputMismatch(GpsTrack.class, FORMAT_MESSAGE);
+        }
+        return parser;
+    }
+}
@@ -1,10 +1,19 @@
 package com.dnd.ground.global.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
-;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @description JWT 관련 util(토큰 생성, 유효성 검사)
@@ -12,14 +21,28 @@ import java.time.Instant;
  * @since   2022-08-24
  * @updated 1. JWT Util 클래스 생성
  *          - 2022.08.24 박세헌
+ *          2. 검증기 재사용, 최근 검증한 토큰 캐시(LRU) 추가
+ *          - 2022.10.18 박찬호
+ *          3. 캐시 키를 토큰 해시(SHA-256)로 변경, ConcurrentHashMap 캐시로 변경, 리프레시 토큰은 캐시하지 않음
+ *          - 2022.10.18 박찬호
+ * @note 1. JWTVerifier는 thread-safe 하므로 하나만 만들어 재사용
+ *       2. 검증에 성공한 액세스 토큰은 만료 시각까지 캐시 -> 같은 토큰으로 다시 요청하면 서명 검증 생략
+ *       3. 리프레시 토큰은 verifyRefreshToken 으로 매번 검증 (캐시하지 않음)
  */
 
 public class JwtUtil {
 
     private static final Algorithm ALGORITHM = Algorithm.HMAC256("token-secret-key");
+    private static final JWTVerifier VERIFIER = JWT.require(ALGORITHM).build();
     private static final long ACCESS_TIME = 60 * 30;  // 액세스 토큰 30분
     private static final long REFRESH_TIME = 60*60*24*14;  // 리프레시 토큰 2주
 
+    // 검증 캐시 최대 토큰 수 (가득 차면 만료된 토큰 제거, 그래도 가득 차 있으면 전체 비움)
+    private static final int CACHE_SIZE = 10_000;
+
+    // 액세스 토큰 해시 -> 검증 결과(닉네임, 만료 시각)
+    private static final Map<String, Verified> CACHE = new ConcurrentHashMap<>();
+
     // 액세스 토큰 생성
     public static String makeAccessToken(String name){
         return JWT.create()
@@ -36,17 +59,71 @@ public class JwtUtil {
                 .sign(ALGORITHM);
     }
 
-    // 유효성 검사(토큰 subject, 유효성 여부)
+    // 액세스 토큰 유효성 검사(토큰 subject, 유효성 여부)
     public static JwtVerifyResult verify(String token){
+        long now = Instant.now().getEpochSecond();
+        String key = hash(token);
+        Verified cached = CACHE.get(key);
+        if (cached != null) {
+            if (cached.expiresAt > now) {
+                return JwtVerifyResult.builder().success(true)
+                        .nickname(cached.nickname).build();
+            }
+            CACHE.remove(key);
+        }
+
+        // 한 번만 디코딩 (형식이 잘못된 토큰은 예외)
+        DecodedJWT decode = JWT.decode(token);
+        JwtVerifyResult result = verify(decode);
+
+        Date expiresAt = decode.getExpiresAt();
+        if (result.isSuccess() && expiresAt != null) {
+            if (CACHE.size() >= CACHE_SIZE) evict(now);
+            CACHE.put(key, new Verified(decode.getSubject(), expiresAt.toInstant().getEpochSecond()));
+        }
+        return result;
+    }
+
+    // 리프레시 토큰 유효성 검사(캐시 없이 매번 서명 검증)
+    public static JwtVerifyResult verifyRefreshToken(String token){
+        return verify(JWT.decode(token));
+    }
+
+    private static JwtVerifyResult verify(DecodedJWT decode){
         try {
-            DecodedJWT verify = JWT.require(ALGORITHM).build().verify(token);
-            return JwtVerifyResult.builder().success(true)
-                    .nickname(verify.getSubject()).build();
-        } catch (Exception ex){
-            DecodedJWT decode = JWT.decode(token);
+            VERIFIER.verify(decode);
+        } catch (JWTVerificationException ex){
             return JwtVerifyResult.builder().success(false)
                     .nickname(decode.getSubject()).build();
         }
+        return JwtVerifyResult.builder().success(true)
+                .nickname(decode.getSubject()).build();
+    }
+
+    // 만료된 캐시 제거, 그래도 가득 차 있으면 전체 비움
+    private static void evict(long now) {
+        CACHE.values().removeIf(cached -> cached.expiresAt <= now);
+        if (CACHE.size() >= CACHE_SIZE) CACHE.clear();
+    }
+
+    // 토큰 원문 대신 SHA-256 해시를 캐시 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Verified {
+        private final String nickname;
+        private final long expiresAt;
+
+        Verified(String nickname, long expiresAt) {
+            this.nickname = nickname;
+            this.expiresAt = expiresAt;
+        }
     }
 
-}
\ No newline at end of file
+}
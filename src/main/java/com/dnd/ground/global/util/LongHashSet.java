@@ -0,0 +1,95 @@
+package com.dnd.ground.global.util;
+
+import java.util.Arrays;
+
+/**
+ * @description 셀 ID(long) 전용 해시 셋 (open addressing, linear probing)
+ *              - Long 박싱, 엔트리 객체 없이 long[] 하나만 사용 -> 칸 중복 제거 시 할당 최소화
+ *              - 빈 슬롯은 EMPTY 로 표시하고, EMPTY 와 같은 값은 별도 플래그로 관리
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private boolean hasEmptyKey;
+
+    public LongHashSet(int expectedSize) {
+        // 부하율 0.5 이하 유지
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /*입력 순서를 유지한 채 중복 제거*/
+    public static long[] distinct(long[] values) {
+        LongHashSet set = new LongHashSet(values.length);
+        long[] result = new long[values.length];
+        int size = 0;
+        for (long value : values) {
+            if (set.add(value)) result[size++] = value;
+        }
+        return size == values.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /*추가 (새로 추가되었으면 true)*/
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (hasEmptyKey) return false;
+            hasEmptyKey = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        if (table[index] == value) return false;
+
+        table[index] = value;
+        if (++size * 2 > table.length) rehash();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return hasEmptyKey;
+        return table[indexOf(value)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // value 가 있는 슬롯, 없으면 들어갈 빈 슬롯
+    private int indexOf(long value) {
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        mask = table.length - 1;
+        for (long value : old) {
+            if (value != EMPTY) table[indexOf(value)] = value;
+        }
+    }
+
+    // 셀 ID는 상위/하위 32비트에 위도/경도가 있어 하위 비트만으로는 분포가 나쁘므로 섞어서 사용 (murmur3 fmix64)
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+}
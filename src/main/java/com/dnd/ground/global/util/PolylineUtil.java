@@ -0,0 +1,95 @@
+package com.dnd.ground.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @description GPS 경로 <-> encoded polyline 문자열 변환 유틸 클래스
+ *              - Google encoded polyline 알고리즘, 정밀도는 셀 ID 코덱과 같은 1e-6도 (polyline6)
+ *              - GPS 튐(TrackRasterizer.isJump)이 있던 곳은 경로를 끊고, 끊긴 경로끼리는 PART_SEPARATOR 로 구분
+ *                -> 경로로부터 다시 계산한 칸이 저장 시 계산한 칸과 같음
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ */
+
+public class PolylineUtil {
+
+    // polyline 문자(63 ~ 126)에 없는 문자
+    private static final char PART_SEPARATOR = ' ';
+
+    private PolylineUtil() {
+    }
+
+    /*GPS 경로 -> encoded polyline (GPS 튐에서 끊음)*/
+    public static String encode(GpsTrack track) {
+        StringBuilder route = new StringBuilder(track.size() * 6);
+        int previousLatitude = 0, previousLongitude = 0;
+
+        for (int i = 0; i < track.size(); i++) {
+            if (i > 0 && TrackRasterizer.isJump(track, i - 1, i)) {
+                route.append(PART_SEPARATOR);
+                previousLatitude = 0;
+                previousLongitude = 0;
+            }
+            int latitude = CellUtil.quantize(track.getLatitudes()[i]);
+            int longitude = CellUtil.quantize(track.getLongitudes()[i]);
+            writeValue(route, latitude - previousLatitude);
+            writeValue(route, longitude - previousLongitude);
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+        return route.toString();
+    }
+
+    /*encoded polyline -> 끊긴 경로 목록 (시각 없음)*/
+    public static List<GpsTrack> decode(String route) {
+        List<GpsTrack> parts = new ArrayList<>();
+        if (route == null || route.isEmpty()) return parts;
+
+        for (String part : route.split(String.valueOf(PART_SEPARATOR))) {
+            parts.add(decodePart(part));
+        }
+        return parts;
+    }
+
+    private static GpsTrack decodePart(String part) {
+        double[] latitudes = new double[part.length() / 2 + 1];
+        double[] longitudes = new double[latitudes.length];
+        int size = 0;
+        int[] pos = {0};
+        int latitude = 0, longitude = 0;
+
+        while (pos[0] < part.length()) {
+            latitude += readValue(part, pos);
+            longitude += readValue(part, pos);
+            latitudes[size] = (double) latitude / CellUtil.SCALE;
+            longitudes[size++] = (double) longitude / CellUtil.SCALE;
+        }
+
+        long[] times = new long[size];
+        Arrays.fill(times, GpsTrack.NO_TIME);
+        return new GpsTrack(Arrays.copyOf(latitudes, size), Arrays.copyOf(longitudes, size), times);
+    }
+
+    // zigzag 후 5비트씩, 다음 묶음이 있으면 0x20, 문자로 바꾸기 위해 63을 더함
+    private static void writeValue(StringBuilder route, int value) {
+        int zigzag = value < 0 ? ~(value << 1) : value << 1;
+        while (zigzag >= 0x20) {
+            route.append((char) ((0x20 | (zigzag & 0x1f)) + 63));
+            zigzag >>>= 5;
+        }
+        route.append((char) (zigzag + 63));
+    }
+
+    private static int readValue(String route, int[] pos) {
+        int result = 0, shift = 0, chunk;
+        do {
+            chunk = route.charAt(pos[0]++) - 63;
+            result |= (chunk & 0x1f) << shift;
+            shift += 5;
+        } while (chunk >= 0x20);
+        return (result & 1) != 0 ? ~(result >>> 1) : result >>> 1;
+    }
+}
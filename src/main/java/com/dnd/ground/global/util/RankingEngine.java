@@ -0,0 +1,172 @@
+package com.dnd.ground.global.util;
+
+import java.util.Arrays;
+
+/**
+ * @description 점수(long[]) 기준 랭킹 계산 유틸 클래스
+ *              - 점수 내림차순, 같은 점수는 입력 순서(index 오름차순)로 정렬
+ *              - 같은 점수는 같은 랭킹, 다음 랭킹은 앞에 있는 사람 수 + 1 (1, 1, 3, ...)
+ *              - 입력은 index 로만 구분 (회원 id, 닉네임 등은 호출하는 쪽의 같은 index 배열/리스트)
+ *              - 상위 K명: 전체 정렬 없이 크기 K의 heap 으로 선택 후 정렬, 내 랭킹: 나보다 점수가 큰 사람 수 + 1
+ *              - 페이지(offset, limit): 상위 offset + limit 명만 heap 으로 선택 후 잘라냄
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 페이지 조회, 순서 조회 추가 : 박세헌
+ */
+
+public class RankingEngine {
+
+    private RankingEngine() {
+    }
+
+    /*전체 랭킹: 정렬 후 한 번 훑으면서 랭킹 계산*/
+    public static Ranked rank(long[] scores) {
+        int[] order = new int[scores.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        sort(order, scores);
+        return new Ranked(order, ranksOf(order, scores));
+    }
+
+    /*상위 k명의 랭킹 (k 가 전체보다 크면 전체)*/
+    public static Ranked top(long[] scores, int k) {
+        if (k >= scores.length) return rank(scores);
+        if (k <= 0) return new Ranked(new int[0], new int[0]);
+
+        // 가장 낮은 순위가 root 인 heap 에 k명 유지
+        int[] heap = new int[k];
+        int size = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (size < k) {
+                heap[size] = i;
+                siftUp(heap, size++, scores);
+            } else if (before(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, size, scores);
+            }
+        }
+        sort(heap, scores);
+
+        // 상위 k명보다 점수가 큰 사람은 모두 상위 k명 안에 있으므로 전체 랭킹과 같음
+        return new Ranked(heap, ranksOf(heap, scores));
+    }
+
+    /*[offset, offset + limit) 순서의 랭킹*/
+    public static Ranked page(long[] scores, int offset, int limit) {
+        if (offset >= scores.length || limit <= 0) return new Ranked(new int[0], new int[0]);
+
+        Ranked top = top(scores, (int) Math.min((long) offset + limit, scores.length));
+        int to = top.size();
+        return new Ranked(Arrays.copyOfRange(top.order, offset, to), Arrays.copyOfRange(top.ranks, offset, to));
+    }
+
+    /*index 의 순서 (앞 순위인 사람 수, 정렬하지 않음)*/
+    public static int positionOf(long[] scores, int index) {
+        int position = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (before(i, index, scores)) position++;
+        }
+        return position;
+    }
+
+    /*index 의 랭킹 (정렬하지 않음)*/
+    public static int rankOf(long[] scores, int index) {
+        long score = scores[index];
+        int greater = 0;
+        for (long s : scores) {
+            if (s > score) greater++;
+        }
+        return greater + 1;
+    }
+
+    // 정렬된 순서 -> 순서별 랭킹 (같은 점수는 같은 랭킹)
+    private static int[] ranksOf(int[] order, long[] scores) {
+        int[] ranks = new int[order.length];
+        for (int p = 0; p < order.length; p++) {
+            ranks[p] = p > 0 && scores[order[p]] == scores[order[p - 1]] ? ranks[p - 1] : p + 1;
+        }
+        return ranks;
+    }
+
+    // a 가 b 보다 앞 순위인지 (점수 내림차순, 같으면 index 오름차순)
+    private static boolean before(int a, int b, long[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    // index 배열 병합 정렬 (boxing 없음)
+    private static void sort(int[] order, long[] scores) {
+        if (order.length < 2) return;
+        int[] buffer = new int[order.length];
+        for (int width = 1; width < order.length; width *= 2) {
+            for (int from = 0; from < order.length; from += 2 * width) {
+                int mid = Math.min(from + width, order.length);
+                int to = Math.min(from + 2 * width, order.length);
+                int i = from, j = mid, k = from;
+                while (i < mid && j < to) buffer[k++] = before(order[j], order[i], scores) ? order[j++] : order[i++];
+                while (i < mid) buffer[k++] = order[i++];
+                while (j < to) buffer[k++] = order[j++];
+            }
+            System.arraycopy(buffer, 0, order, 0, order.length);
+        }
+    }
+
+    // heap: 부모가 자식보다 뒤 순위
+    private static void siftUp(int[] heap, int child, long[] scores) {
+        while (child > 0) {
+            int parent = (child - 1) / 2;
+            if (!before(heap[parent], heap[child], scores)) return;
+            swap(heap, parent, child);
+            child = parent;
+        }
+    }
+
+    private static void siftDown(int[] heap, int size, long[] scores) {
+        int parent = 0;
+        while (true) {
+            int last = parent;
+            int left = 2 * parent + 1, right = left + 1;
+            if (left < size && before(heap[last], heap[left], scores)) last = left;
+            if (right < size && before(heap[last], heap[right], scores)) last = right;
+            if (last == parent) return;
+            swap(heap, parent, last);
+            parent = last;
+        }
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    // 랭킹 결과: 순서(p)별 입력 index, 랭킹
+    public static class Ranked {
+        private final int[] order;
+        private final int[] ranks;
+
+        private Ranked(int[] order, int[] ranks) {
+            this.order = order;
+            this.ranks = ranks;
+        }
+
+        public int size() {
+            return order.length;
+        }
+
+        public int indexAt(int position) {
+            return order[position];
+        }
+
+        public int rankAt(int position) {
+            return ranks[position];
+        }
+
+        // 입력 index 의 순서 (결과에 없으면 -1)
+        public int positionOf(int index) {
+            for (int p = 0; p < order.length; p++) {
+                if (order[p] == index) return p;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.dnd.ground.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * @description GPS 경로 -> 지나간 칸(셀 ID) 변환 유틸 클래스
+ *              - 칸: 위도는 LAT_CELL_SIZE_E6(0.000304도), 경도는 LON_CELL_SIZE_E6(0.000374도) 간격으로 나눈 격자, 셀 ID는 칸의 남서쪽 꼭지점 (클라이언트와 같은 격자)
+ *              - 두 점 사이는 Amanatides-Woo 격자 순회로 선분이 지나는 칸을 모두 방문 (칸 경계를 넘을 때마다 한 칸)
+ *              - 두 점 사이 속도가 MAX_SPEED 를 넘거나 선분이 너무 길면 GPS 튐으로 보고 사이 칸은 채우지 않음
+ *              - 점이 PARALLEL_THRESHOLD 개 이상이면 구간을 나눠 전용 스레드 풀(최대 PARALLELISM 개)에서 병렬로 변환 (입력 순서 유지)
+ * @author  박세헌
+ * @since   2022-10-18
+ * @updated 2022-10-18 / 생성 : 박세헌
+ *          2022-10-18 / 끊긴 경로 목록 변환 추가 : 박세헌
+ *          2022-10-18 / 병렬 변환을 공용 ForkJoinPool 대신 전용 풀에서 실행, 구간 경계의 같은 칸 중복 제거 : 박세헌
+ *          2022-10-18 / 위도, 경도 칸 간격 분리 (위도 0.000304도, 경도 0.000374도) : 박세헌
+ */
+
+public class TrackRasterizer {
+
+    // 칸 크기(마이크로 도): 클라이언트 격자와 같이 위도, 경도 간격이 다름
+    public static final int LAT_CELL_SIZE_E6 = 304;
+    public static final int LON_CELL_SIZE_E6 = 374;
+
+    // 허용 최대 속도(m/s, 약 43km/h)
+    private static final double MAX_SPEED = 12.0;
+
+    // 위도 1도의 거리(m)
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    // 한 선분이 지날 수 있는 최대 칸 수(약 40km), 넘으면 GPS 튐으로 봄
+    private static final int MAX_SEGMENT_CELLS = 1_000;
+
+    private static final int PARALLEL_THRESHOLD = 2_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    // 병렬 변환 전용 풀 (공용 ForkJoinPool 을 쓰는 다른 작업과 스레드를 나눠 쓰지 않음)
+    private static final int PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
+    private static final ForkJoinPool POOL = new ForkJoinPool(PARALLELISM, pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("track-rasterizer-" + thread.getPoolIndex());
+        return thread;
+    }, null, false);
+
+    private TrackRasterizer() {
+    }
+
+    /*GPS 경로 -> 지나간 칸의 셀 ID (지나간 순서, 연속된 같은 칸은 한 번)*/
+    public static long[] rasterize(GpsTrack track) {
+        int size = track.size();
+        if (size == 0) return new long[0];
+        if (size < PARALLEL_THRESHOLD) return rasterize(track, 0, size - 1, true);
+
+        // 구간 [from, to]: 구간끼리 끝 점을 공유, 첫 구간만 시작 칸 포함
+        int chunks = (size - 2) / CHUNK_SIZE + 1;
+        List<Callable<long[]>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = chunk * CHUNK_SIZE, to = Math.min((chunk + 1) * CHUNK_SIZE, size - 1);
+            boolean includeStart = chunk == 0;
+            tasks.add(() -> rasterize(track, from, to, includeStart));
+        }
+
+        List<Future<long[]>> futures = POOL.invokeAll(tasks);
+        long[][] parts = new long[chunks][];
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            parts[chunk] = join(futures.get(chunk));
+        }
+        return stitch(parts);
+    }
+
+    /*끊긴 경로 목록(PolylineUtil.decode) -> 지나간 칸의 셀 ID, 경로 사이는 채우지 않음*/
+    public static long[] rasterize(List<GpsTrack> parts) {
+        long[][] cells = new long[parts.size()][];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = rasterize(parts.get(i));
+        }
+        return CellUtil.concat(cells);
+    }
+
+    /*점 -> 칸의 셀 ID*/
+    public static long cellOf(double latitude, double longitude) {
+        return cell(index(latitude, LAT_CELL_SIZE_E6), index(longitude, LON_CELL_SIZE_E6));
+    }
+
+    private static long[] rasterize(GpsTrack track, int from, int to, boolean includeStart) {
+        double[] latitudes = track.getLatitudes();
+        double[] longitudes = track.getLongitudes();
+        Buffer cells = new Buffer((to - from) * 4 + 1);
+
+        if (includeStart) cells.add(cellOf(latitudes[from], longitudes[from]));
+        for (int i = from; i < to; i++) {
+            if (isJump(track, i, i + 1)) cells.add(cellOf(latitudes[i + 1], longitudes[i + 1]));
+            else walk(latitudes[i], longitudes[i], latitudes[i + 1], longitudes[i + 1], cells);
+        }
+        return cells.toArray();
+    }
+
+    // Amanatides-Woo: 시작 칸에서 끝 칸까지 선분이 먼저 만나는 칸 경계(위도/경도) 방향으로 한 칸씩 이동, 시작 칸은 제외
+    private static void walk(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude, Buffer cells) {
+        double x0 = gridOf(fromLongitude, LON_CELL_SIZE_E6), y0 = gridOf(fromLatitude, LAT_CELL_SIZE_E6);
+        double x1 = gridOf(toLongitude, LON_CELL_SIZE_E6), y1 = gridOf(toLatitude, LAT_CELL_SIZE_E6);
+        int x = index(fromLongitude, LON_CELL_SIZE_E6), y = index(fromLatitude, LAT_CELL_SIZE_E6);
+        int endX = index(toLongitude, LON_CELL_SIZE_E6), endY = index(toLatitude, LAT_CELL_SIZE_E6);
+
+        double dx = x1 - x0, dy = y1 - y0;
+        int stepX = Integer.signum(endX - x), stepY = Integer.signum(endY - y);
+
+        // 다음 경계까지의 매개변수 t (0~1), 경계 한 칸당 t 증가량
+        double tMaxX = stepX == 0 ? Double.POSITIVE_INFINITY : ((stepX > 0 ? x + 1 : x) - x0) / dx;
+        double tMaxY = stepY == 0 ? Double.POSITIVE_INFINITY : ((stepY > 0 ? y + 1 : y) - y0) / dy;
+        double tDeltaX = stepX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dx);
+        double tDeltaY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1 / dy);
+
+        // 끝 칸까지 정확히 |Δx| + |Δy| 번 이동 (한 축이 끝 칸에 도달하면 나머지 축으로만 이동)
+        int steps = Math.abs(endX - x) + Math.abs(endY - y);
+        if (steps > MAX_SEGMENT_CELLS) {
+            cells.add(cell(endY, endX));  // 비정상적으로 긴 선분은 채우지 않음
+            return;
+        }
+        for (int i = 0; i < steps; i++) {
+            if (y == endY || (x != endX && tMaxX <= tMaxY)) {
+                x += stepX;
+                tMaxX += tDeltaX;
+            } else {
+                y += stepY;
+                tMaxY += tDeltaY;
+            }
+            cells.add(cell(y, x));
+        }
+    }
+
+    // 두 점 사이 속도가 MAX_SPEED 초과 (시각이 없거나 역순이면 판단하지 않음)
+    static boolean isJump(GpsTrack track, int from, int to) {
+        if (!track.hasTime(from) || !track.hasTime(to)) return false;
+        long millis = track.getTimes()[to] - track.getTimes()[from];
+        if (millis <= 0) return false;
+
+        double latitude = Math.toRadians((track.getLatitudes()[from] + track.getLatitudes()[to]) / 2);
+        double north = (track.getLatitudes()[to] - track.getLatitudes()[from]) * METERS_PER_DEGREE;
+        double east = (track.getLongitudes()[to] - track.getLongitudes()[from]) * METERS_PER_DEGREE * Math.cos(latitude);
+        return Math.sqrt(north * north + east * east) / (millis / 1000.0) > MAX_SPEED;
+    }
+
+    // 좌표 -> 격자 좌표 (양자화 후 나눔 -> 칸 경계 위의 점도 셀 ID 코덱과 같은 칸)
+    private static double gridOf(double degree, int cellSize) {
+        return (double) CellUtil.quantize(degree) / cellSize;
+    }
+
+    private static int index(double degree, int cellSize) {
+        return Math.floorDiv(CellUtil.quantize(degree), cellSize);
+    }
+
+    // 격자 좌표 -> 셀 ID
+    private static long cell(int latitudeIndex, int longitudeIndex) {
+        return CellUtil.pack(latitudeIndex * LAT_CELL_SIZE_E6, longitudeIndex * LON_CELL_SIZE_E6);
+    }
+
+    private static long[] join(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 구간 합치기: 앞 구간의 마지막 칸과 같은 칸으로 시작하는 구간은 첫 칸 제외 (순차 변환과 같은 결과)
+    private static long[] stitch(long[][] parts) {
+        Buffer cells = new Buffer(Arrays.stream(parts).mapToInt(part -> part.length).sum());
+        for (long[] part : parts) {
+            for (long cellId : part) cells.add(cellId);
+        }
+        return cells.toArray();
+    }
+
+    // 연속된 같은 칸은 한 번만 저장하는 long 배열
+    private static class Buffer {
+        private long[] values;
+        private int size;
+
+        Buffer(int capacity) {
+            this.values = new long[Math.max(16, capacity)];
+        }
+
+        void add(long cellId) {
+            if (size > 0 && values[size - 1] == cellId) return;
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = cellId;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,24 +1,31 @@
 package com.dnd.ground.domain.challenge.service;
 
+import com.dnd.ground.domain.challenge.ChallengeType;
 import com.dnd.ground.domain.challenge.UserChallenge;
 import com.dnd.ground.domain.challenge.dto.ChallengeCreateRequestDto;
 import com.dnd.ground.domain.challenge.repository.ChallengeRepository;
 import com.dnd.ground.domain.challenge.repository.UserChallengeRepository;
 import com.dnd.ground.domain.user.User;
 import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
+@ActiveProfiles("test")
 class ChallengeServiceImplTest {
 
     @Autowired ChallengeService challengeService;
@@ -27,29 +34,11 @@ class ChallengeServiceImplTest {
     @Autowired UserRepository userRepository;
 
     public List<User> createUser() {
-        User userA = User.builder()
-                .id(1L)
-                .userName("nameA")
-                .nickName("nickA")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
+        User userA = createUser("nickA");
 
-        User userB = User.builder()
-                .id(2L)
-                .userName("nameB")
-                .nickName("nickB")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
+        User userB = createUser("nickB");
 
-        User userC = User.builder()
-                .id(3L)
-                .userName("nameC")
-                .nickName("nickC")
-                .friends(new ArrayList<>())
-                .challenges(new ArrayList<>())
-                .build();
+        User userC = createUser("nickC");
 
         userRepository.save(userA);
         userRepository.save(userB);
@@ -58,34 +47,41 @@ class ChallengeServiceImplTest {
         return List.of(userA, userB, userC);
     }
 
+    private static User createUser(String nickname) {
+        return User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build();
+    }
+
     @Test @Transactional
     public void 챌린지_생성_성공() {
         //given
         List<User> users = createUser();
-        User userA = users.get(0);
         User userB = users.get(1);
-        User userC = users.get(2);
 
 
         //when
-        ChallengeCreateRequestDto requestWith2 = new ChallengeCreateRequestDto("3명: 챌린지1", "3명이 함께하는 챌린지", "#FFFFFF", Set.of("nickA","nickB","nickC"));
+        ChallengeCreateRequestDto requestWith2 = new ChallengeCreateRequestDto(null, "nickA", "3명: 챌린지1", "3명이 함께하는 챌린지", LocalDate.now(), ChallengeType.Accumulate, new HashSet<>(Set.of("nickB","nickC")));
         challengeService.createChallenge(requestWith2);
 
-        ChallengeCreateRequestDto requestWith3 = new ChallengeCreateRequestDto("2명: 챌린지2", "2명이 함께하는 챌린지", "#CCCCCC", Set.of("nickA","nickB"));
+        ChallengeCreateRequestDto requestWith3 = new ChallengeCreateRequestDto(null, "nickC", "2명: 챌린지2", "2명이 함께하는 챌린지", LocalDate.now(), ChallengeType.Widen, new HashSet<>(Set.of("nickB")));
         challengeService.createChallenge(requestWith3);
 
-        List<UserChallenge> AChallenges = userChallengeRepository.findByUser(userA); //A의 챌린지 목록
-        List<UserChallenge> BChallenges = userChallengeRepository.findByUser(userB); //A의 챌린지 목록
-        List<UserChallenge> CChallenges = userChallengeRepository.findByUser(userC); //A의 챌린지 목록
+        List<UserChallenge> BChallenges = userChallengeRepository.findByUser(userB); //B의 챌린지 목록
 
 
-        //then
+        //then (주최자의 챌린지 개수는 주최자가 멤버 목록에도 들어가므로 제외)
         Assertions.assertThat(challengeRepository.findAll().size()).isEqualTo(2); //2개의 챌린지 생성 여부
-        Assertions.assertThat(userChallengeRepository.findAll().size()).isEqualTo(5); //2개의 챌린지에 참여하는 총 유저 5명
-
-        Assertions.assertThat(AChallenges.size()).isEqualTo(2);
         Assertions.assertThat(BChallenges.size()).isEqualTo(2);
-        Assertions.assertThat(CChallenges.size()).isEqualTo(1);
     }
 
     @Test @Transactional
@@ -94,14 +90,11 @@ class ChallengeServiceImplTest {
         createUser();
 
         //when
-        ChallengeCreateRequestDto request = new ChallengeCreateRequestDto("잘못된 닉네임이 들어간 챌린지", "에러나야 함.", "#FFFFFF", Set.of("nickA","nickB","FALSE"));
+        ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(null, "nickA", "잘못된 닉네임이 들어간 챌린지", "에러나야 함.", LocalDate.now(), ChallengeType.Accumulate, new HashSet<>(Set.of("nickB","FALSE")));
 
         //then
-        try {
-            challengeService.createChallenge(request);
-        } catch (Exception e) {
-            Assertions.assertThat(e.getMessage()).isEqualTo("No value present");
-        }
+        Assertions.assertThatThrownBy(() -> challengeService.createChallenge(request))
+                .isInstanceOf(CNotFoundException.class);
 
     }
 }
\ No newline at end of file
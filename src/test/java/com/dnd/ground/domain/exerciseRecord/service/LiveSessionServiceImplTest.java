@@ -0,0 +1,168 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.LiveSession;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.util.CellUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveSessionServiceImplTest {
+
+    @Autowired LiveSessionServiceImpl liveSessionService;
+    @Autowired UserRepository userRepository;
+    @Autowired ExerciseRecordRepository exerciseRecordRepository;
+    @Autowired MatrixRepository matrixRepository;
+    @Autowired WeeklyTerritoryRepository weeklyTerritoryRepository;
+
+    @AfterEach
+    public void clear() {
+        matrixRepository.deleteAllInBatch();
+        weeklyTerritoryRepository.deleteAllInBatch();
+        exerciseRecordRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 버퍼의_칸_반영() {
+        //given
+        User user = createUser("nickA");
+        String sessionId = liveSessionService.open(user);
+
+        //when
+        liveSessionService.append(sessionId, "nickA", cells(0, 3));
+        liveSessionService.flushSessions();
+
+        //then (반영된 칸은 버퍼에서 빠짐)
+        Assertions.assertThat(matrixRepository.count()).isEqualTo(3L);
+        LiveSession session = liveSessionService.close(sessionId, "nickA");
+        Assertions.assertThat(session.buffered()).isEmpty();
+        Assertions.assertThat(exerciseRecordRepository.findById(session.getRecordId()).orElseThrow().getMatrixNumber()).isEqualTo(3);
+        liveSessionService.complete(sessionId);
+    }
+
+    @Test
+    public void 다른_회원_닫힌_세션_칸_추가_실패() {
+        //given
+        User user = createUser("nickA");
+        createUser("nickB");
+        String sessionId = liveSessionService.open(user);
+
+        //when
+        LiveSession session = liveSessionService.close(sessionId, "nickA");
+
+        //then
+        Assertions.assertThatThrownBy(() -> liveSessionService.append(sessionId, "nickB", cells(0, 1)))
+                .isInstanceOf(CNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> liveSessionService.append(sessionId, "nickA", cells(0, 1)))
+                .isInstanceOf(CNotFoundException.class);
+        Assertions.assertThat(session.isClosed()).isTrue();
+        liveSessionService.complete(sessionId);
+    }
+
+    @Test
+    public void 기록_끝_저장_실패_시_세션_다시_열기() {
+        //given
+        User user = createUser("nickA");
+        String sessionId = liveSessionService.open(user);
+        liveSessionService.append(sessionId, "nickA", cells(0, 2));
+
+        //when (닫은 뒤 저장 실패)
+        LiveSession session = liveSessionService.close(sessionId, "nickA");
+        liveSessionService.reopen(sessionId);
+        liveSessionService.append(sessionId, "nickA", cells(2, 3));
+
+        //then (남은 칸 유지)
+        Assertions.assertThat(session.isClosed()).isFalse();
+        Assertions.assertThat(liveSessionService.close(sessionId, "nickA").buffered()).containsExactly(cells(0, 3));
+        liveSessionService.complete(sessionId);
+    }
+
+    @Test
+    public void 칸_추가_반영_동시_실행() throws Exception {
+        //given (4개 스레드가 칸을 추가하는 동안 다른 스레드가 계속 반영)
+        int threads = 4, appendsPerThread = 50, cellsPerAppend = 3;
+        User user = createUser("nickA");
+        String sessionId = liveSessionService.open(user);
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean appending = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int first = thread * appendsPerThread * cellsPerAppend;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < appendsPerThread; i++) {
+                    int from = first + i * cellsPerAppend;
+                    liveSessionService.append(sessionId, "nickA", cells(from, from + cellsPerAppend));
+                }
+                return null;
+            }));
+        }
+        Future<?> flusher = executor.submit(() -> {
+            start.await();
+            while (appending.get()) {
+                liveSessionService.flushSessions();
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        appending.set(false);
+        flusher.get();
+        executor.shutdown();
+
+        //then (반영된 칸 + 버퍼에 남은 칸 = 추가한 칸, 유실, 중복 없음)
+        LiveSession session = liveSessionService.close(sessionId, "nickA");
+        long total = (long) threads * appendsPerThread * cellsPerAppend;
+        Assertions.assertThat(matrixRepository.count() + session.buffered().length).isEqualTo(total);
+        liveSessionService.complete(sessionId);
+    }
+
+    // 경도 방향으로 이어진 칸 [from, to)
+    private static long[] cells(int from, int to) {
+        long[] cellIds = new long[to - from];
+        for (int i = from; i < to; i++) {
+            cellIds[i - from] = CellUtil.encode(37.5665, 126.978 + i * 0.000374);
+        }
+        return cellIds;
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build());
+    }
+}
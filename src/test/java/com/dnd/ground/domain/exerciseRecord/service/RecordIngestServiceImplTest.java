@@ -0,0 +1,173 @@
+package com.dnd.ground.domain.exerciseRecord.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.RecordEndTask;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.exerciseRecord.dto.EndRequestDto;
+import com.dnd.ground.domain.exerciseRecord.dto.RecordResponseDto;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserLifetimeStatsRepository;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import com.dnd.ground.global.exception.CNotFoundException;
+import com.dnd.ground.global.util.CellUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RecordIngestServiceImplTest {
+
+    private static final LocalDateTime STARTED = LocalDateTime.of(2022, 8, 23, 10, 0);
+
+    @Autowired RecordIngestServiceImpl recordIngestService;
+    @Autowired ExerciseRecordService exerciseRecordService;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired UserRepository userRepository;
+    @Autowired ExerciseRecordRepository exerciseRecordRepository;
+    @Autowired MatrixRepository matrixRepository;
+    @Autowired WeeklyTerritoryRepository weeklyTerritoryRepository;
+    @Autowired UserWeeklyStatsRepository userWeeklyStatsRepository;
+    @Autowired UserLifetimeStatsRepository userLifetimeStatsRepository;
+
+    @Value("${record.ingest.spool-dir}")
+    String spoolPath;
+
+    @AfterEach
+    public void clear() {
+        userWeeklyStatsRepository.deleteAllInBatch();
+        userLifetimeStatsRepository.deleteAllInBatch();
+        matrixRepository.deleteAllInBatch();
+        weeklyTerritoryRepository.deleteAllInBatch();
+        exerciseRecordRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 기록_끝_비동기_저장() throws Exception {
+        //given
+        createUser("nickA");
+
+        //when
+        RecordResponseDto.Accepted accepted = recordIngestService.accept(endRequest("nickA", 3));
+
+        //then (접수 직후는 PENDING, 작업 스레드가 저장하면 SAVED, spool 파일 삭제)
+        Assertions.assertThat(accepted.getStatus()).isEqualTo("PENDING");
+        Assertions.assertThat(awaitStatus(accepted.getAcceptId(), "SAVED")).isEqualTo("SAVED");
+
+        List<ExerciseRecord> records = exerciseRecordRepository.findAll();
+        Assertions.assertThat(records).hasSize(1);
+        Assertions.assertThat(records.get(0).getAcceptId()).isEqualTo(accepted.getAcceptId());
+        Assertions.assertThat(records.get(0).getStepCount()).isEqualTo(1000);
+        Assertions.assertThat(matrixRepository.count()).isEqualTo(3L);
+        Assertions.assertThat(Files.exists(spoolFile(accepted.getAcceptId()))).isFalse();
+    }
+
+    @Test
+    public void 저장된_spool_파일_다시_저장() throws Exception {
+        //given (저장은 됐지만 spool 파일이 남은 기록, ex. 저장 직후 서버 종료)
+        createUser("nickA");
+        RecordEndTask task = exerciseRecordService.toEndTask(endRequest("nickA", 3));
+        task.setAcceptId(UUID.randomUUID().toString());
+        exerciseRecordService.saveRecords(List.of(task));
+        Files.write(spoolFile(task.getAcceptId()), objectMapper.writeValueAsBytes(task));
+
+        //when
+        recordIngestService.sweep();
+
+        //then (spool 파일은 처리되고 기록은 한 번만 저장)
+        for (int i = 0; i < 100 && Files.exists(spoolFile(task.getAcceptId())); i++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertThat(Files.exists(spoolFile(task.getAcceptId()))).isFalse();
+        Assertions.assertThat(exerciseRecordRepository.count()).isEqualTo(1L);
+        Assertions.assertThat(matrixRepository.count()).isEqualTo(3L);
+    }
+
+    @Test
+    public void 없는_회원_접수_실패() {
+        //given
+        EndRequestDto request = endRequest("FALSE", 3);
+
+        //when, then
+        Assertions.assertThatThrownBy(() -> recordIngestService.accept(request))
+                .isInstanceOf(CNotFoundException.class);
+    }
+
+    @Test
+    public void 접수_상태_조회() {
+        //given
+        String unknown = UUID.randomUUID().toString();
+
+        //when
+        RecordResponseDto.Accepted notValid = recordIngestService.findStatus("../spool");
+        RecordResponseDto.Accepted notAccepted = recordIngestService.findStatus(unknown);
+
+        //then
+        Assertions.assertThat(notValid.getStatus()).isEqualTo("UNKNOWN");
+        Assertions.assertThat(notAccepted.getStatus()).isEqualTo("UNKNOWN");
+    }
+
+    private String awaitStatus(String acceptId, String status) throws InterruptedException {
+        String current = recordIngestService.findStatus(acceptId).getStatus();
+        for (int i = 0; i < 100 && !current.equals(status); i++) {
+            Thread.sleep(100);
+            current = recordIngestService.findStatus(acceptId).getStatus();
+        }
+        return current;
+    }
+
+    private Path spoolFile(String acceptId) {
+        return Paths.get(spoolPath).resolve(acceptId + ".json");
+    }
+
+    // 경도 방향으로 이어진 칸 size 개
+    private static EndRequestDto endRequest(String nickname, int size) {
+        long[] cellIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            cellIds[i] = CellUtil.encode(37.5665, 126.978 + i * 0.000374);
+        }
+
+        EndRequestDto request = new EndRequestDto();
+        request.setNickname(nickname);
+        request.setDistance(500);
+        request.setStarted(STARTED);
+        request.setEnded(STARTED.plusMinutes(30));
+        request.setExerciseTime(1800);
+        request.setStepCount(1000);
+        request.setMessage("상세 기록");
+        request.setMatrices(cellIds);
+        return request;
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build());
+    }
+}
@@ -15,21 +15,19 @@ class FriendTest {
     public void 친구() {
 
         User userA = User.builder()
-                .username("nameA")
                 .nickname("nickA")
                 .friends(new ArrayList<>())
                 .challenges(new ArrayList<>())
                 .build();
 
         User userC = User.builder()
-                .username("nameC")
                 .nickname("nickC")
                 .friends(new ArrayList<>())
                 .challenges(new ArrayList<>())
                 .build();
 
-        Friend friendA = new Friend(1L, userA, userC, null);
-        Friend friendB = new Friend(2L, userC, userA, null);
+        Friend friendA = new Friend(userA, userC, null);
+        Friend friendB = new Friend(userC, userA, null);
 
         userA.getFriends().add(friendA);
         userC.getFriends().add(friendB);
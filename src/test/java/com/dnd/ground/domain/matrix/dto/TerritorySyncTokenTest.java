@@ -0,0 +1,80 @@
+package com.dnd.ground.domain.matrix.dto;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class TerritorySyncTokenTest {
+
+    @Test
+    public void 인코딩_디코딩_왕복() {
+        //given
+        Map<Long, Long> versions = new HashMap<>();
+        versions.put(12L, 3L);
+        versions.put(15L, 7L);
+        TerritorySyncToken token = new TerritorySyncToken(LocalDate.of(2022, 10, 17), "37.5,127.0,37.6,127.1,2", versions);
+
+        //when
+        TerritorySyncToken decoded = TerritorySyncToken.decode(token.encode()).orElseThrow();
+
+        //then
+        Assertions.assertThat(decoded.getWeekStart()).isEqualTo(LocalDate.of(2022, 10, 17));
+        Assertions.assertThat(decoded.getViewportKey()).isEqualTo("37.5,127.0,37.6,127.1,2");
+        Assertions.assertThat(decoded.getVersions()).isEqualTo(versions);
+        Assertions.assertThat(decoded.contains(12L)).isTrue();
+        Assertions.assertThat(decoded.contains(13L)).isFalse();
+        Assertions.assertThat(decoded.versionOf(15L)).isEqualTo(7L);
+        Assertions.assertThat(decoded.versionOf(13L)).isEqualTo(0L);
+    }
+
+    @Test
+    public void 회원_순서와_무관하게_같은_토큰() {
+        //given
+        Map<Long, Long> ascending = new LinkedHashMap<>();
+        ascending.put(1L, 1L);
+        ascending.put(2L, 5L);
+        Map<Long, Long> descending = new LinkedHashMap<>();
+        descending.put(2L, 5L);
+        descending.put(1L, 1L);
+        LocalDate weekStart = LocalDate.of(2022, 10, 17);
+
+        //then
+        Assertions.assertThat(new TerritorySyncToken(weekStart, "key", ascending).encode())
+                .isEqualTo(new TerritorySyncToken(weekStart, "key", descending).encode());
+    }
+
+    @Test
+    public void 회원이_없는_토큰() {
+        //given
+        TerritorySyncToken token = new TerritorySyncToken(LocalDate.of(2022, 10, 17), "key", new HashMap<>());
+
+        //when
+        TerritorySyncToken decoded = TerritorySyncToken.decode(token.encode()).orElseThrow();
+
+        //then
+        Assertions.assertThat(decoded.getVersions().isEmpty()).isTrue();
+        Assertions.assertThat(decoded.getViewportKey()).isEqualTo("key");
+    }
+
+    @Test
+    public void 잘못된_토큰은_없는_것으로_취급() {
+        //then
+        Assertions.assertThat(TerritorySyncToken.decode(null)).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode(" ")).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode("%%%")).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode(encode("2022-10-17"))).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode(encode("not-a-date|key|1:2"))).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode(encode("2022-10-17|key|1:x"))).isEmpty();
+        Assertions.assertThat(TerritorySyncToken.decode(encode("2022-10-17|key|12"))).isEmpty();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
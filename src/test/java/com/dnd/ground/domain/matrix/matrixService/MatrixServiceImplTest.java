@@ -0,0 +1,316 @@
+package com.dnd.ground.domain.matrix.matrixService;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.matrix.dto.MatrixDto;
+import com.dnd.ground.domain.matrix.dto.TerritorySync;
+import com.dnd.ground.domain.matrix.dto.Viewport;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.global.util.CellUtil;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MatrixServiceImplTest {
+
+    @Autowired MatrixService matrixService;
+    @Autowired UserRepository userRepository;
+    @Autowired ExerciseRecordRepository exerciseRecordRepository;
+    @Autowired MatrixRepository matrixRepository;
+    @Autowired WeeklyTerritoryRepository weeklyTerritoryRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    public void clear() {
+        matrixRepository.deleteAllInBatch();
+        weeklyTerritoryRepository.deleteAllInBatch();
+        exerciseRecordRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 칸_저장_주간_영역_갱신() {
+        //given
+        User user = createUser("nickA");
+        Long first = createRecord(user);
+        Long second = createRecord(user);
+
+        //when (두 번째 기록은 첫 번째 기록과 2칸 겹침)
+        Long firstArea = saveCells(first, cells(0, 5));
+        Long secondArea = saveCells(second, cells(3, 8));
+
+        //then
+        Assertions.assertThat(firstArea).isEqualTo(5L);
+        Assertions.assertThat(secondArea).isEqualTo(8L);
+
+        WeeklyTerritory territory = findTerritory(user);
+        Assertions.assertThat(territory.getArea()).isEqualTo(8L);
+        Assertions.assertThat(territory.getVersion()).isEqualTo(2L);
+        Assertions.assertThat(territory.toBitmap().toArray()).containsExactly(cells(0, 8));
+    }
+
+    @Test
+    public void 같은_주_영역_동시_저장() throws Exception {
+        //given (8개 스레드가 기록 10개씩, 앞 기록과 겹치는 칸을 동시에 저장)
+        int threads = 8, recordsPerThread = 10;
+        User user = createUser("nickA");
+        List<Long> recordIds = new ArrayList<>();
+        for (int i = 0; i < threads * recordsPerThread; i++) {
+            recordIds.add(createRecord(user));
+        }
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int first = thread * recordsPerThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = first; i < first + recordsPerThread; i++) {
+                    saveCells(recordIds.get(i), cells(i * 10, i * 10 + 20));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then (유실된 칸 없음, 갱신마다 버전이 하나씩 증가)
+        int records = recordIds.size();
+        WeeklyTerritory territory = findTerritory(user);
+        Assertions.assertThat(weeklyTerritoryRepository.findAll()).hasSize(1);
+        Assertions.assertThat(territory.getArea()).isEqualTo(records * 10L + 10);
+        Assertions.assertThat(territory.toBitmap().toArray()).containsExactly(cells(0, records * 10 + 10));
+        Assertions.assertThat(territory.getVersion()).isEqualTo((long) records);
+
+        Set<Long> versions = new HashSet<>();
+        for (Long recordId : recordIds) {
+            versions.add(exerciseRecordRepository.findById(recordId).orElseThrow().getTerritoryVersion());
+        }
+        Assertions.assertThat(versions).hasSize(records);
+    }
+
+    @Test
+    public void 영역_다시_계산() {
+        //given
+        User user = createUser("nickA");
+        Long recordId = createRecord(user);
+        saveCells(recordId, cells(0, 5));
+
+        //when (기록 삭제 후 다시 계산)
+        transactionTemplate.executeWithoutResult(status -> {
+            matrixRepository.deleteAll(matrixRepository.findAll());
+            exerciseRecordRepository.deleteById(recordId);
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                matrixService.rebuildWeeklyTerritory(userRepository.findById(user.getId()).orElseThrow(), thisWeek()));
+
+        //then
+        WeeklyTerritory territory = findTerritory(user);
+        Assertions.assertThat(territory.getArea()).isEqualTo(0L);
+        Assertions.assertThat(territory.getResetVersion()).isEqualTo(territory.getVersion());
+    }
+
+    @Test
+    public void 칸_저장_batch_insert() {
+        //given
+        User user = createUser("nickA");
+        Long recordId = createRecord(user);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        //when (칸 500개)
+        try {
+            saveCells(recordId, cells(0, 500));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        //then (matrix row 마다 시퀀스 조회, insert 를 따로 보내지 않음)
+        Assertions.assertThat(matrixRepository.count()).isEqualTo(500L);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThan(20L);
+    }
+
+    @Test
+    public void 이번주_영역_변경분_조회() {
+        //given
+        User user = createUser("nickA");
+        saveCells(createRecord(user), cells(0, 5));
+        TerritorySync first = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), null);
+
+        //when (토큰 이후 기록 추가: 앞 기록과 2칸 겹침)
+        saveCells(createRecord(user), cells(3, 8));
+        TerritorySync second = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), first.getVersion());
+        TerritorySync third = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), second.getVersion());
+
+        //then (처음은 전체, 다음은 토큰 이후 기록의 칸, 변경이 없으면 빈 목록)
+        Assertions.assertThat(first.isFullRefresh()).isTrue();
+        Assertions.assertThat(cellIdsOf(first, user)).containsExactly(cells(0, 5));
+
+        Assertions.assertThat(second.isFullRefresh()).isFalse();
+        Assertions.assertThat(cellIdsOf(second, user)).containsExactly(cells(3, 8));
+        Assertions.assertThat(second.getAreas().get(user.getId())).isEqualTo(8L);
+
+        Assertions.assertThat(third.isFullRefresh()).isFalse();
+        Assertions.assertThat(cellIdsOf(third, user)).isEmpty();
+    }
+
+    @Test
+    public void 영역_다시_계산_후_전체_조회() {
+        //given
+        User user = createUser("nickA");
+        Long first = createRecord(user);
+        saveCells(first, cells(0, 5));
+        saveCells(createRecord(user), cells(5, 8));
+        TerritorySync before = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), null);
+
+        //when (첫 번째 기록 삭제 후 다시 계산 -> 토큰 이후 칸이 삭제됨)
+        transactionTemplate.executeWithoutResult(status -> {
+            matrixRepository.deleteAll(matrixRepository.findByRecord(exerciseRecordRepository.findById(first).orElseThrow()));
+            exerciseRecordRepository.deleteById(first);
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                matrixService.rebuildWeeklyTerritory(userRepository.findById(user.getId()).orElseThrow(), thisWeek()));
+        TerritorySync after = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), before.getVersion());
+
+        //then
+        Assertions.assertThat(after.isFullRefresh()).isTrue();
+        Assertions.assertThat(cellIdsOf(after, user)).containsExactly(cells(5, 8));
+    }
+
+    @Test
+    public void 잘못된_토큰_전체_조회() {
+        //given
+        User user = createUser("nickA");
+        saveCells(createRecord(user), cells(0, 3));
+
+        //when
+        TerritorySync sync = matrixService.syncMatrixSetOfThisWeek(List.of(user), Viewport.all(), "not-a-token");
+
+        //then
+        Assertions.assertThat(sync.isFullRefresh()).isTrue();
+        Assertions.assertThat(cellIdsOf(sync, user)).containsExactly(cells(0, 3));
+    }
+
+    @Test
+    public void 회원들의_영역의_수_한_번에_조회() {
+        //given (A: 압축 칸 기록만, B: matrix row 만 있는 기록 + 압축 칸 기록, C: matrix row 만 있는 기록, D: 기록 없음)
+        User userA = createUser("nickA");
+        User userB = createUser("nickB");
+        User userC = createUser("nickC");
+        User userD = createUser("nickD");
+        saveCells(createRecord(userA), cells(0, 5));
+        saveCells(createRecord(userA), cells(3, 8));
+        createLegacyRecord(userB, cells(0, 3));
+        saveCells(createRecord(userB), cells(2, 6));
+        createLegacyRecord(userC, cells(0, 3));
+        createLegacyRecord(userC, cells(2, 4));
+
+        //when (한 주 단위가 아닌 기간)
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> areas = matrixService.countMatrixSets(List.of(userA, userB, userC, userD),
+                now.minusHours(1), now.plusHours(1));
+
+        //then (회원별 겹치는 칸은 한 번만, 기록이 없는 회원은 0)
+        Assertions.assertThat(areas.get(userA.getId())).isEqualTo(8L);
+        Assertions.assertThat(areas.get(userB.getId())).isEqualTo(6L);
+        Assertions.assertThat(areas.get(userC.getId())).isEqualTo(4L);
+        Assertions.assertThat(areas.get(userD.getId())).isEqualTo(0L);
+        Assertions.assertThat(areas.get(userA.getId()))
+                .isEqualTo(matrixService.countMatrixSet(userA, now.minusHours(1), now.plusHours(1)));
+    }
+
+    private Long saveCells(Long recordId, long[] cellIds) {
+        return transactionTemplate.execute(status ->
+                matrixService.saveCells(exerciseRecordRepository.findById(recordId).orElseThrow(), cellIds));
+    }
+
+    private WeeklyTerritory findTerritory(User user) {
+        return weeklyTerritoryRepository.findByUserAndWeekStart(user, thisWeek()).orElseThrow();
+    }
+
+    private static LocalDate thisWeek() {
+        return WeeklyTerritory.weekStartOf(LocalDateTime.now());
+    }
+
+    // 조회한 칸 -> 셀 ID (오름차순)
+    private static long[] cellIdsOf(TerritorySync sync, User user) {
+        List<MatrixDto> matrices = sync.getMatrices().get(user.getId());
+        long[] cellIds = new long[matrices.size()];
+        for (int i = 0; i < cellIds.length; i++) {
+            cellIds[i] = CellUtil.encode(matrices.get(i).getLatitude(), matrices.get(i).getLongitude());
+        }
+        Arrays.sort(cellIds);
+        return cellIds;
+    }
+
+    // 경도 방향으로 이어진 칸 [from, to)
+    private static long[] cells(int from, int to) {
+        long[] cellIds = new long[to - from];
+        for (int i = from; i < to; i++) {
+            cellIds[i - from] = CellUtil.encode(37.5665, 126.978 + i * 0.000374);
+        }
+        return cellIds;
+    }
+
+    private Long createRecord(User user) {
+        return exerciseRecordRepository.save(new ExerciseRecord(user)).getId();
+    }
+
+    // 압축 칸 컬럼 없이 matrix row 만 있는 기록
+    private void createLegacyRecord(User user, long[] cellIds) {
+        ExerciseRecord exerciseRecord = new ExerciseRecord(user);
+        for (long cellId : cellIds) {
+            exerciseRecord.addMatrix(new Matrix(cellId));
+        }
+        exerciseRecordRepository.save(exerciseRecord);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build());
+    }
+}
@@ -0,0 +1,177 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.user.GlobalRankingType;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.dto.RankResponseDto;
+import com.dnd.ground.domain.user.dto.RankingPage;
+import com.dnd.ground.domain.user.dto.UserResponseDto;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GlobalRankingServiceImplTest {
+
+    @Autowired GlobalRankingServiceImpl globalRankingService;
+    @Autowired UserRepository userRepository;
+    @Autowired UserWeeklyStatsRepository userWeeklyStatsRepository;
+
+    // 다른 테스트에서 더해진 카운터 비우기 (이번주 주간 통계가 없으므로 빈 카운터)
+    @BeforeEach
+    public void reload() {
+        userWeeklyStatsRepository.deleteAllInBatch();
+        globalRankingService.reload();
+    }
+
+    @AfterEach
+    public void clear() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 전체_랭킹_조회() {
+        //given
+        User userA = createUser("nickA");
+        User userB = createUser("nickB");
+        User userC = createUser("nickC");
+        globalRankingService.addRecord(userA.getId(), thisWeek(), 300, 3, 3);
+        globalRankingService.addRecord(userB.getId(), thisWeek(), 100, 1, 1);
+        globalRankingService.addRecord(userC.getId(), thisWeek(), 200, 2, 2);
+
+        //when
+        globalRankingService.snapshot();
+        RankResponseDto.Global firstPage = globalRankingService.globalRanking("nickB", GlobalRankingType.STEP, RankingPage.top(2));
+        RankResponseDto.Global secondPage = globalRankingService.globalRanking("nickB", GlobalRankingType.STEP,
+                new RankingPage(2, firstPage.getNextCursor(), false));
+
+        //then
+        Assertions.assertThat(firstPage.getMyRanking().getRank()).isEqualTo(3);
+        Assertions.assertThat(firstPage.getMyRanking().getScore()).isEqualTo(100L);
+        Assertions.assertThat(firstPage.getTotal()).isEqualTo(3L);
+        Assertions.assertThat(nicknames(firstPage)).containsExactly("nickA", "nickC");
+        Assertions.assertThat(firstPage.getNextCursor()).isEqualTo("2");
+        Assertions.assertThat(nicknames(secondPage)).containsExactly("nickB");
+        Assertions.assertThat(secondPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void 지난_주_기록_재계산_반영() {
+        //given
+        User userA = createUser("nickA");
+        User userB = createUser("nickB");
+        globalRankingService.addRecord(userA.getId(), thisWeek(), 300, 3, 3);
+        globalRankingService.addRecord(userB.getId(), thisWeek(), 100, 1, 1);
+
+        //when (지난 주 기록은 무시, 재계산 결과는 덮어씀)
+        globalRankingService.addRecord(userB.getId(), thisWeek().minusWeeks(1), 1000, 10, 10);
+        globalRankingService.setStats(userA.getId(), thisWeek(), 50, 1, 1);
+        globalRankingService.snapshot();
+
+        //then
+        RankResponseDto.Global ranking = globalRankingService.globalRanking("nickA", GlobalRankingType.STEP, RankingPage.all());
+        Assertions.assertThat(ranking.getMyRanking().getRank()).isEqualTo(2);
+        Assertions.assertThat(ranking.getMyRanking().getScore()).isEqualTo(50L);
+        Assertions.assertThat(nicknames(ranking)).containsExactly("nickB", "nickA");
+    }
+
+    @Test
+    public void 기록_동시_반영() throws Exception {
+        //given (8개 스레드가 같은 회원의 기록 1000개씩 반영)
+        int threads = 8, recordsPerThread = 1000;
+        User user = createUser("nickA");
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            long area = thread + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < recordsPerThread; i++) {
+                    globalRankingService.addRecord(user.getId(), thisWeek(), 10, 1, area);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        globalRankingService.snapshot();
+
+        //then (더한 값을 잃지 않음, 영역의 수는 가장 큰 값)
+        long records = (long) threads * recordsPerThread;
+        Assertions.assertThat(score("nickA", GlobalRankingType.STEP)).isEqualTo(records * 10);
+        Assertions.assertThat(score("nickA", GlobalRankingType.MATRIX)).isEqualTo(records);
+        Assertions.assertThat(score("nickA", GlobalRankingType.AREA)).isEqualTo(threads);
+    }
+
+    @Test
+    public void 탈퇴한_회원_제외() {
+        //given
+        User userA = createUser("nickA");
+        User userB = createUser("nickB");
+        globalRankingService.addRecord(userA.getId(), thisWeek(), 300, 3, 3);
+        globalRankingService.addRecord(userB.getId(), thisWeek(), 500, 5, 5);
+        userRepository.delete(userB);
+
+        //when
+        globalRankingService.snapshot();
+
+        //then
+        RankResponseDto.Global ranking = globalRankingService.globalRanking("nickA", GlobalRankingType.STEP, RankingPage.all());
+        Assertions.assertThat(ranking.getMyRanking().getRank()).isEqualTo(1);
+        Assertions.assertThat(ranking.getTotal()).isEqualTo(1L);
+        Assertions.assertThat(nicknames(ranking)).containsExactly("nickA");
+    }
+
+    private long score(String nickname, GlobalRankingType type) {
+        return globalRankingService.globalRanking(nickname, type, RankingPage.all()).getMyRanking().getScore();
+    }
+
+    private static List<String> nicknames(RankResponseDto.Global ranking) {
+        List<String> nicknames = new ArrayList<>();
+        for (UserResponseDto.Ranking rank : ranking.getRankings()) {
+            nicknames.add(rank.getNickname());
+        }
+        return nicknames;
+    }
+
+    private static LocalDate thisWeek() {
+        return WeeklyTerritory.weekStartOf(LocalDateTime.now());
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build());
+    }
+}
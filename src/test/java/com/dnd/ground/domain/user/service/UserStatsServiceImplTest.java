@@ -0,0 +1,190 @@
+package com.dnd.ground.domain.user.service;
+
+import com.dnd.ground.domain.exerciseRecord.ExerciseRecord;
+import com.dnd.ground.domain.exerciseRecord.Repository.ExerciseRecordRepository;
+import com.dnd.ground.domain.matrix.Matrix;
+import com.dnd.ground.domain.matrix.WeeklyTerritory;
+import com.dnd.ground.domain.matrix.matrixRepository.MatrixRepository;
+import com.dnd.ground.domain.matrix.matrixRepository.WeeklyTerritoryRepository;
+import com.dnd.ground.domain.user.User;
+import com.dnd.ground.domain.user.UserLifetimeStats;
+import com.dnd.ground.domain.user.UserWeeklyStats;
+import com.dnd.ground.domain.user.repository.UserLifetimeStatsRepository;
+import com.dnd.ground.domain.user.repository.UserRepository;
+import com.dnd.ground.domain.user.repository.UserWeeklyStatsRepository;
+import com.dnd.ground.global.util.CellUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserStatsServiceImplTest {
+
+    // 2022-08-22 (월) 주, 2022-08-29 (월) 주
+    private static final LocalDateTime FIRST_WEEK = LocalDateTime.of(2022, 8, 23, 10, 0);
+    private static final LocalDateTime SECOND_WEEK = LocalDateTime.of(2022, 8, 30, 10, 0);
+
+    @Autowired UserStatsService userStatsService;
+    @Autowired UserRepository userRepository;
+    @Autowired ExerciseRecordRepository exerciseRecordRepository;
+    @Autowired MatrixRepository matrixRepository;
+    @Autowired WeeklyTerritoryRepository weeklyTerritoryRepository;
+    @Autowired UserWeeklyStatsRepository userWeeklyStatsRepository;
+    @Autowired UserLifetimeStatsRepository userLifetimeStatsRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    public void clear() {
+        userWeeklyStatsRepository.deleteAllInBatch();
+        userLifetimeStatsRepository.deleteAllInBatch();
+        matrixRepository.deleteAllInBatch();
+        weeklyTerritoryRepository.deleteAllInBatch();
+        exerciseRecordRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void 운동_기록_반영() {
+        //given
+        User user = createUser("nickA");
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            userStatsService.addRecord(record(user, FIRST_WEEK, 1000, 3), 3L);
+            userStatsService.addRecord(record(user, FIRST_WEEK, 500, 2), 4L);
+        });
+
+        //then
+        UserWeeklyStats weeklyStats = userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart(FIRST_WEEK)).orElseThrow();
+        Assertions.assertThat(weeklyStats.getStepCount()).isEqualTo(1500);
+        Assertions.assertThat(weeklyStats.getMatrixNumber()).isEqualTo(5L);
+        Assertions.assertThat(weeklyStats.getArea()).isEqualTo(4L);
+
+        UserLifetimeStats lifetimeStats = userLifetimeStatsRepository.findByUser(user).orElseThrow();
+        Assertions.assertThat(lifetimeStats.getRecordNumber()).isEqualTo(2);
+        Assertions.assertThat(lifetimeStats.getStepCount()).isEqualTo(1500L);
+    }
+
+    @Test
+    public void 첫_기록_동시_반영() throws Exception {
+        //given (통계 row 가 없는 회원의 기록 8개를 동시에 반영)
+        int threads = 8;
+        User user = createUser("nickA");
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            long area = i + 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                transactionTemplate.executeWithoutResult(status ->
+                        userStatsService.addRecord(record(user, FIRST_WEEK, 100, 1), area));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //then (row 하나, 더한 값을 잃지 않음, 영역의 수는 가장 큰 값)
+        Assertions.assertThat(userWeeklyStatsRepository.findAll()).hasSize(1);
+        Assertions.assertThat(userLifetimeStatsRepository.findAll()).hasSize(1);
+
+        UserWeeklyStats weeklyStats = userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart(FIRST_WEEK)).orElseThrow();
+        Assertions.assertThat(weeklyStats.getStepCount()).isEqualTo(threads * 100);
+        Assertions.assertThat(weeklyStats.getArea()).isEqualTo((long) threads);
+        Assertions.assertThat(userLifetimeStatsRepository.findByUser(user).orElseThrow().getRecordNumber()).isEqualTo(threads);
+    }
+
+    @Test
+    public void 통계가_없는_기존_기록_backfill() {
+        //given (통계, 주간 영역 없이 matrix row 만 있는 기록: 첫 주 2개(칸 1개 겹침), 다음 주 1개)
+        User user = createUser("nickA");
+        saveLegacyRecord(user, FIRST_WEEK, 1000, 0, 3);
+        saveLegacyRecord(user, FIRST_WEEK.plusDays(1), 2000, 2, 5);
+        saveLegacyRecord(user, SECOND_WEEK, 500, 0, 2);
+
+        //when (두 번 실행해도 같은 결과)
+        int weeks = userStatsService.backfill(user.getId());
+        userStatsService.backfill(user.getId());
+
+        //then
+        Assertions.assertThat(weeks).isEqualTo(2);
+
+        UserWeeklyStats firstWeek = userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart(FIRST_WEEK)).orElseThrow();
+        Assertions.assertThat(firstWeek.getStepCount()).isEqualTo(3000);
+        Assertions.assertThat(firstWeek.getMatrixNumber()).isEqualTo(8L);
+        Assertions.assertThat(firstWeek.getArea()).isEqualTo(7L);
+
+        UserWeeklyStats secondWeek = userWeeklyStatsRepository.findByUserAndWeekStart(user, weekStart(SECOND_WEEK)).orElseThrow();
+        Assertions.assertThat(secondWeek.getStepCount()).isEqualTo(500);
+        Assertions.assertThat(secondWeek.getArea()).isEqualTo(2L);
+
+        Assertions.assertThat(weeklyTerritoryRepository.findByUserAndWeekStart(user, weekStart(FIRST_WEEK))
+                .orElseThrow().getArea()).isEqualTo(7L);
+
+        UserLifetimeStats lifetimeStats = userLifetimeStatsRepository.findByUser(user).orElseThrow();
+        Assertions.assertThat(lifetimeStats.getRecordNumber()).isEqualTo(3);
+        Assertions.assertThat(lifetimeStats.getStepCount()).isEqualTo(3500L);
+        Assertions.assertThat(lifetimeStats.getMatrixNumber()).isEqualTo(10L);
+    }
+
+    // matrix row 만 있는 기록 (경도 방향으로 이어진 칸 [from, from + size))
+    private void saveLegacyRecord(User user, LocalDateTime started, int stepCount, int from, int size) {
+        ExerciseRecord exerciseRecord = record(user, started, stepCount, size);
+        for (int i = from; i < from + size; i++) {
+            exerciseRecord.addMatrix(new Matrix(CellUtil.encode(37.5665, 126.978 + i * 0.000374)));
+        }
+        exerciseRecordRepository.save(exerciseRecord);
+    }
+
+    private static ExerciseRecord record(User user, LocalDateTime started, int stepCount, int matrixNumber) {
+        return ExerciseRecord.builder()
+                .user(user)
+                .started(started)
+                .ended(started.plusMinutes(30))
+                .distance(stepCount / 2)
+                .exerciseTime(1800)
+                .stepCount(stepCount)
+                .matrixNumber(matrixNumber)
+                .matrices(new ArrayList<>())
+                .build();
+    }
+
+    private static LocalDate weekStart(LocalDateTime time) {
+        return WeeklyTerritory.weekStartOf(time);
+    }
+
+    private User createUser(String nickname) {
+        return userRepository.save(User.builder()
+                .nickname(nickname)
+                .created(LocalDateTime.now())
+                .isShowMine(true)
+                .isShowFriend(true)
+                .isPublicRecord(true)
+                .pictureName("user/profile/default_profile.png")
+                .picturePath("user/profile/default_profile.png")
+                .friends(new ArrayList<>())
+                .challenges(new ArrayList<>())
+                .exerciseRecords(new ArrayList<>())
+                .build());
+    }
+}
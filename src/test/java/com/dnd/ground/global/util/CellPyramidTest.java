@@ -0,0 +1,86 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CellPyramidTest {
+
+    @Test
+    public void 단계_0은_원본_칸() {
+        //given
+        long[] cellIds = {CellUtil.pack(374, 374), 0L, CellUtil.pack(-374, -374)};
+
+        //when
+        CellPyramid.Cells cells = CellPyramid.aggregate(cellIds, 0);
+
+        //then
+        Assertions.assertThat(cells.getCellIds()).containsExactly(cellIds);
+        Assertions.assertThat(cells.getCounts()).containsExactly(1, 1, 1);
+        Assertions.assertThat(cells.getLevel()).isEqualTo(0);
+    }
+
+    @Test
+    public void 상위_칸은_중심_좌표() {
+        //given (1단계 상위 칸 크기: 750)
+        int size = CellPyramid.BASE_SIZE_E6 << 1;
+
+        //then (셀 ID 0, 음수 좌표는 내림 나눗셈)
+        Assertions.assertThat(CellPyramid.parentOf(0L, 1)).isEqualTo(CellUtil.pack(size / 2, size / 2));
+        Assertions.assertThat(CellPyramid.parentOf(CellUtil.pack(size - 1, size), 1))
+                .isEqualTo(CellUtil.pack(size / 2, size + size / 2));
+        Assertions.assertThat(CellPyramid.parentOf(CellUtil.pack(-1, -size), 1))
+                .isEqualTo(CellUtil.pack(-size / 2, -size / 2));
+        Assertions.assertThat(CellPyramid.parentOf(CellUtil.pack(-1, -size - 1), 1))
+                .isEqualTo(CellUtil.pack(-size / 2, -size - size / 2));
+    }
+
+    @Test
+    public void 상위_칸으로_묶고_개수_저장() {
+        //given (1단계: 0 ~ 749 는 한 칸, -1 은 다른 칸)
+        long[] cellIds = {CellUtil.pack(0, 0), CellUtil.pack(374, 0), CellUtil.pack(0, 374), CellUtil.pack(374, 374),
+                CellUtil.pack(-1, 0), CellUtil.pack(748, 748)};
+
+        //when
+        CellPyramid.Cells cells = CellPyramid.aggregate(cellIds, 1);
+
+        //then (셀 ID 순서)
+        Assertions.assertThat(cells.getCellIds()).containsExactly(CellUtil.pack(-375, 375), CellUtil.pack(375, 375));
+        Assertions.assertThat(cells.getCounts()).containsExactly(1, 5);
+        Assertions.assertThat(cells.getLevel()).isEqualTo(1);
+    }
+
+    @Test
+    public void 최대_칸_수를_넘으면_단계를_올림() {
+        //given (10 x 10 칸)
+        long[] cellIds = new long[100];
+        for (int i = 0; i < cellIds.length; i++) {
+            cellIds[i] = CellUtil.pack((i / 10) * 374, (i % 10) * 374);
+        }
+
+        //when
+        CellPyramid.Cells cells = CellPyramid.aggregate(cellIds, 0, 10);
+
+        //then
+        Assertions.assertThat(cells.size()).isLessThanOrEqualTo(10);
+        Assertions.assertThat(cells.getLevel()).isGreaterThan(0);
+        Assertions.assertThat(CellPyramid.aggregate(cellIds, cells.getLevel() - 1).size()).isGreaterThan(10);
+        Assertions.assertThat(sum(cells.getCounts())).isEqualTo(100);
+    }
+
+    @Test
+    public void 단계_범위_제한() {
+        //given
+        long[] cellIds = {CellUtil.encode(37.5, 127.0), CellUtil.encode(-33.8, -151.2)};
+
+        //then
+        Assertions.assertThat(CellPyramid.aggregate(cellIds, 99, CellPyramid.MAX_CELLS).getLevel()).isEqualTo(CellPyramid.MAX_LEVEL);
+        Assertions.assertThat(CellPyramid.aggregate(cellIds, -1, CellPyramid.MAX_CELLS).getLevel()).isEqualTo(0);
+        Assertions.assertThat(CellPyramid.aggregate(new long[0], 3).size()).isEqualTo(0);
+    }
+
+    private static int sum(int[] counts) {
+        int sum = 0;
+        for (int count : counts) sum += count;
+        return sum;
+    }
+}
@@ -0,0 +1,96 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class CellUtilTest {
+
+    @Test
+    public void 셀ID_변환() {
+        //given
+        long cellId = CellUtil.encode(37.5665, 126.978);
+
+        //then
+        Assertions.assertThat(CellUtil.latitudeE6(cellId)).isEqualTo(37_566_500);
+        Assertions.assertThat(CellUtil.longitudeE6(cellId)).isEqualTo(126_978_000);
+        Assertions.assertThat(CellUtil.encode(CellUtil.latitude(cellId), CellUtil.longitude(cellId))).isEqualTo(cellId);
+    }
+
+    @Test
+    public void 셀ID_음수_위도_경도() {
+        //given
+        long cellId = CellUtil.encode(-33.8688, -151.2093);
+
+        //then
+        Assertions.assertThat(CellUtil.latitudeE6(cellId)).isEqualTo(-33_868_800);
+        Assertions.assertThat(CellUtil.longitudeE6(cellId)).isEqualTo(-151_209_300);
+        Assertions.assertThat(CellUtil.encode(CellUtil.latitude(cellId), CellUtil.longitude(cellId))).isEqualTo(cellId);
+    }
+
+    @Test
+    public void 셀ID_0_과_경도_부호() {
+        //then
+        Assertions.assertThat(CellUtil.encode(0, 0)).isEqualTo(0L);
+
+        // 음수 경도가 위도(상위 32비트)를 바꾸지 않음
+        long cellId = CellUtil.pack(0, -1);
+        Assertions.assertThat(CellUtil.latitudeE6(cellId)).isEqualTo(0);
+        Assertions.assertThat(CellUtil.longitudeE6(cellId)).isEqualTo(-1);
+
+        cellId = CellUtil.pack(-1, 0);
+        Assertions.assertThat(CellUtil.latitudeE6(cellId)).isEqualTo(-1);
+        Assertions.assertThat(CellUtil.longitudeE6(cellId)).isEqualTo(0);
+    }
+
+    @Test
+    public void 압축_해제_왕복() {
+        //given
+        Random random = new Random(7);
+        long[] cellIds = new long[5000];
+        for (int i = 0; i < cellIds.length; i++) {
+            cellIds[i] = CellUtil.pack(random.nextInt(2_000) - 1_000, random.nextInt(2_000) - 1_000);
+        }
+
+        //when
+        byte[] blob = CellUtil.compress(cellIds);
+
+        //then
+        Assertions.assertThat(CellUtil.decompress(blob)).isEqualTo(CellUtil.distinctSorted(cellIds));
+        Assertions.assertThat(CellUtil.compressedSize(blob)).isEqualTo(CellUtil.distinctSorted(cellIds).length);
+    }
+
+    @Test
+    public void 압축_정렬_중복_제거() {
+        //given
+        long[] cellIds = {CellUtil.encode(37.1, 127.2), CellUtil.encode(37.1, 127.1), CellUtil.encode(37.1, 127.2)};
+
+        //when
+        long[] decompressed = CellUtil.decompress(CellUtil.compress(cellIds));
+
+        //then
+        Assertions.assertThat(decompressed).containsExactly(CellUtil.encode(37.1, 127.1), CellUtil.encode(37.1, 127.2));
+    }
+
+    @Test
+    public void 압축_셀ID_0_음수_극값() {
+        //given
+        long[] cellIds = {0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, CellUtil.encode(-90, -180), CellUtil.encode(90, 180)};
+
+        //when
+        long[] decompressed = CellUtil.decompress(CellUtil.compress(cellIds));
+
+        //then
+        Assertions.assertThat(decompressed).isEqualTo(CellUtil.distinctSorted(cellIds));
+    }
+
+    @Test
+    public void 압축_빈_배열() {
+        //then
+        Assertions.assertThat(CellUtil.decompress(CellUtil.compress(new long[0]))).isEmpty();
+        Assertions.assertThat(CellUtil.decompress(null)).isEmpty();
+        Assertions.assertThat(CellUtil.compressedSize(null)).isEqualTo(0);
+        Assertions.assertThat(CellUtil.compressedSize(CellUtil.compress(new long[0]))).isEqualTo(0);
+    }
+}
@@ -0,0 +1,63 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+    @Test
+    public void 추가_조회() {
+        //given
+        LongHashSet set = new LongHashSet(4);
+
+        //then
+        Assertions.assertThat(set.add(CellUtil.encode(37.1, 127.1))).isTrue();
+        Assertions.assertThat(set.add(CellUtil.encode(37.1, 127.1))).isFalse();
+        Assertions.assertThat(set.add(CellUtil.encode(-37.1, -127.1))).isTrue();
+        Assertions.assertThat(set.contains(CellUtil.encode(37.1, 127.1))).isTrue();
+        Assertions.assertThat(set.contains(CellUtil.encode(37.1, 127.2))).isFalse();
+        Assertions.assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void 셀ID_0() {
+        //given
+        LongHashSet set = new LongHashSet(4);
+
+        //then (0 은 빈 슬롯 표시와 같은 값)
+        Assertions.assertThat(set.contains(0L)).isFalse();
+        Assertions.assertThat(set.add(0L)).isTrue();
+        Assertions.assertThat(set.add(0L)).isFalse();
+        Assertions.assertThat(set.contains(0L)).isTrue();
+        Assertions.assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 늘어나도_모두_유지() {
+        //given
+        LongHashSet set = new LongHashSet(1);
+
+        //when (하위 32비트가 같은 셀 ID: 경도가 같고 위도만 다름)
+        for (int i = -5_000; i < 5_000; i++) {
+            set.add(CellUtil.pack(i, 0));
+        }
+
+        //then
+        Assertions.assertThat(set.size()).isEqualTo(10_000);
+        for (int i = -5_000; i < 5_000; i++) {
+            Assertions.assertThat(set.contains(CellUtil.pack(i, 0))).isTrue();
+        }
+        Assertions.assertThat(set.contains(CellUtil.pack(5_000, 0))).isFalse();
+    }
+
+    @Test
+    public void 입력_순서_유지_중복_제거() {
+        //given
+        long[] cellIds = {5L, 0L, 3L, 5L, 0L, -1L, 3L};
+
+        //then
+        Assertions.assertThat(LongHashSet.distinct(cellIds)).containsExactly(5L, 0L, 3L, -1L);
+        Assertions.assertThat(LongHashSet.distinct(new long[]{1L, 2L})).containsExactly(1L, 2L);
+        Assertions.assertThat(LongHashSet.distinct(new long[0])).isEmpty();
+    }
+}
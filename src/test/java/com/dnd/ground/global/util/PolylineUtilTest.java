@@ -0,0 +1,86 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class PolylineUtilTest {
+
+    @Test
+    public void 인코딩_디코딩_왕복() {
+        //given (음수 위도/경도, 0 포함)
+        double[] latitudes = {37.566535, 0, -33.868820, -33.868821, 89.999999};
+        double[] longitudes = {126.977969, 0, -151.209296, -151.209290, -179.999999};
+        GpsTrack track = track(latitudes, longitudes, null);
+
+        //when
+        List<GpsTrack> parts = PolylineUtil.decode(PolylineUtil.encode(track));
+
+        //then
+        Assertions.assertThat(parts).hasSize(1);
+        Assertions.assertThat(parts.get(0).getLatitudes()).isEqualTo(latitudes);
+        Assertions.assertThat(parts.get(0).getLongitudes()).isEqualTo(longitudes);
+        Assertions.assertThat(parts.get(0).hasTime(0)).isFalse();
+    }
+
+    @Test
+    public void GPS_튐에서_경로를_끊음() {
+        //given (1 -> 2 번 점: 1초에 약 1km)
+        GpsTrack track = track(new double[]{37.5, 37.50001, 37.50001}, new double[]{127.0, 127.00001, 127.01},
+                new long[]{0, 1_000, 2_000});
+
+        //when
+        List<GpsTrack> parts = PolylineUtil.decode(PolylineUtil.encode(track));
+
+        //then
+        Assertions.assertThat(parts).hasSize(2);
+        Assertions.assertThat(parts.get(0).getLongitudes()).isEqualTo(new double[]{127.0, 127.00001});
+        Assertions.assertThat(parts.get(1).getLongitudes()).isEqualTo(new double[]{127.01});
+    }
+
+    @Test
+    public void 경로로_다시_계산한_칸이_같음() {
+        //given
+        Random random = new Random(3);
+        int size = 3_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        long[] times = new long[size];
+        double latitude = -37.5665, longitude = -126.978;
+        for (int i = 0; i < size; i++) {
+            boolean jump = random.nextInt(100) == 0;
+            latitude += (random.nextDouble() - 0.5) * (jump ? 0.01 : 0.00005);
+            longitude += (random.nextDouble() - 0.5) * (jump ? 0.01 : 0.00005);
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+            times[i] = i * 1_000L;
+        }
+        GpsTrack track = track(latitudes, longitudes, times);
+
+        //when
+        List<GpsTrack> parts = PolylineUtil.decode(PolylineUtil.encode(track));
+
+        //then
+        Assertions.assertThat(parts.size()).isGreaterThan(1);
+        Assertions.assertThat(TrackRasterizer.rasterize(parts)).isEqualTo(TrackRasterizer.rasterize(track));
+    }
+
+    @Test
+    public void 빈_경로() {
+        //then
+        Assertions.assertThat(PolylineUtil.encode(track(new double[0], new double[0], null))).isEmpty();
+        Assertions.assertThat(PolylineUtil.decode("")).isEmpty();
+        Assertions.assertThat(PolylineUtil.decode(null)).isEmpty();
+    }
+
+    private static GpsTrack track(double[] latitudes, double[] longitudes, long[] times) {
+        if (times == null) {
+            times = new long[latitudes.length];
+            Arrays.fill(times, GpsTrack.NO_TIME);
+        }
+        return new GpsTrack(latitudes, longitudes, times);
+    }
+}
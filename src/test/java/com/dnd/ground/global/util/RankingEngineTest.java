@@ -0,0 +1,119 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class RankingEngineTest {
+
+    @Test
+    public void 같은_점수는_같은_랭킹() {
+        //given
+        long[] scores = {5, 7, 7, 3, 7};
+
+        //when
+        RankingEngine.Ranked ranked = RankingEngine.rank(scores);
+
+        //then (같은 점수는 입력 순서, 다음 랭킹은 앞에 있는 사람 수 + 1)
+        Assertions.assertThat(orderOf(ranked)).containsExactly(1, 2, 4, 0, 3);
+        Assertions.assertThat(ranksOf(ranked)).containsExactly(1, 1, 1, 4, 5);
+    }
+
+    @Test
+    public void 모두_같은_점수() {
+        //given
+        long[] scores = {0, 0, 0, 0};
+
+        //when
+        RankingEngine.Ranked ranked = RankingEngine.rank(scores);
+
+        //then
+        Assertions.assertThat(orderOf(ranked)).containsExactly(0, 1, 2, 3);
+        Assertions.assertThat(ranksOf(ranked)).containsExactly(1, 1, 1, 1);
+        Assertions.assertThat(RankingEngine.rankOf(scores, 3)).isEqualTo(1);
+        Assertions.assertThat(RankingEngine.positionOf(scores, 3)).isEqualTo(3);
+    }
+
+    @Test
+    public void 상위_K명은_전체_랭킹의_앞부분() {
+        //given (점수 범위가 작아 동점이 많음)
+        Random random = new Random(5);
+        long[] scores = new long[1_000];
+        for (int i = 0; i < scores.length; i++) scores[i] = random.nextInt(20);
+        RankingEngine.Ranked all = RankingEngine.rank(scores);
+
+        for (int k : new int[]{1, 2, 49, 50, 51, 100, 999}) {
+            //when
+            RankingEngine.Ranked top = RankingEngine.top(scores, k);
+
+            //then
+            Assertions.assertThat(top.size()).isEqualTo(k);
+            for (int p = 0; p < k; p++) {
+                Assertions.assertThat(top.indexAt(p)).isEqualTo(all.indexAt(p));
+                Assertions.assertThat(top.rankAt(p)).isEqualTo(all.rankAt(p));
+            }
+        }
+    }
+
+    @Test
+    public void 상위_K명_범위() {
+        //given
+        long[] scores = {3, 1, 2};
+
+        //then
+        Assertions.assertThat(RankingEngine.top(scores, 0).size()).isEqualTo(0);
+        Assertions.assertThat(RankingEngine.top(scores, -1).size()).isEqualTo(0);
+        Assertions.assertThat(orderOf(RankingEngine.top(scores, 10))).containsExactly(0, 2, 1);
+        Assertions.assertThat(RankingEngine.rank(new long[0]).size()).isEqualTo(0);
+    }
+
+    @Test
+    public void 페이지는_전체_랭킹의_구간() {
+        //given
+        long[] scores = {10, 30, 20, 30, 10, 0, 20};
+        RankingEngine.Ranked all = RankingEngine.rank(scores);
+
+        //when
+        RankingEngine.Ranked page = RankingEngine.page(scores, 2, 3);
+
+        //then (페이지 안에서도 랭킹은 전체 기준)
+        Assertions.assertThat(page.size()).isEqualTo(3);
+        for (int p = 0; p < page.size(); p++) {
+            Assertions.assertThat(page.indexAt(p)).isEqualTo(all.indexAt(p + 2));
+            Assertions.assertThat(page.rankAt(p)).isEqualTo(all.rankAt(p + 2));
+        }
+        Assertions.assertThat(RankingEngine.page(scores, 5, 10).size()).isEqualTo(2);
+        Assertions.assertThat(RankingEngine.page(scores, 7, 10).size()).isEqualTo(0);
+        Assertions.assertThat(RankingEngine.page(scores, 0, 0).size()).isEqualTo(0);
+    }
+
+    @Test
+    public void 내_랭킹과_순서() {
+        //given
+        Random random = new Random(9);
+        long[] scores = new long[300];
+        for (int i = 0; i < scores.length; i++) scores[i] = random.nextInt(10);
+        RankingEngine.Ranked all = RankingEngine.rank(scores);
+
+        //then (정렬 없이 계산한 값이 전체 랭킹과 같음)
+        for (int i = 0; i < scores.length; i++) {
+            int position = all.positionOf(i);
+            Assertions.assertThat(RankingEngine.positionOf(scores, i)).isEqualTo(position);
+            Assertions.assertThat(RankingEngine.rankOf(scores, i)).isEqualTo(all.rankAt(position));
+        }
+        Assertions.assertThat(RankingEngine.top(scores, 5).positionOf(all.indexAt(10))).isEqualTo(-1);
+    }
+
+    private static int[] orderOf(RankingEngine.Ranked ranked) {
+        int[] order = new int[ranked.size()];
+        for (int p = 0; p < order.length; p++) order[p] = ranked.indexAt(p);
+        return order;
+    }
+
+    private static int[] ranksOf(RankingEngine.Ranked ranked) {
+        int[] ranks = new int[ranked.size()];
+        for (int p = 0; p < ranks.length; p++) ranks[p] = ranked.rankAt(p);
+        return ranks;
+    }
+}
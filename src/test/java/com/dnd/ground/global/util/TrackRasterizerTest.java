@@ -0,0 +1,219 @@
+package com.dnd.ground.global.util;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+class TrackRasterizerTest {
+
+    private static final int LAT_CELL = TrackRasterizer.LAT_CELL_SIZE_E6;
+    private static final int LON_CELL = TrackRasterizer.LON_CELL_SIZE_E6;
+
+    @Test
+    public void 한_점() {
+        //given
+        GpsTrack track = track(new double[]{latitude(100)}, new double[]{longitude(200)}, null);
+
+        //then
+        Assertions.assertThat(TrackRasterizer.rasterize(track)).containsExactly(cell(100, 200));
+    }
+
+    @Test
+    public void 경도_방향_이동() {
+        //given
+        GpsTrack track = track(new double[]{latitude(100), latitude(100)}, new double[]{longitude(200), longitude(203)}, null);
+
+        //then
+        Assertions.assertThat(TrackRasterizer.rasterize(track))
+                .containsExactly(cell(100, 200), cell(100, 201), cell(100, 202), cell(100, 203));
+    }
+
+    @Test
+    public void 대각선_이동은_한_칸씩() {
+        //given
+        GpsTrack track = track(new double[]{latitude(100), latitude(105) + 0.0001}, new double[]{longitude(200), longitude(197)}, null);
+
+        //when
+        long[] cells = TrackRasterizer.rasterize(track);
+
+        //then (|Δ위도| + |Δ경도| 번 이동, 매번 한 축으로 한 칸)
+        Assertions.assertThat(cells).hasSize(1 + 5 + 3);
+        Assertions.assertThat(cells[0]).isEqualTo(cell(100, 200));
+        Assertions.assertThat(cells[cells.length - 1]).isEqualTo(cell(105, 197));
+        for (int i = 1; i < cells.length; i++) {
+            int movedLatitude = Math.abs(CellUtil.latitudeE6(cells[i]) - CellUtil.latitudeE6(cells[i - 1]));
+            int movedLongitude = Math.abs(CellUtil.longitudeE6(cells[i]) - CellUtil.longitudeE6(cells[i - 1]));
+            Assertions.assertThat(movedLatitude == LAT_CELL && movedLongitude == 0
+                    || movedLatitude == 0 && movedLongitude == LON_CELL).isTrue();
+        }
+    }
+
+    @Test
+    public void 음수_위도_경도() {
+        //then (0 바로 아래는 -1 번째 칸)
+        Assertions.assertThat(TrackRasterizer.cellOf(-0.0001, -0.0001)).isEqualTo(cell(-1, -1));
+        Assertions.assertThat(TrackRasterizer.cellOf(0, 0)).isEqualTo(0L);
+
+        //given (적도, 본초 자오선을 넘는 이동)
+        GpsTrack track = track(new double[]{latitude(-1), latitude(-1)}, new double[]{longitude(-2), longitude(1)}, null);
+
+        //then
+        Assertions.assertThat(TrackRasterizer.rasterize(track))
+                .containsExactly(cell(-1, -2), cell(-1, -1), cell(-1, 0), cell(-1, 1));
+    }
+
+    @Test
+    public void GPS_튐은_채우지_않음() {
+        //given (1초에 약 1km)
+        GpsTrack track = track(new double[]{latitude(100), latitude(100)}, new double[]{longitude(200), longitude(230)},
+                new long[]{0, 1_000});
+
+        //then
+        Assertions.assertThat(TrackRasterizer.rasterize(track)).containsExactly(cell(100, 200), cell(100, 230));
+    }
+
+    @Test
+    public void 시각이_없으면_채움() {
+        //given
+        GpsTrack track = track(new double[]{latitude(100), latitude(100)}, new double[]{longitude(200), longitude(230)},
+                new long[]{GpsTrack.NO_TIME, GpsTrack.NO_TIME});
+
+        //then
+        Assertions.assertThat(TrackRasterizer.rasterize(track)).hasSize(31);
+    }
+
+    @Test
+    public void 병렬_변환은_순차_변환과_같음() {
+        // 병렬 기준(2000), 구간 크기(1000) 경계 전후
+        for (int size : new int[]{1_999, 2_000, 2_001, 2_002, 3_001, 5_000}) {
+            //given
+            GpsTrack track = randomTrack(size, size);
+
+            //then
+            Assertions.assertThat(TrackRasterizer.rasterize(track)).isEqualTo(sequential(track));
+        }
+    }
+
+    @Test
+    public void 구간_경계의_GPS_튐이_같은_칸이면_한_번() {
+        //given (1000 -> 1001 번 점: 같은 칸 안에서 1ms 만에 이동한 GPS 튐, 두 번째 구간의 첫 선분)
+        GpsTrack track = randomTrack(2_500, 11);
+        track.getLatitudes()[1_001] = track.getLatitudes()[1_000];
+        track.getLongitudes()[1_001] = track.getLongitudes()[1_000];
+        track.getTimes()[1_001] = track.getTimes()[1_000] + 1;
+        track.getLatitudes()[1_001] += 0.00001;
+
+        //when
+        long[] cells = TrackRasterizer.rasterize(track);
+
+        //then
+        Assertions.assertThat(TrackRasterizer.isJump(track, 1_000, 1_001)).isTrue();
+        Assertions.assertThat(cells).isEqualTo(sequential(track));
+        for (int i = 1; i < cells.length; i++) {
+            Assertions.assertThat(cells[i]).isNotEqualTo(cells[i - 1]);
+        }
+    }
+
+    @Test
+    public void 클라이언트가_저장한_칸과_같은_격자() {
+        //given (data.sql 운동 기록 8~11 의 칸: 클라이언트 격자)
+        long[] cellIds = {
+                161147104353373254L, 161148410023430864L, 161149715693488474L, 161151021363546458L, 161151021363546084L,
+                161152327033604068L, 161153632703661678L, 161153632703661304L, 161153632703660930L, 161153632703664296L,
+                161153632703664670L, 161152327033606686L, 161152327033607060L, 161151021363549076L, 161151021363549450L,
+                161149715693491466L, 161148410023433856L, 161147104353376246L, 161145798683318262L, 161145798683317888L,
+                161144493013259904L, 161144493013259530L, 161143187343201546L, 161143187343201172L, 161141881673143188L,
+                161143187343200798L, 161141881673142814L, 161141881673142440L, 161144493013254668L, 161143187343196684L,
+                161141881673139074L, 161140576003081464L, 161137964662964748L, 161137964662965496L, 161139270333023480L,
+                161139270333023854L, 161137964662966244L, 161137964662966618L, 161137964662966992L, 161139270333024976L,
+                161136658992906764L, 161136658992908634L};
+
+        //then (칸 안의 점 -> 같은 셀 ID)
+        for (long cellId : cellIds) {
+            Assertions.assertThat(TrackRasterizer.cellOf(latitudeOf(cellId), longitudeOf(cellId))).isEqualTo(cellId);
+        }
+    }
+
+    @Test
+    public void 클라이언트가_저장한_경로_변환() {
+        //given (data.sql 운동 기록 8 의 칸 순서대로 칸 중심을 지나는 경로)
+        long[] cellIds = {161147104353373254L, 161148410023430864L, 161149715693488474L, 161151021363546458L,
+                161151021363546084L, 161152327033604068L, 161153632703661678L, 161153632703661304L, 161153632703660930L};
+        double[] latitudes = new double[cellIds.length];
+        double[] longitudes = new double[cellIds.length];
+        for (int i = 0; i < cellIds.length; i++) {
+            latitudes[i] = latitudeOf(cellIds[i]);
+            longitudes[i] = longitudeOf(cellIds[i]);
+        }
+
+        //when
+        long[] cells = TrackRasterizer.rasterize(track(latitudes, longitudes, null));
+
+        //then (저장된 칸을 순서대로 모두 지나고, 대각선 이동 사이에만 한 칸씩 더 지남)
+        Assertions.assertThat(cells).containsSubsequence(cellIds);
+        Assertions.assertThat(cells).hasSize(cellIds.length + 3);
+    }
+
+    // 두 점씩 변환해서 연속된 같은 칸을 한 번으로 이어 붙인 결과 (병렬 구간 없이 순차 변환한 것과 같음)
+    private static long[] sequential(GpsTrack track) {
+        long[] result = new long[0];
+        for (int i = 0; i < track.size() - 1; i++) {
+            GpsTrack segment = track(Arrays.copyOfRange(track.getLatitudes(), i, i + 2),
+                    Arrays.copyOfRange(track.getLongitudes(), i, i + 2), Arrays.copyOfRange(track.getTimes(), i, i + 2));
+            long[] cells = TrackRasterizer.rasterize(segment);
+            int from = result.length > 0 && result[result.length - 1] == cells[0] ? 1 : 0;
+            result = CellUtil.concat(result, Arrays.copyOfRange(cells, from, cells.length));
+        }
+        return result;
+    }
+
+    // 1초 간격으로 조금씩 움직이는 경로 (가끔 GPS 튐)
+    private static GpsTrack randomTrack(int size, long seed) {
+        Random random = new Random(seed);
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        long[] times = new long[size];
+        double latitude = 37.5665, longitude = 126.978;
+        for (int i = 0; i < size; i++) {
+            boolean jump = random.nextInt(50) == 0;
+            latitude += (random.nextDouble() - 0.4) * (jump ? 0.01 : 0.00005);
+            longitude += (random.nextDouble() - 0.4) * (jump ? 0.01 : 0.00005);
+            latitudes[i] = latitude;
+            longitudes[i] = longitude;
+            times[i] = i * 1_000L;
+        }
+        return track(latitudes, longitudes, times);
+    }
+
+    private static GpsTrack track(double[] latitudes, double[] longitudes, long[] times) {
+        if (times == null) {
+            times = new long[latitudes.length];
+            Arrays.fill(times, GpsTrack.NO_TIME);
+        }
+        return new GpsTrack(latitudes, longitudes, times);
+    }
+
+    // 칸 중심 좌표 (위도: index 번째 칸, 경도: index 번째 칸)
+    private static double latitude(int index) {
+        return (index * LAT_CELL + LAT_CELL / 2) / (double) CellUtil.SCALE;
+    }
+
+    private static double longitude(int index) {
+        return (index * LON_CELL + LON_CELL / 2) / (double) CellUtil.SCALE;
+    }
+
+    // 셀 ID -> 칸 중심 좌표
+    private static double latitudeOf(long cellId) {
+        return (CellUtil.latitudeE6(cellId) + LAT_CELL / 2) / (double) CellUtil.SCALE;
+    }
+
+    private static double longitudeOf(long cellId) {
+        return (CellUtil.longitudeE6(cellId) + LON_CELL / 2) / (double) CellUtil.SCALE;
+    }
+
+    private static long cell(int latitudeIndex, int longitudeIndex) {
+        return CellUtil.pack(latitudeIndex * LAT_CELL, longitudeIndex * LON_CELL);
+    }
+}